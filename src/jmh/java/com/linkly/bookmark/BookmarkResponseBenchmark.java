@@ -0,0 +1,62 @@
+package com.linkly.bookmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.linkly.bookmark.dto.BookmarkResponse;
+import com.linkly.domain.AppUser;
+import com.linkly.domain.Bookmark;
+import com.linkly.domain.Category;
+import com.linkly.global.dto.ApiResponse;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** 북마크 목록 API 의 Entity → DTO 변환과 ApiResponse JSON 직렬화 비용 */
+@State(Scope.Benchmark)
+public class BookmarkResponseBenchmark {
+
+	@Param({"20", "200"})
+	private int size;
+
+	private List<Bookmark> bookmarks;
+	private List<String> tags;
+	private ApiResponse<List<BookmarkResponse>> response;
+	private ObjectMapper objectMapper;
+
+	@Setup
+	public void setUp() {
+		AppUser user = AppUser.builder().id(1L).email("bench@linkly.com").password("password").name("벤치")
+				.build();
+		Category category = Category.builder().id(1L).appUser(user).name("개발").build();
+
+		bookmarks = new ArrayList<>(size);
+		for (long i = 0; i < size; i++) {
+			bookmarks.add(Bookmark.builder().id(i).appUser(user).category(i % 3 == 0 ? null : category)
+					.url("https://example.com/articles/" + i).title("Spring Boot 성능 튜닝 가이드 " + i)
+					.description("JPA N+1, 커넥션 풀, 캐시 설정까지 실무에서 겪은 문제 정리").build());
+		}
+		tags = List.of("Java", "Spring", "Backend");
+		response = ApiResponse.success(mapAll());
+
+		// Spring Boot 가 등록하는 것과 같은 모듈 구성 (JavaTimeModule 등)
+		objectMapper = JsonMapper.builder().findAndAddModules().build();
+	}
+
+	@Benchmark
+	public List<BookmarkResponse> mapAll() {
+		List<BookmarkResponse> responses = new ArrayList<>(bookmarks.size());
+		for (Bookmark bookmark : bookmarks) {
+			responses.add(BookmarkResponse.from(bookmark, tags));
+		}
+		return responses;
+	}
+
+	@Benchmark
+	public byte[] serializeApiResponse() throws Exception {
+		return objectMapper.writeValueAsBytes(response);
+	}
+}
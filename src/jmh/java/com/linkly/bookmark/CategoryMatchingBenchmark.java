@@ -0,0 +1,44 @@
+package com.linkly.bookmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** LLM 응답 문자열을 사용자 카테고리 목록과 대조하는 OllamaServiceImpl.validateCategory 비용 */
+@State(Scope.Benchmark)
+public class CategoryMatchingBenchmark {
+
+	@Param({"10", "100"})
+	private int categoryCount;
+
+	private List<String> categories;
+	private String exactResponse;
+	private String verboseResponse;
+
+	@Setup
+	public void setUp() {
+		categories = new ArrayList<>(categoryCount);
+		for (int i = 0; i < categoryCount - 2; i++) {
+			categories.add("카테고리" + i);
+		}
+		categories.add("개발");
+		categories.add("개발도구");
+
+		exactResponse = "개발도구";
+		verboseResponse = "이 북마크는 IDE 관련 내용이므로 개발도구 카테고리가 가장 적합합니다.";
+	}
+
+	@Benchmark
+	public String exactMatch() {
+		return OllamaServiceImpl.validateCategory(exactResponse, categories);
+	}
+
+	@Benchmark
+	public String containedMatch() {
+		return OllamaServiceImpl.validateCategory(verboseResponse, categories);
+	}
+}
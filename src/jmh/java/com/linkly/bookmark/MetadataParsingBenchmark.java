@@ -0,0 +1,42 @@
+package com.linkly.bookmark;
+
+import com.linkly.bookmark.dto.UrlMetadataResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** URL 메타데이터 추출에서 네트워크를 뺀 HTML 파싱 + og/meta 선택 비용 (fixtures/article.html) */
+@State(Scope.Benchmark)
+public class MetadataParsingBenchmark {
+
+	private final MetadataServiceImpl metadataService = new MetadataServiceImpl(new SimpleMeterRegistry());
+
+	private String html;
+	private Document document;
+
+	@Setup
+	public void setUp() throws Exception {
+		try (InputStream in = MetadataParsingBenchmark.class.getResourceAsStream("/fixtures/article.html")) {
+			html = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+		document = Jsoup.parse(html, "https://example.com/");
+	}
+
+	/** Jsoup 파싱 포함 전체 */
+	@Benchmark
+	public UrlMetadataResponse parseHtml() {
+		return metadataService.parse(Jsoup.parse(html, "https://example.com/"));
+	}
+
+	/** 이미 파싱된 문서에서 title/description 선택만 */
+	@Benchmark
+	public UrlMetadataResponse selectMetadata() {
+		return metadataService.parse(document);
+	}
+}
@@ -0,0 +1,142 @@
+package com.linkly.bookmark;
+
+import ch.qos.logback.classic.Level;
+import com.linkly.bookmark.dto.BookmarkResponse;
+import com.linkly.bookmark.dto.UpdateBookmarkRequest;
+import com.linkly.domain.AppUser;
+import com.linkly.domain.Bookmark;
+import com.linkly.domain.Tag;
+import com.linkly.tag.TagRepository;
+import com.linkly.tag.TagUsageCounter;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 북마크 수정 시 태그 처리 (BookmarkServiceImpl.updateBookmark → replaceTags → addTags).
+ *
+ * 입력 정규화, 현재 매핑과의 비교, 기존 태그 조회 결과와의 대조, 새 태그·매핑 생성까지 서비스 코드 그대로 실행하고, 리포지토리는 메모리 맵을
+ * 돌려주는 프록시로 바꿔 쿼리 비용은 빼고 측정한다. change 가 unchanged 면 쓰기가 없는 경로, half 면 절반을 바꾸는 경로 (바꾼 태그 중
+ * 절반은 이미 있는 태그, 절반은 새 태그).
+ */
+@State(Scope.Benchmark)
+public class TagProcessingBenchmark {
+
+	private static final Long USER_ID = 1L;
+	private static final Long BOOKMARK_ID = 1L;
+
+	@Param({"5", "50"})
+	private int tagCount;
+
+	@Param({"unchanged", "half"})
+	private String change;
+
+	private List<String> rawTagNames;
+	private UpdateBookmarkRequest request;
+	private BookmarkServiceImpl bookmarkService;
+
+	@Setup
+	public void setUp() {
+		// 요청마다 서비스 로그를 찍지 않도록 (logback-spring.xml 은 Spring 밖에서 읽히지 않음)
+		((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME))
+				.setLevel(Level.WARN);
+
+		rawTagNames = new ArrayList<>(tagCount);
+		for (int i = 0; i < tagCount; i++) {
+			// 공백, 중복, 빈 값이 섞인 사용자 입력
+			rawTagNames.add(i % 5 == 0 ? "  " : " tag" + (i % (tagCount / 2 + 1)) + " ");
+		}
+
+		AppUser user = AppUser.builder().id(USER_ID).email("bench@linkly.com").password("password").name("벤치")
+				.build();
+		Bookmark bookmark = Bookmark.builder().id(BOOKMARK_ID).appUser(user).url("https://example.com")
+				.title("벤치 북마크").build();
+
+		// 사용자 태그: 현재 매핑된 tag0..n-1 과 매핑은 없는 old0..n-1
+		Map<String, Tag> tagsByKey = new HashMap<>();
+		List<Tag> currentTags = new ArrayList<>(tagCount);
+		for (int i = 0; i < tagCount; i++) {
+			Tag current = Tag.builder().id((long) i + 1).appUser(user).name("Tag" + i).build();
+			Tag old = Tag.builder().id((long) tagCount + i + 1).appUser(user).name("Old" + i).build();
+			currentTags.add(current);
+			tagsByKey.put(key(current.getName()), current);
+			tagsByKey.put(key(old.getName()), old);
+		}
+
+		List<String> requested = new ArrayList<>(tagCount);
+		for (int i = 0; i < tagCount; i++) {
+			if ("unchanged".equals(change) || i < tagCount / 2) {
+				requested.add(" TAG" + i + " ");
+			} else {
+				requested.add(i % 2 == 0 ? "old" + i : "New" + i);
+			}
+		}
+		request = UpdateBookmarkRequest.builder().tags(requested).build();
+
+		TagRepository tagRepository = inMemory(TagRepository.class,
+				Map.of("findAllForUpdateByAppUserIdAndNameIn",
+						args -> ((Collection<?>) args[1]).stream().map(name -> tagsByKey.get(key((String) name)))
+								.filter(Objects::nonNull).toList(),
+						"saveAll", args -> saveTags((Iterable<?>) args[0], tagCount * 2L), "addUsageCount",
+						args -> 0, "subtractUsageCountOfBookmarksAndTags", args -> 0));
+		BookmarkTagMapRepository bookmarkTagMapRepository = inMemory(BookmarkTagMapRepository.class,
+				Map.of("findTagsByBookmarkId", args -> currentTags, "deleteAllByBookmarkIdInAndTagIdIn", args -> 0,
+						"saveAll", args -> args[0]));
+		BookmarkRepository bookmarkRepository = inMemory(BookmarkRepository.class,
+				Map.of("findByIdAndDeletedAtIsNull", args -> Optional.of(bookmark)));
+
+		bookmarkService = new BookmarkServiceImpl(bookmarkRepository, null, null, tagRepository,
+				bookmarkTagMapRepository, new TagUsageCounter(tagRepository, event -> {
+				}), null);
+	}
+
+	@Benchmark
+	public List<String> normalizeTagNames() {
+		return BookmarkServiceImpl.normalizeTagNames(rawTagNames);
+	}
+
+	@Benchmark
+	public BookmarkResponse replaceTags() {
+		return bookmarkService.updateBookmark(BOOKMARK_ID, USER_ID, request);
+	}
+
+	/** 저장 결과만 ID 를 붙여 돌려주고 메모리 맵에는 넣지 않음 (반복마다 같은 경로를 타도록) */
+	private static List<Tag> saveTags(Iterable<?> tags, long lastId) {
+		List<Tag> saved = new ArrayList<>();
+		for (Object tag : tags) {
+			Tag source = (Tag) tag;
+			saved.add(Tag.builder().id(lastId + saved.size() + 1).appUser(source.getAppUser()).name(source.getName())
+					.build());
+		}
+		return saved;
+	}
+
+	/** 이름으로 메서드를 가로채는 리포지토리 프록시 (정의하지 않은 메서드는 예외) */
+	@SuppressWarnings("unchecked")
+	private static <T> T inMemory(Class<T> type, Map<String, Function<Object[], Object>> methods) {
+		return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+			Function<Object[], Object> handler = methods.get(method.getName());
+			if (handler == null) {
+				throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+			}
+			return handler.apply(args);
+		});
+	}
+
+	private static String key(String name) {
+		return name.strip().toLowerCase(Locale.ROOT);
+	}
+}
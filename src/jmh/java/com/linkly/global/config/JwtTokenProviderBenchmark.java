@@ -0,0 +1,40 @@
+package com.linkly.global.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** 인증 필터가 매 요청마다 수행하는 JWT 검증/파싱과 로그인 시 토큰 생성 비용 */
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+	private JwtTokenProvider jwtTokenProvider;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		JwtProperties jwtProperties = new JwtProperties();
+		jwtProperties.setSecret("benchmark-secret-key-should-be-at-least-256-bits-for-HS256-algorithm");
+		jwtProperties.setExpiration(86_400_000L);
+
+		jwtTokenProvider = new JwtTokenProvider(jwtProperties);
+		token = jwtTokenProvider.generateToken(42L, "bench@linkly.com");
+	}
+
+	@Benchmark
+	public String generateToken() {
+		return jwtTokenProvider.generateToken(42L, "bench@linkly.com");
+	}
+
+	@Benchmark
+	public boolean validateToken() {
+		return jwtTokenProvider.validateToken(token);
+	}
+
+	/** JwtAuthenticationFilter 경로: 검증 후 사용자 ID 추출 (토큰을 두 번 파싱) */
+	@Benchmark
+	public Long validateAndGetUserId() {
+		return jwtTokenProvider.validateToken(token) ? jwtTokenProvider.getUserIdFromToken(token) : null;
+	}
+}
@@ -0,0 +1,212 @@
+package com.linkly.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인한 사용자들로 /bookmarks, /bookmarks/search, /link-health 를 섞어 호출하고 엔드포인트별 지연 시간 백분위와 처리량을 보고한다.
+ *
+ * 설정은 시스템 프로퍼티(loadtest.*)로 받는다. loadtest.endpoints 로 호출할 엔드포인트를 좁힐 수 있다. warm-up 구간의 요청은 집계에서 제외한다. 결과는 콘솔 표와 JSON 파일로 남겨 커밋 간 비교에
+ * 사용한다.
+ */
+public class LoadDriver {
+
+	private static final String[] SEARCH_KEYWORDS = {"spring", "JPA", "MySQL", "여행", "맛집", "guide", "레시피", "ETF",
+			"Figma", "성능"};
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+	private final String baseUrl = System.getProperty("loadtest.base-url", "http://localhost:8080");
+	private final int accounts = Integer.getInteger("loadtest.accounts", 50);
+	private final int concurrency = Integer.getInteger("loadtest.concurrency", 16);
+	private final int warmupSeconds = Integer.getInteger("loadtest.warmup-seconds", 10);
+	private final int durationSeconds = Integer.getInteger("loadtest.duration-seconds", 60);
+	private final String password = System.getProperty("loadtest.password", "loadtest1234!");
+	private final Path output = Path.of(System.getProperty("loadtest.output", "build/loadtest/results.json"));
+
+	/** 엔드포인트와 호출 비중 */
+	private final Map<String, Integer> mix = new LinkedHashMap<>();
+
+	{
+		mix.put("GET /bookmarks", 50);
+		mix.put("GET /bookmarks/search", 35);
+		mix.put("GET /link-health", 15);
+
+		// 예: -Dloadtest.endpoints="GET /bookmarks" 로 단일 엔드포인트 처리량만 측정
+		String endpoints = System.getProperty("loadtest.endpoints");
+		if (endpoints != null && !endpoints.isBlank()) {
+			mix.keySet().retainAll(Arrays.stream(endpoints.split(",")).map(String::strip).toList());
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		new LoadDriver().run();
+	}
+
+	private void run() throws Exception {
+		List<String> tokens = login();
+		System.out.printf("로그인 완료: accounts=%d, concurrency=%d, warmup=%ds, duration=%ds%n", tokens.size(),
+				concurrency, warmupSeconds, durationSeconds);
+
+		Map<String, Recorder> recorders = new LinkedHashMap<>();
+		mix.keySet().forEach(endpoint -> recorders.put(endpoint, new Recorder()));
+
+		long measureFrom = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+		long deadline = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+		ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+		for (int i = 0; i < concurrency; i++) {
+			workers.submit(() -> {
+				ThreadLocalRandom random = ThreadLocalRandom.current();
+				while (System.nanoTime() < deadline) {
+					String token = tokens.get(random.nextInt(tokens.size()));
+					String endpoint = pickEndpoint(random);
+					long start = System.nanoTime();
+					boolean ok = call(endpoint, token, random);
+					long end = System.nanoTime();
+					if (start >= measureFrom) {
+						recorders.get(endpoint).record(end - start, ok);
+					}
+				}
+				return null;
+			});
+		}
+		workers.shutdown();
+		workers.awaitTermination(warmupSeconds + durationSeconds + 60L, TimeUnit.SECONDS);
+
+		report(recorders);
+	}
+
+	private List<String> login() throws Exception {
+		List<String> tokens = new ArrayList<>();
+		for (int i = 0; i < accounts; i++) {
+			String body = objectMapper.writeValueAsString(
+					Map.of("email", LoadTestDataGenerator.EMAIL_FORMAT.formatted(i), "password", password));
+			HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+					.header("Content-Type", "application/json").POST(HttpRequest.BodyPublishers.ofString(body))
+					.build();
+			HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+			if (response.statusCode() != 200) {
+				throw new IllegalStateException("로그인 실패: status=" + response.statusCode() + ", body=" + response.body()
+						+ " (loadtest 프로필로 데이터를 먼저 생성했는지 확인)");
+			}
+			tokens.add(objectMapper.readTree(response.body()).path("data").path("accessToken").asText());
+		}
+		return tokens;
+	}
+
+	private String pickEndpoint(ThreadLocalRandom random) {
+		int roll = random.nextInt(mix.values().stream().mapToInt(Integer::intValue).sum());
+		for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+			roll -= entry.getValue();
+			if (roll < 0) {
+				return entry.getKey();
+			}
+		}
+		throw new IllegalStateException("unreachable");
+	}
+
+	private boolean call(String endpoint, String token, ThreadLocalRandom random) {
+		String path = switch (endpoint) {
+			case "GET /bookmarks" -> "/bookmarks";
+			case "GET /bookmarks/search" -> "/bookmarks/search?keyword="
+					+ URLEncoder.encode(SEARCH_KEYWORDS[random.nextInt(SEARCH_KEYWORDS.length)], StandardCharsets.UTF_8);
+			case "GET /link-health" -> "/link-health";
+			default -> throw new IllegalArgumentException(endpoint);
+		};
+		HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path)).header("Authorization", "Bearer " + token)
+				.timeout(Duration.ofSeconds(30)).GET().build();
+		try {
+			HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+			return response.statusCode() == 200;
+		} catch (Exception e) {
+			return false;
+		}
+	}
+
+	private void report(Map<String, Recorder> recorders) throws Exception {
+		ArrayNode endpoints = objectMapper.createArrayNode();
+		System.out.printf("%n%-24s %8s %8s %10s %10s %10s %10s %10s%n", "endpoint", "count", "errors", "rps",
+				"p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+		for (Map.Entry<String, Recorder> entry : recorders.entrySet()) {
+			long[] latencies = entry.getValue().sorted();
+			double rps = (double) latencies.length / durationSeconds;
+			double p50 = percentileMillis(latencies, 0.50);
+			double p95 = percentileMillis(latencies, 0.95);
+			double p99 = percentileMillis(latencies, 0.99);
+			double max = latencies.length == 0 ? 0 : latencies[latencies.length - 1] / 1_000_000.0;
+			System.out.printf("%-24s %8d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n", entry.getKey(), latencies.length,
+					entry.getValue().errors(), rps, p50, p95, p99, max);
+
+			ObjectNode node = endpoints.addObject();
+			node.put("endpoint", entry.getKey()).put("count", latencies.length).put("errors", entry.getValue().errors())
+					.put("throughputPerSec", rps).put("p50Ms", p50).put("p95Ms", p95).put("p99Ms", p99)
+					.put("maxMs", max);
+		}
+
+		ObjectNode result = objectMapper.createObjectNode();
+		result.put("baseUrl", baseUrl).put("accounts", accounts).put("concurrency", concurrency)
+				.put("durationSeconds", durationSeconds);
+		result.set("endpoints", endpoints);
+		Files.createDirectories(output.toAbsolutePath().getParent());
+		objectMapper.writerWithDefaultPrettyPrinter().writeValue(output.toFile(), result);
+		System.out.println("결과 저장: " + output.toAbsolutePath());
+	}
+
+	/** nearest-rank 백분위 (밀리초) */
+	static double percentileMillis(long[] sortedNanos, double percentile) {
+		if (sortedNanos.length == 0) {
+			return 0;
+		}
+		int rank = (int) Math.ceil(percentile * sortedNanos.length);
+		return sortedNanos[Math.max(0, rank - 1)] / 1_000_000.0;
+	}
+
+	/** 엔드포인트별 지연 시간(나노초) 수집기 */
+	private static class Recorder {
+
+		private long[] latencies = new long[1024];
+		private int size;
+		private int errors;
+
+		synchronized void record(long nanos, boolean ok) {
+			if (!ok) {
+				errors++;
+			}
+			if (size == latencies.length) {
+				latencies = Arrays.copyOf(latencies, size * 2);
+			}
+			latencies[size++] = nanos;
+		}
+
+		synchronized long[] sorted() {
+			long[] copy = Arrays.copyOf(latencies, size);
+			Arrays.sort(copy);
+			return copy;
+		}
+
+		synchronized int errors() {
+			return errors;
+		}
+	}
+}
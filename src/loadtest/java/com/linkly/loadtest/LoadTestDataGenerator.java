@@ -0,0 +1,237 @@
+package com.linkly.loadtest;
+
+import com.linkly.domain.AppUser;
+import com.linkly.domain.Bookmark;
+import com.linkly.domain.BookmarkTagMap;
+import com.linkly.domain.Category;
+import com.linkly.domain.LinkCheckResult;
+import com.linkly.domain.Tag;
+import com.linkly.domain.enums.LinkCheckStatus;
+import com.linkly.domain.enums.UserRole;
+import com.linkly.tag.TagPostings.Posting;
+import com.linkly.tag.TagUsageCounter;
+import com.linkly.user.AppUserRepository;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 부하 테스트용 데이터셋 생성기 (loadtest 프로필에서만 동작).
+ *
+ * 사용자별 북마크 수는 Pareto 분포(소수 사용자가 대부분의 북마크를 보유), URL 일부는 여러 사용자가 공유하는 인기 URL 풀에서 Zipf 분포로
+ * 선택하고, 제목은 한국어/영어를 섞는다. 이미 생성된 데이터가 있으면 건너뛰므로 MySQL 에 반복 실행해도 된다.
+ */
+@Slf4j
+@Component
+@Profile("loadtest")
+@RequiredArgsConstructor
+public class LoadTestDataGenerator implements ApplicationRunner {
+
+	static final String EMAIL_FORMAT = "loadtest-%d@linkly.test";
+
+	private static final Topic[] TOPICS = {
+			new Topic("개발", "spring.io", new String[]{"Spring", "Java", "JPA", "Backend", "Kotlin"},
+					new String[]{"Spring Boot 성능 튜닝 가이드", "JPA N+1 문제 해결하기", "자바 21 가상 스레드 정리", "트랜잭션 격리 수준 이해"},
+					new String[]{"Spring Boot reference documentation", "Understanding JPA fetch strategies",
+							"Virtual threads in Java 21", "Effective Java notes"}),
+			new Topic("데이터베이스", "dev.mysql.com", new String[]{"MySQL", "Index", "SQL", "Redis"},
+					new String[]{"MySQL 인덱스 설계 원칙", "실행 계획 읽는 법", "커넥션 풀 크기 정하기"},
+					new String[]{"MySQL index merge optimization", "How to read EXPLAIN output", "Redis caching patterns"}),
+			new Topic("여행", "travel.example.com", new String[]{"제주", "부산", "도쿄", "맛집", "숙소"},
+					new String[]{"제주도 3박 4일 여행 코스", "부산 해운대 맛집 추천", "도쿄 지하철 이용 팁"},
+					new String[]{"Tokyo travel guide and itinerary", "Best hostels in Lisbon", "Packing list for a week"}),
+			new Topic("디자인", "design.example.com", new String[]{"UI", "UX", "Figma", "Typography"},
+					new String[]{"디자인 시스템 구축기", "한글 폰트 가독성 비교", "모바일 UX 체크리스트"},
+					new String[]{"Figma auto layout tips", "A guide to color contrast", "Typography for the web"}),
+			new Topic("경제", "news.example.com", new String[]{"주식", "금리", "ETF", "부동산"},
+					new String[]{"금리 인상이 주식에 미치는 영향", "ETF 투자 입문", "부동산 시장 전망"},
+					new String[]{"How interest rates affect stocks", "ETF investing basics", "Housing market outlook"}),
+			new Topic("요리", "recipe.example.com", new String[]{"레시피", "한식", "베이킹", "비건"},
+					new String[]{"집에서 만드는 김치찌개", "초보자를 위한 베이킹", "비건 도시락 레시피"},
+					new String[]{"Sourdough bread for beginners", "Easy weeknight pasta", "Vegan meal prep ideas"})};
+
+	private final LoadTestDataProperties properties;
+	private final AppUserRepository userRepository;
+	private final PasswordEncoder passwordEncoder;
+	private final EntityManager entityManager;
+	private final TransactionTemplate transactionTemplate;
+	private final TagUsageCounter tagUsageCounter;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		if (userRepository.findByEmail(EMAIL_FORMAT.formatted(0)).isPresent()) {
+			log.info("부하 테스트 데이터가 이미 존재하여 생성을 건너뜁니다.");
+			return;
+		}
+
+		Random random = new Random(properties.getSeed());
+		String encodedPassword = passwordEncoder.encode(properties.getPassword());
+		List<String> popularUrls = popularUrls(random);
+		long start = System.currentTimeMillis();
+		long totalBookmarks = 0;
+
+		for (int userIndex = 0; userIndex < properties.getUsers(); userIndex++) {
+			int bookmarkCount = paretoBookmarkCount(random);
+			totalBookmarks += generateUser(userIndex, bookmarkCount, encodedPassword, popularUrls, random);
+		}
+
+		log.info("부하 테스트 데이터 생성 완료: users={}, bookmarks={}, elapsedMs={}", properties.getUsers(), totalBookmarks,
+				System.currentTimeMillis() - start);
+	}
+
+	private long generateUser(int userIndex, int bookmarkCount, String encodedPassword, List<String> popularUrls,
+			Random random) {
+		// 사용자별 관심 주제 2~4개, 주제당 카테고리 1개
+		List<Topic> topics = pickTopics(random);
+		Map<String, Long> categoryIds = new HashMap<>();
+		Map<String, Long> tagIds = new HashMap<>();
+
+		Long userId = transactionTemplate.execute(status -> {
+			AppUser user = AppUser.builder().email(EMAIL_FORMAT.formatted(userIndex)).password(encodedPassword)
+					.name("부하테스트" + userIndex).role(UserRole.USER).build();
+			entityManager.persist(user);
+			for (Topic topic : topics) {
+				Category category = Category.builder().appUser(user).name(topic.category()).build();
+				entityManager.persist(category);
+				categoryIds.put(topic.category(), category.getId());
+			}
+			return user.getId();
+		});
+
+		Set<String> usedUrls = new HashSet<>();
+		for (int from = 0; from < bookmarkCount; from += properties.getChunkSize()) {
+			int to = Math.min(bookmarkCount, from + properties.getChunkSize());
+			int chunkStart = from;
+			transactionTemplate.executeWithoutResult(status -> {
+				AppUser user = entityManager.getReference(AppUser.class, userId);
+				List<Posting> addedMappings = new ArrayList<>();
+				for (int i = chunkStart; i < to; i++) {
+					generateBookmark(user, i, topics, categoryIds, tagIds, usedUrls, popularUrls, addedMappings,
+							random);
+				}
+				entityManager.flush();
+				// 서비스와 같이 tag.usage_count 반영 (태그 목록 정렬·자동완성 순위가 실제 분포를 따르도록)
+				Map<Long, String> tagNames = new HashMap<>();
+				tagIds.forEach((name, id) -> tagNames.put(id, name));
+				tagUsageCounter.increment(userId, addedMappings, tagNames);
+				entityManager.clear();
+			});
+		}
+		return bookmarkCount;
+	}
+
+	private void generateBookmark(AppUser user, int index, List<Topic> topics, Map<String, Long> categoryIds,
+			Map<String, Long> tagIds, Set<String> usedUrls, List<String> popularUrls, List<Posting> addedMappings,
+			Random random) {
+		Topic topic = topics.get(random.nextInt(topics.size()));
+		boolean english = random.nextDouble() < properties.getEnglishTitleRatio();
+		String[] titles = english ? topic.englishTitles() : topic.koreanTitles();
+		String title = titles[random.nextInt(titles.length)] + (index % 7 == 0 ? "" : " #" + index);
+
+		String url = null;
+		if (random.nextDouble() < properties.getPopularUrlRatio()) {
+			url = popularUrls.get(zipf(random, popularUrls.size()));
+		}
+		if (url == null || !usedUrls.add(url)) {
+			url = "https://" + topic.host() + "/u" + user.getId() + "/posts/" + index;
+			usedUrls.add(url);
+		}
+
+		// 20% 는 미분류
+		Category category = random.nextDouble() < 0.8
+				? entityManager.getReference(Category.class, categoryIds.get(topic.category()))
+				: null;
+		Bookmark bookmark = Bookmark.builder().appUser(user).category(category).url(url).title(title)
+				.description(english ? "Notes about " + title : title + " 관련 정리").build();
+		entityManager.persist(bookmark);
+
+		for (String tagName : pickTags(topic, random)) {
+			Long tagId = tagIds.get(tagName);
+			Tag tag;
+			if (tagId == null) {
+				tag = Tag.builder().appUser(user).name(tagName).build();
+				entityManager.persist(tag);
+				tagIds.put(tagName, tag.getId());
+			} else {
+				tag = entityManager.getReference(Tag.class, tagId);
+			}
+			entityManager.persist(BookmarkTagMap.builder().bookmark(bookmark).tag(tag).build());
+			addedMappings.add(new Posting(bookmark.getId(), tag.getId()));
+		}
+
+		if (random.nextDouble() < properties.getLinkCheckedRatio()) {
+			int checks = 1 + random.nextInt(3);
+			for (int i = 0; i < checks; i++) {
+				entityManager.persist(randomCheckResult(bookmark, random));
+			}
+		}
+	}
+
+	private LinkCheckResult randomCheckResult(Bookmark bookmark, Random random) {
+		double roll = random.nextDouble();
+		if (roll < 0.85) {
+			return LinkCheckResult.of(bookmark, LinkCheckStatus.HEALTHY, 200, 50L + random.nextInt(400));
+		}
+		if (roll < 0.95) {
+			return LinkCheckResult.of(bookmark, LinkCheckStatus.DEAD, 404, 30L + random.nextInt(200));
+		}
+		return LinkCheckResult.of(bookmark, LinkCheckStatus.TIMEOUT, null, 10_000L);
+	}
+
+	private List<Topic> pickTopics(Random random) {
+		List<Topic> shuffled = new ArrayList<>(List.of(TOPICS));
+		Collections.shuffle(shuffled, random);
+		return shuffled.subList(0, 2 + random.nextInt(3));
+	}
+
+	/** 주제의 태그 중 앞쪽(인기 태그)이 더 자주 선택되도록 Zipf 로 0~maxTagsPerBookmark 개 선택 */
+	private Set<String> pickTags(Topic topic, Random random) {
+		int count = random.nextInt(Math.min(properties.getMaxTagsPerBookmark(), topic.tags().length) + 1);
+		Set<String> tags = new LinkedHashSet<>();
+		for (int i = 0; i < count; i++) {
+			tags.add(topic.tags()[zipf(random, topic.tags().length)]);
+		}
+		return tags;
+	}
+
+	private List<String> popularUrls(Random random) {
+		List<String> urls = new ArrayList<>(properties.getPopularUrls());
+		for (int i = 0; i < properties.getPopularUrls(); i++) {
+			Topic topic = TOPICS[random.nextInt(TOPICS.length)];
+			urls.add("https://" + topic.host() + "/popular/" + i);
+		}
+		return urls;
+	}
+
+	private int paretoBookmarkCount(Random random) {
+		double value = properties.getMinBookmarksPerUser()
+				/ Math.pow(1 - random.nextDouble(), 1 / properties.getParetoAlpha());
+		return (int) Math.min(properties.getMaxBookmarksPerUser(), Math.floor(value));
+	}
+
+	/** 순위 r 이 1/r 에 비례하는 확률로 선택되는 0-based 인덱스 (역변환 근사) */
+	private static int zipf(Random random, int size) {
+		double harmonic = Math.log(size) + 0.5772;
+		double target = random.nextDouble() * harmonic;
+		int rank = (int) Math.floor(Math.exp(target - 0.5772));
+		return Math.min(size - 1, Math.max(0, rank - 1));
+	}
+
+	private record Topic(String category, String host, String[] tags, String[] koreanTitles, String[] englishTitles) {
+	}
+}
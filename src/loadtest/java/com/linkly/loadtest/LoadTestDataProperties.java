@@ -0,0 +1,45 @@
+package com.linkly.loadtest;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+@Component
+@Profile("loadtest")
+@ConfigurationProperties(prefix = "loadtest.data")
+@Getter
+@Setter
+public class LoadTestDataProperties {
+
+	/** 난수 시드 (같은 시드면 같은 데이터셋) */
+	private long seed = 42L;
+
+	/** 생성할 사용자 수 */
+	private int users = 200;
+
+	/** 사용자별 북마크 수 분포 (Pareto): 최소값, 꼬리 지수, 상한 */
+	private int minBookmarksPerUser = 5;
+	private double paretoAlpha = 1.2;
+	private int maxBookmarksPerUser = 3000;
+
+	/** 여러 사용자가 공유하는 인기 URL 풀 크기와, 북마크 중 인기 URL 비율 */
+	private int popularUrls = 500;
+	private double popularUrlRatio = 0.4;
+
+	/** 영어 제목 비율 (나머지는 한국어) */
+	private double englishTitleRatio = 0.4;
+
+	/** 북마크당 최대 태그 수 */
+	private int maxTagsPerBookmark = 5;
+
+	/** 헬스체크 결과가 있는 북마크 비율 */
+	private double linkCheckedRatio = 0.7;
+
+	/** 트랜잭션당 북마크 수 */
+	private int chunkSize = 500;
+
+	/** 생성되는 모든 사용자의 비밀번호 (LoadDriver 로그인용) */
+	private String password = "loadtest1234!";
+}
@@ -0,0 +1,47 @@
+package com.linkly.bookmark;
+
+import com.linkly.bookmark.dto.BulkOperationResponse;
+import java.util.List;
+
+/** 북마크 일괄 작업 서비스 인터페이스 */
+public interface BookmarkBulkService {
+
+	/**
+	 * 북마크 일괄 삭제 (Soft Delete, 태그 매핑 삭제)
+	 *
+	 * @param userId
+	 *            사용자 ID (모든 북마크의 소유자여야 함)
+	 * @param bookmarkIds
+	 *            삭제할 북마크 ID 목록
+	 * @return 처리 결과
+	 */
+	BulkOperationResponse deleteBookmarks(Long userId, List<Long> bookmarkIds);
+
+	/**
+	 * 북마크 일괄 카테고리 이동
+	 *
+	 * @param userId
+	 *            사용자 ID (모든 북마크와 카테고리의 소유자여야 함)
+	 * @param bookmarkIds
+	 *            이동할 북마크 ID 목록
+	 * @param categoryId
+	 *            이동할 카테고리 ID (null 이면 미분류)
+	 * @return 처리 결과
+	 */
+	BulkOperationResponse moveBookmarks(Long userId, List<Long> bookmarkIds, Long categoryId);
+
+	/**
+	 * 북마크 일괄 태그 추가/제거
+	 *
+	 * @param userId
+	 *            사용자 ID (모든 북마크의 소유자여야 함)
+	 * @param bookmarkIds
+	 *            대상 북마크 ID 목록
+	 * @param addTags
+	 *            추가할 태그 이름 (없는 태그는 생성)
+	 * @param removeTags
+	 *            제거할 태그 이름
+	 * @return 처리 결과 (affected 는 추가·삭제된 매핑 수)
+	 */
+	BulkOperationResponse updateTags(Long userId, List<Long> bookmarkIds, List<String> addTags, List<String> removeTags);
+}
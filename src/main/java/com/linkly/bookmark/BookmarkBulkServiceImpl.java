@@ -0,0 +1,212 @@
+package com.linkly.bookmark;
+
+import com.linkly.bookmark.dto.BookmarkTagIdRow;
+import com.linkly.bookmark.dto.BulkOperationResponse;
+import com.linkly.category.CategoryRepository;
+import com.linkly.domain.AppUser;
+import com.linkly.domain.Bookmark;
+import com.linkly.domain.BookmarkTagMap;
+import com.linkly.domain.Category;
+import com.linkly.domain.Tag;
+import com.linkly.global.config.BookmarkBulkConfig;
+import com.linkly.global.exception.InvalidRequestException;
+import com.linkly.global.exception.ResourceNotFoundException;
+import com.linkly.global.util.NameCollation;
+import com.linkly.tag.TagNameLookup;
+import com.linkly.tag.TagPostings.Posting;
+import com.linkly.tag.TagRepository;
+import com.linkly.tag.TagUsageCounter;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 북마크 일괄 작업.
+ *
+ * 소유권은 요청한 ID 전체를 한 번의 IN 쿼리로 확인하고, 변경은 chunk-size 건씩 별도 트랜잭션에서 벌크 UPDATE/DELETE 한 번으로 처리한다.
+ * 태그 매핑 추가는 ID 를 시퀀스에서 받아야 하므로 청크 단위 JDBC 배치 INSERT 로 보낸다. 권한 확인이 끝난 뒤에 변경을 시작하므로 다른
+ * 사용자의 북마크가 섞인 요청은 아무것도 바꾸지 않고 거절된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookmarkBulkServiceImpl implements BookmarkBulkService {
+
+	private final BookmarkRepository bookmarkRepository;
+	private final BookmarkTagMapRepository bookmarkTagMapRepository;
+	private final CategoryRepository categoryRepository;
+	private final TagRepository tagRepository;
+	private final TagUsageCounter tagUsageCounter;
+	private final LocalCategoryClassifier localCategoryClassifier;
+	private final EntityManager entityManager;
+	private final TransactionTemplate transactionTemplate;
+	private final BookmarkBulkConfig bookmarkBulkConfig;
+
+	@Override
+	public BulkOperationResponse deleteBookmarks(Long userId, List<Long> bookmarkIds) {
+		List<Long> ids = verifyOwnership(userId, bookmarkIds);
+		LocalDateTime now = LocalDateTime.now();
+
+		int affected = inChunks(ids, chunk -> {
+			tagUsageCounter.decrementForBookmarks(userId, chunk);
+			bookmarkTagMapRepository.deleteAllByBookmarkIdIn(chunk);
+			return bookmarkRepository.softDeleteAllByIdIn(chunk, now);
+		});
+		localCategoryClassifier.invalidate(userId);
+
+		log.info("북마크 일괄 삭제 완료: userId={}, requested={}, affected={}", userId, ids.size(), affected);
+		return new BulkOperationResponse(ids.size(), affected);
+	}
+
+	@Override
+	public BulkOperationResponse moveBookmarks(Long userId, List<Long> bookmarkIds, Long categoryId) {
+		Category category = null;
+		if (categoryId != null) {
+			Long ownerId = categoryRepository.findOwnerIdById(categoryId)
+					.orElseThrow(() -> new ResourceNotFoundException("Category", categoryId));
+			if (!ownerId.equals(userId)) {
+				throw new InvalidRequestException("해당 카테고리를 사용할 권한이 없습니다",
+						"categoryId=" + categoryId + ", userId=" + userId);
+			}
+			// 벌크 UPDATE 파라미터로만 쓰므로 프록시 참조
+			category = categoryRepository.getReferenceById(categoryId);
+		}
+		List<Long> ids = verifyOwnership(userId, bookmarkIds);
+		LocalDateTime now = LocalDateTime.now();
+
+		Category target = category;
+		int affected = inChunks(ids, chunk -> bookmarkRepository.updateCategoryByIdIn(chunk, target, now));
+		localCategoryClassifier.invalidate(userId);
+
+		log.info("북마크 일괄 이동 완료: userId={}, categoryId={}, requested={}, affected={}", userId, categoryId,
+				ids.size(), affected);
+		return new BulkOperationResponse(ids.size(), affected);
+	}
+
+	@Override
+	public BulkOperationResponse updateTags(Long userId, List<Long> bookmarkIds, List<String> addTags,
+			List<String> removeTags) {
+		List<String> addNames = distinctNames(addTags);
+		List<String> removeNames = distinctNames(removeTags);
+		if (addNames.isEmpty() && removeNames.isEmpty()) {
+			throw new InvalidRequestException("추가하거나 제거할 태그가 없습니다");
+		}
+		Set<String> addKeys = new HashSet<>();
+		addNames.forEach(name -> addKeys.add(NameCollation.key(name)));
+		if (removeNames.stream().anyMatch(name -> addKeys.contains(NameCollation.key(name)))) {
+			throw new InvalidRequestException("같은 태그를 동시에 추가하고 제거할 수 없습니다");
+		}
+		List<Long> ids = verifyOwnership(userId, bookmarkIds);
+
+		List<Long> removeTagIds = removeNames.isEmpty()
+				? List.of()
+				: tagRepository.findAllByAppUserIdAndNameIn(userId, removeNames).stream().map(Tag::getId).toList();
+
+		int affected = inChunks(ids, chunk -> {
+			int changed = 0;
+			if (!removeTagIds.isEmpty()) {
+				tagUsageCounter.decrementForBookmarks(userId, chunk, removeTagIds);
+				changed += bookmarkTagMapRepository.deleteAllByBookmarkIdInAndTagIdIn(chunk, removeTagIds);
+			}
+			if (!addNames.isEmpty()) {
+				changed += addMappings(userId, chunk, resolveTags(userId, addNames));
+			}
+			return changed;
+		});
+
+		log.info("북마크 일괄 태그 변경 완료: userId={}, requested={}, add={}, remove={}, affected={}", userId, ids.size(),
+				addNames, removeNames, affected);
+		return new BulkOperationResponse(ids.size(), affected);
+	}
+
+	/** 요청 ID 가 모두 사용자의 활성 북마크인지 쿼리 한 번으로 확인하고 중복을 제거한 ID 목록 반환 */
+	private List<Long> verifyOwnership(Long userId, List<Long> bookmarkIds) {
+		List<Long> ids = new ArrayList<>(new LinkedHashSet<>(bookmarkIds));
+		Set<Long> owned = new HashSet<>(bookmarkRepository.findActiveIdsOwnedBy(userId, ids));
+		if (owned.size() != ids.size()) {
+			List<Long> rejected = ids.stream().filter(id -> !owned.contains(id)).limit(20).toList();
+			throw new InvalidRequestException("존재하지 않거나 권한이 없는 북마크가 포함되어 있습니다",
+					"userId=" + userId + ", bookmarkIds=" + rejected);
+		}
+		return ids;
+	}
+
+	/** chunk-size 건씩 별도 트랜잭션에서 실행하고 변경 행 수를 합산 */
+	private int inChunks(List<Long> ids, ToIntFunction<List<Long>> work) {
+		int chunkSize = bookmarkBulkConfig.getChunkSize();
+		int affected = 0;
+		for (int from = 0; from < ids.size(); from += chunkSize) {
+			List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+			Integer changed = transactionTemplate.execute(status -> work.applyAsInt(chunk));
+			affected += changed != null ? changed : 0;
+		}
+		return affected;
+	}
+
+	/**
+	 * 태그 이름 → (ID → 이름) (없는 태그는 생성, 요청 순서 유지). 이름 비교는 {@link NameCollation} 으로 DB collation 과 맞춘다.
+	 * 기존 태그는 잠그므로 매핑을 INSERT 하는 청크 트랜잭션 안에서 호출해야 고아 태그 정리와 엇갈리지 않는다.
+	 */
+	private Map<Long, String> resolveTags(Long userId, List<String> names) {
+		Map<String, Tag> tagsByKey = TagNameLookup.lockExisting(tagRepository, userId, names);
+		AppUser user = entityManager.getReference(AppUser.class, userId);
+		Map<Long, String> tagNames = new LinkedHashMap<>();
+		for (String name : names) {
+			Tag tag = tagsByKey.computeIfAbsent(NameCollation.key(name), k -> tagRepository.save(
+					Tag.builder().appUser(user).name(name).build()));
+			tagNames.putIfAbsent(tag.getId(), tag.getName());
+		}
+		return tagNames;
+	}
+
+	/** 청크의 북마크에 없는 매핑만 배치 INSERT */
+	private int addMappings(Long userId, List<Long> chunk, Map<Long, String> tagNames) {
+		List<Long> tagIds = new ArrayList<>(tagNames.keySet());
+		Set<String> existing = new HashSet<>();
+		for (BookmarkTagIdRow row : bookmarkTagMapRepository.findIdRows(chunk, tagIds)) {
+			existing.add(row.getBookmarkId() + ":" + row.getTagId());
+		}
+
+		// 청크 전체를 JDBC 배치 하나로 보냄 (기본 hibernate.jdbc.batch_size 는 50)
+		entityManager.unwrap(Session.class).setJdbcBatchSize(chunk.size() * tagIds.size());
+		List<Posting> added = new ArrayList<>();
+		for (Long bookmarkId : chunk) {
+			for (Long tagId : tagIds) {
+				if (existing.contains(bookmarkId + ":" + tagId)) {
+					continue;
+				}
+				entityManager.persist(BookmarkTagMap.builder()
+						.bookmark(entityManager.getReference(Bookmark.class, bookmarkId))
+						.tag(entityManager.getReference(Tag.class, tagId)).build());
+				added.add(new Posting(bookmarkId, tagId));
+			}
+		}
+		entityManager.flush();
+		tagUsageCounter.increment(userId, added, tagNames);
+		entityManager.clear();
+		return added.size();
+	}
+
+	private static List<String> distinctNames(List<String> names) {
+		if (names == null) {
+			return List.of();
+		}
+		Map<String, String> distinct = new LinkedHashMap<>();
+		for (String name : BookmarkServiceImpl.normalizeTagNames(names)) {
+			distinct.putIfAbsent(NameCollation.key(name), name);
+		}
+		return new ArrayList<>(distinct.values());
+	}
+}
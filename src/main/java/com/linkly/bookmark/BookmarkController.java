@@ -1,8 +1,16 @@
 package com.linkly.bookmark;
 
+import com.linkly.bookmark.dto.BatchCategorySuggestionRequest;
+import com.linkly.bookmark.dto.BookmarkImportStatusResponse;
 import com.linkly.bookmark.dto.BookmarkResponse;
+import com.linkly.bookmark.dto.BulkBookmarkRequest;
+import com.linkly.bookmark.dto.BulkMoveRequest;
+import com.linkly.bookmark.dto.BulkOperationResponse;
+import com.linkly.bookmark.dto.BulkTagRequest;
+import com.linkly.bookmark.dto.CategorySuggestionItem;
 import com.linkly.bookmark.dto.CategorySuggestionResponse;
 import com.linkly.bookmark.dto.CreateBookmarkRequest;
+import com.linkly.bookmark.dto.TagFilterResponse;
 import com.linkly.bookmark.dto.UpdateBookmarkRequest;
 import com.linkly.bookmark.dto.UrlMetadataResponse;
 import com.linkly.category.CategoryService;
@@ -16,12 +24,21 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Slf4j
 @RestController
@@ -34,6 +51,10 @@ public class BookmarkController {
 	private final MetadataService metadataService;
 	private final OllamaService ollamaService;
 	private final CategoryService categoryService;
+	private final LocalCategoryClassifier localCategoryClassifier;
+	private final BookmarkImportService bookmarkImportService;
+	private final BookmarkExportService bookmarkExportService;
+	private final BookmarkBulkService bookmarkBulkService;
 
 	@GetMapping("/metadata")
 	@Operation(summary = "URL 메타데이터 추출", description = "URL에서 제목과 설명을 자동으로 추출합니다. 실패해도 200 OK를 반환하며, 필드가 null일 수 있습니다.")
@@ -41,7 +62,7 @@ public class BookmarkController {
 			@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "메타데이터 추출 완료 (실패 시에도 200)")})
 	public ResponseEntity<ApiResponse<UrlMetadataResponse>> getUrlMetadata(
 			@Parameter(description = "메타데이터를 추출할 URL", example = "https://spring.io") @RequestParam String url) {
-		log.info("GET /bookmarks/metadata - URL 메타데이터 추출: url={}", url);
+		log.debug("GET /bookmarks/metadata - URL 메타데이터 추출: url={}", url);
 
 		UrlMetadataResponse response = metadataService.extractMetadata(url);
 
@@ -49,14 +70,14 @@ public class BookmarkController {
 	}
 
 	@GetMapping("/suggest-category")
-	@Operation(summary = "AI 카테고리 추천", description = "제목과 설명을 기반으로 사용자의 기존 카테고리 중 가장 적합한 카테고리를 추천합니다. Ollama 서버 미실행 시 null을 반환합니다.")
+	@Operation(summary = "AI 카테고리 추천", description = "제목과 설명을 기반으로 사용자의 기존 카테고리 중 가장 적합한 카테고리를 추천합니다. 기존 북마크로 학습한 로컬 분류기가 확신하면 즉시 응답하고, 애매한 경우에만 Ollama를 호출합니다. Ollama 서버 미실행 시 null을 반환합니다.")
 	@ApiResponses({
 			@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "추천 완료 (추천 불가 시에도 200)")})
 	public ResponseEntity<ApiResponse<CategorySuggestionResponse>> suggestCategory(
 			@Parameter(description = "북마크 제목", example = "GitHub") @RequestParam String title,
 			@Parameter(description = "북마크 설명", example = "Where the world builds software") @RequestParam(required = false) String description) {
 		Long userId = SecurityUtils.getCurrentUserId();
-		log.info("GET /bookmarks/suggest-category - AI 카테고리 추천: userId={}, title={}", userId, title);
+		log.debug("GET /bookmarks/suggest-category - AI 카테고리 추천: userId={}, title={}", userId, title);
 
 		List<CategoryResponse> categories = categoryService.getCategoriesByUserId(userId);
 
@@ -69,11 +90,66 @@ public class BookmarkController {
 				.map(CategoryResponse::getName)
 				.toList();
 
+		// 로컬 분류기가 확신하는 경우 LLM 호출 생략
+		Optional<String> localSuggestion = localCategoryClassifier.classify(userId, title, description, categoryNames);
+		if (localSuggestion.isPresent()) {
+			return ResponseEntity.ok(ApiResponse.success(CategorySuggestionResponse.builder()
+					.suggestedCategory(localSuggestion.get()).source("LOCAL").build()));
+		}
+
 		CategorySuggestionResponse response = ollamaService.suggestCategory(title, description, categoryNames);
 
 		return ResponseEntity.ok(ApiResponse.success(response));
 	}
 
+	@PostMapping("/suggest-category/batch")
+	@Operation(summary = "AI 카테고리 일괄 추천", description = "여러 북마크의 카테고리를 한 번에 추천합니다. 로컬 분류기가 확신하지 못한 항목만 묶어서 Ollama에 청크 단위로 요청하며, 결과는 요청 순서와 같습니다.")
+	@ApiResponses({
+			@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "추천 완료 (추천 불가 항목은 null)"),
+			@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청 (유효성 검증 실패 등)")})
+	public ResponseEntity<ApiResponse<List<CategorySuggestionResponse>>> suggestCategories(
+			@Valid @RequestBody BatchCategorySuggestionRequest request) {
+		Long userId = SecurityUtils.getCurrentUserId();
+		List<CategorySuggestionItem> items = request.getItems();
+		log.debug("POST /bookmarks/suggest-category/batch - AI 카테고리 일괄 추천: userId={}, items={}", userId, items.size());
+
+		List<String> categoryNames = categoryService.getCategoriesByUserId(userId).stream()
+				.map(CategoryResponse::getName)
+				.toList();
+
+		List<CategorySuggestionResponse> responses = new ArrayList<>(items.size());
+		if (categoryNames.isEmpty()) {
+			items.forEach(item -> responses.add(CategorySuggestionResponse.builder().suggestedCategory(null).build()));
+			return ResponseEntity.ok(ApiResponse.success(responses));
+		}
+
+		// 로컬 분류기로 먼저 처리하고, 남은 항목만 Ollama 일괄 추천
+		List<Integer> pendingIndexes = new ArrayList<>();
+		List<CategorySuggestionItem> pendingItems = new ArrayList<>();
+		for (int i = 0; i < items.size(); i++) {
+			CategorySuggestionItem item = items.get(i);
+			Optional<String> localSuggestion = localCategoryClassifier.classify(userId, item.getTitle(),
+					item.getDescription(), categoryNames);
+			responses.add(localSuggestion
+					.map(category -> CategorySuggestionResponse.builder().suggestedCategory(category).source("LOCAL")
+							.build())
+					.orElse(null));
+			if (localSuggestion.isEmpty()) {
+				pendingIndexes.add(i);
+				pendingItems.add(item);
+			}
+		}
+
+		if (!pendingItems.isEmpty()) {
+			List<CategorySuggestionResponse> llmResponses = ollamaService.suggestCategories(pendingItems, categoryNames);
+			for (int i = 0; i < pendingIndexes.size(); i++) {
+				responses.set(pendingIndexes.get(i), llmResponses.get(i));
+			}
+		}
+
+		return ResponseEntity.ok(ApiResponse.success(responses));
+	}
+
 	@PostMapping
 	@Operation(summary = "북마크 생성", description = "새로운 북마크를 생성합니다. 태그를 함께 등록할 수 있으며, 같은 URL은 중복 저장할 수 없습니다.")
 	@ApiResponses({
@@ -83,20 +159,122 @@ public class BookmarkController {
 	public ResponseEntity<ApiResponse<BookmarkResponse>> createBookmark(
 			@Valid @RequestBody CreateBookmarkRequest request) {
 		Long userId = SecurityUtils.getCurrentUserId();
-		log.info("POST /bookmarks - 북마크 생성 요청: userId={}, url={}", userId, request.getUrl());
+		log.debug("POST /bookmarks - 북마크 생성 요청: userId={}, url={}", userId, request.getUrl());
 
 		BookmarkResponse response = bookmarkService.createBookmark(userId, request);
 
 		return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success(response));
 	}
 
+	@PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+	@Operation(summary = "북마크 가져오기", description = "브라우저에서 내보낸 북마크 HTML(Chrome, Firefox, Safari, Edge) 또는 Linkly JSON 파일을 가져옵니다. 폴더는 카테고리, TAGS 속성은 태그로 저장하며 이미 저장된 URL은 건너뜁니다. 백그라운드에서 처리되며 반환된 작업 ID로 진행 상태를 조회할 수 있습니다.")
+	@ApiResponses({
+			@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "202", description = "가져오기 시작"),
+			@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "빈 파일이거나 이미 진행 중인 가져오기가 있음"),
+			@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")})
+	public ResponseEntity<ApiResponse<BookmarkImportStatusResponse>> importBookmarks(
+			@Parameter(description = "북마크 파일") @RequestParam("file") MultipartFile file,
+			@Parameter(description = "파일 형식 (없으면 확장자로 판단)") @RequestParam(required = false) BookmarkFileFormat format) {
+		Long userId = SecurityUtils.getCurrentUserId();
+		log.debug("POST /bookmarks/import - 북마크 가져오기: userId={}, filename={}", userId, file.getOriginalFilename());
+
+		BookmarkImportStatusResponse response = bookmarkImportService.startImport(userId, file, format);
+
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(response));
+	}
+
+	@GetMapping("/import/{jobId}")
+	@Operation(summary = "북마크 가져오기 진행 상태", description = "가져오기 작업의 처리 건수와 상태를 조회합니다.")
+	@ApiResponses({@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+			@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음")})
+	public ResponseEntity<ApiResponse<BookmarkImportStatusResponse>> getImportStatus(
+			@Parameter(description = "가져오기 작업 ID") @PathVariable String jobId) {
+		Long userId = SecurityUtils.getCurrentUserId();
+
+		BookmarkImportStatusResponse response = bookmarkImportService.getStatus(userId, jobId);
+
+		return ResponseEntity.ok(ApiResponse.success(response));
+	}
+
+	@GetMapping("/export")
+	@Operation(summary = "북마크 내보내기", description = "모든 북마크를 태그·카테고리와 함께 파일로 내보냅니다. HTML 은 브라우저에서 가져올 수 있는 Netscape 형식, JSON 은 가져오기 API 형식, CSV 는 스프레드시트용입니다. 응답은 DB 에서 읽는 대로 스트리밍됩니다.")
+	@ApiResponses({@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "내보내기 시작"),
+			@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")})
+	public ResponseEntity<StreamingResponseBody> exportBookmarks(
+			@Parameter(description = "파일 형식", example = "HTML") @RequestParam(defaultValue = "HTML") BookmarkFileFormat format) {
+		Long userId = SecurityUtils.getCurrentUserId();
+		log.debug("GET /bookmarks/export - 북마크 내보내기: userId={}, format={}", userId, format);
+
+		MediaType contentType = switch (format) {
+			case HTML -> MediaType.TEXT_HTML;
+			case JSON -> MediaType.APPLICATION_JSON;
+			case CSV -> MediaType.parseMediaType("text/csv");
+		};
+		ContentDisposition disposition = ContentDisposition.attachment()
+				.filename("linkly-bookmarks." + format.name().toLowerCase(Locale.ROOT)).build();
+		StreamingResponseBody body = out -> bookmarkExportService.export(userId, format, out);
+
+		return ResponseEntity.ok().contentType(new MediaType(contentType, StandardCharsets.UTF_8))
+				.header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString()).body(body);
+	}
+
+	@PostMapping("/bulk/delete")
+	@Operation(summary = "북마크 일괄 삭제", description = "여러 북마크를 한 번에 삭제합니다. (Soft Delete) 하나라도 존재하지 않거나 본인 북마크가 아니면 아무것도 삭제하지 않습니다.")
+	@ApiResponses({@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "삭제 성공"),
+			@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청 (권한 없음, 유효성 검증 실패 등)"),
+			@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")})
+	public ResponseEntity<ApiResponse<BulkOperationResponse>> deleteBookmarks(
+			@Valid @RequestBody BulkBookmarkRequest request) {
+		Long userId = SecurityUtils.getCurrentUserId();
+		log.debug("POST /bookmarks/bulk/delete - 북마크 일괄 삭제: userId={}, count={}", userId,
+				request.getBookmarkIds().size());
+
+		BulkOperationResponse response = bookmarkBulkService.deleteBookmarks(userId, request.getBookmarkIds());
+
+		return ResponseEntity.ok(ApiResponse.success(response));
+	}
+
+	@PostMapping("/bulk/move")
+	@Operation(summary = "북마크 일괄 카테고리 이동", description = "여러 북마크를 한 카테고리로 옮깁니다. 카테고리 ID 가 없으면 미분류로 옮깁니다. 하나라도 존재하지 않거나 본인 북마크가 아니면 아무것도 옮기지 않습니다.")
+	@ApiResponses({@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "이동 성공"),
+			@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청 (권한 없음, 유효성 검증 실패 등)"),
+			@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "카테고리를 찾을 수 없음"),
+			@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")})
+	public ResponseEntity<ApiResponse<BulkOperationResponse>> moveBookmarks(@Valid @RequestBody BulkMoveRequest request) {
+		Long userId = SecurityUtils.getCurrentUserId();
+		log.debug("POST /bookmarks/bulk/move - 북마크 일괄 이동: userId={}, categoryId={}, count={}", userId,
+				request.getCategoryId(), request.getBookmarkIds().size());
+
+		BulkOperationResponse response = bookmarkBulkService.moveBookmarks(userId, request.getBookmarkIds(),
+				request.getCategoryId());
+
+		return ResponseEntity.ok(ApiResponse.success(response));
+	}
+
+	@PostMapping("/bulk/tags")
+	@Operation(summary = "북마크 일괄 태그 추가/제거", description = "여러 북마크에 태그를 추가하거나 제거합니다. 없는 태그는 생성하며, 이미 붙어 있는 태그는 건너뜁니다. 하나라도 존재하지 않거나 본인 북마크가 아니면 아무것도 바꾸지 않습니다.")
+	@ApiResponses({@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "변경 성공"),
+			@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청 (권한 없음, 태그 없음 등)"),
+			@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")})
+	public ResponseEntity<ApiResponse<BulkOperationResponse>> updateBookmarkTags(
+			@Valid @RequestBody BulkTagRequest request) {
+		Long userId = SecurityUtils.getCurrentUserId();
+		log.debug("POST /bookmarks/bulk/tags - 북마크 일괄 태그 변경: userId={}, count={}", userId,
+				request.getBookmarkIds().size());
+
+		BulkOperationResponse response = bookmarkBulkService.updateTags(userId, request.getBookmarkIds(),
+				request.getAddTags(), request.getRemoveTags());
+
+		return ResponseEntity.ok(ApiResponse.success(response));
+	}
+
 	@GetMapping("/{bookmarkId}")
 	@Operation(summary = "북마크 조회", description = "북마크 ID로 북마크 정보를 조회합니다.")
 	@ApiResponses({@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
 			@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "북마크를 찾을 수 없음")})
 	public ResponseEntity<ApiResponse<BookmarkResponse>> getBookmarkById(
 			@Parameter(description = "북마크 ID", example = "1") @PathVariable Long bookmarkId) {
-		log.info("GET /bookmarks/{} - 북마크 조회", bookmarkId);
+		log.debug("GET /bookmarks/{} - 북마크 조회", bookmarkId);
 
 		BookmarkResponse response = bookmarkService.getBookmarkById(bookmarkId);
 
@@ -109,7 +287,7 @@ public class BookmarkController {
 			@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")})
 	public ResponseEntity<ApiResponse<List<BookmarkResponse>>> getBookmarksByUserId() {
 		Long userId = SecurityUtils.getCurrentUserId();
-		log.info("GET /bookmarks - 북마크 목록 조회: userId={}", userId);
+		log.debug("GET /bookmarks - 북마크 목록 조회: userId={}", userId);
 
 		List<BookmarkResponse> responses = bookmarkService.getBookmarksByUserId(userId);
 
@@ -124,13 +302,32 @@ public class BookmarkController {
 			@Parameter(description = "검색 키워드", example = "spring") @RequestParam String keyword,
 			@Parameter(description = "카테고리 ID (없으면 전체)") @RequestParam(required = false) Long categoryId) {
 		Long userId = SecurityUtils.getCurrentUserId();
-		log.info("GET /bookmarks/search - 북마크 검색: userId={}, keyword={}, categoryId={}", userId, keyword, categoryId);
+		log.debug("GET /bookmarks/search - 북마크 검색: userId={}, keyword={}, categoryId={}", userId, keyword, categoryId);
 
 		List<BookmarkResponse> responses = bookmarkService.searchBookmarks(userId, keyword, categoryId);
 
 		return ResponseEntity.ok(ApiResponse.success(responses));
 	}
 
+	@GetMapping("/by-tags")
+	@Operation(summary = "태그 조합으로 북마크 필터링", description = "all 태그를 모두 가지고(AND), any 태그 중 하나 이상을 가지며(OR), none 태그는 하나도 없는(NOT) 북마크를 최신순으로 조회합니다. all 또는 any 중 하나는 필요합니다. 태그 이름은 대소문자를 구분하지 않습니다.")
+	@ApiResponses({@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+			@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "all·any 태그가 모두 비어 있음"),
+			@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")})
+	public ResponseEntity<ApiResponse<TagFilterResponse>> filterBookmarksByTags(
+			@Parameter(description = "모두 포함해야 하는 태그", example = "java,spring") @RequestParam(required = false) List<String> all,
+			@Parameter(description = "하나 이상 포함해야 하는 태그", example = "jpa,hibernate") @RequestParam(required = false) List<String> any,
+			@Parameter(description = "제외할 태그", example = "deprecated") @RequestParam(required = false) List<String> none,
+			@Parameter(description = "페이지 번호 (0부터)", example = "0") @RequestParam(defaultValue = "0") int page,
+			@Parameter(description = "페이지 크기 (1~200)", example = "50") @RequestParam(defaultValue = "50") int size) {
+		Long userId = SecurityUtils.getCurrentUserId();
+		log.debug("GET /bookmarks/by-tags - 태그 필터: userId={}, all={}, any={}, none={}", userId, all, any, none);
+
+		TagFilterResponse response = bookmarkService.filterBookmarksByTags(userId, all, any, none, page, size);
+
+		return ResponseEntity.ok(ApiResponse.success(response));
+	}
+
 	@PutMapping("/{bookmarkId}")
 	@Operation(summary = "북마크 수정", description = "북마크의 정보를 수정합니다. 태그도 함께 수정할 수 있으며, 태그는 전체 교체됩니다. 북마크 소유자만 수정할 수 있습니다.")
 	@ApiResponses({@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "수정 성공"),
@@ -141,7 +338,7 @@ public class BookmarkController {
 			@Parameter(description = "북마크 ID", example = "1") @PathVariable Long bookmarkId,
 			@Valid @RequestBody UpdateBookmarkRequest request) {
 		Long userId = SecurityUtils.getCurrentUserId();
-		log.info("PUT /bookmarks/{} - 북마크 수정: userId={}", bookmarkId, userId);
+		log.debug("PUT /bookmarks/{} - 북마크 수정: userId={}", bookmarkId, userId);
 
 		BookmarkResponse response = bookmarkService.updateBookmark(bookmarkId, userId, request);
 
@@ -158,7 +355,7 @@ public class BookmarkController {
 	public ResponseEntity<Void> deleteBookmark(
 			@Parameter(description = "북마크 ID", example = "1") @PathVariable Long bookmarkId) {
 		Long userId = SecurityUtils.getCurrentUserId();
-		log.info("DELETE /bookmarks/{} - 북마크 삭제: userId={}", bookmarkId, userId);
+		log.debug("DELETE /bookmarks/{} - 북마크 삭제: userId={}", bookmarkId, userId);
 
 		bookmarkService.deleteBookmark(bookmarkId, userId);
 
@@ -0,0 +1,20 @@
+package com.linkly.bookmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/** 북마크 내보내기 서비스 인터페이스 */
+public interface BookmarkExportService {
+
+	/**
+	 * 사용자의 북마크를 태그·카테고리와 함께 지정한 형식으로 출력 (DB 커서에서 읽는 대로 기록)
+	 *
+	 * @param userId
+	 *            사용자 ID
+	 * @param format
+	 *            출력 형식
+	 * @param out
+	 *            응답 스트림 (닫지 않음)
+	 */
+	void export(Long userId, BookmarkFileFormat format, OutputStream out) throws IOException;
+}
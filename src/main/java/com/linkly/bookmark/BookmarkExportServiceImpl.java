@@ -0,0 +1,245 @@
+package com.linkly.bookmark;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkly.bookmark.dto.BookmarkExportRow;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 북마크 내보내기.
+ *
+ * 북마크·태그 projection 을 DB 커서로 읽으면서 같은 북마크의 태그 행을 모아 바로 출력한다. 메모리에는 북마크 한 건과 출력 버퍼만 남으므로
+ * 북마크 수와 무관하게 힙 사용량이 일정하고, 헤더는 첫 행을 읽기 전에 flush 해 클라이언트가 즉시 응답을 받기 시작한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BookmarkExportServiceImpl implements BookmarkExportService {
+
+	private final BookmarkRepository bookmarkRepository;
+	private final ObjectMapper objectMapper;
+
+	@Override
+	public void export(Long userId, BookmarkFileFormat format, OutputStream out) throws IOException {
+		ExportWriter writer = switch (format) {
+			case HTML -> new HtmlExportWriter(out);
+			case JSON -> new JsonExportWriter(objectMapper, out);
+			case CSV -> new CsvExportWriter(out);
+		};
+
+		long count = 0;
+		writer.begin();
+		try (Stream<BookmarkExportRow> rows = bookmarkRepository.streamExportRows(userId)) {
+			ExportedBookmark current = null;
+			for (Iterator<BookmarkExportRow> iterator = rows.iterator(); iterator.hasNext();) {
+				BookmarkExportRow row = iterator.next();
+				if (current == null || !current.id().equals(row.getBookmarkId())) {
+					if (current != null) {
+						writer.write(current);
+						count++;
+					}
+					current = ExportedBookmark.from(row);
+				}
+				if (row.getTagName() != null) {
+					current.tags().add(row.getTagName());
+				}
+			}
+			if (current != null) {
+				writer.write(current);
+				count++;
+			}
+		}
+		writer.end();
+
+		log.debug("북마크 내보내기 완료: userId={}, format={}, count={}", userId, format, count);
+	}
+
+	/** 태그를 모두 모은 북마크 한 건 */
+	private record ExportedBookmark(Long id, String url, String title, String description, String category,
+			LocalDateTime createdAt, List<String> tags) {
+
+		static ExportedBookmark from(BookmarkExportRow row) {
+			return new ExportedBookmark(row.getBookmarkId(), row.getUrl(), row.getTitle(), row.getDescription(),
+					row.getCategoryName(), row.getCreatedAt(), new ArrayList<>());
+		}
+	}
+
+	private interface ExportWriter {
+
+		void begin() throws IOException;
+
+		void write(ExportedBookmark bookmark) throws IOException;
+
+		void end() throws IOException;
+	}
+
+	/** Netscape 북마크 HTML (브라우저와 가져오기 API 에서 다시 읽을 수 있음). 카테고리는 폴더(H3), 태그는 TAGS 속성 */
+	private static class HtmlExportWriter implements ExportWriter {
+
+		private final Writer writer;
+		private boolean started;
+		private String currentCategory;
+
+		HtmlExportWriter(OutputStream out) {
+			this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+		}
+
+		@Override
+		public void begin() throws IOException {
+			writer.write("""
+					<!DOCTYPE NETSCAPE-Bookmark-file-1>
+					<META HTTP-EQUIV="Content-Type" CONTENT="text/html; charset=UTF-8">
+					<TITLE>Bookmarks</TITLE>
+					<H1>Bookmarks</H1>
+					<DL><p>
+					""");
+			writer.flush();
+		}
+
+		@Override
+		public void write(ExportedBookmark bookmark) throws IOException {
+			// 카테고리 이름순으로 정렬되어 오므로 이름이 바뀔 때만 폴더를 닫고 연다 (미분류가 먼저)
+			if (!started || !Objects.equals(currentCategory, bookmark.category())) {
+				if (currentCategory != null) {
+					writer.write("    </DL><p>\n");
+				}
+				if (bookmark.category() != null) {
+					writer.write("    <DT><H3>" + escape(bookmark.category()) + "</H3>\n    <DL><p>\n");
+				}
+				currentCategory = bookmark.category();
+				started = true;
+			}
+
+			String indent = currentCategory != null ? "        " : "    ";
+			writer.write(indent + "<DT><A HREF=\"" + escape(bookmark.url()) + "\"");
+			if (bookmark.createdAt() != null) {
+				writer.write(" ADD_DATE=\"" + bookmark.createdAt().atZone(ZoneId.systemDefault()).toEpochSecond() + "\"");
+			}
+			if (!bookmark.tags().isEmpty()) {
+				writer.write(" TAGS=\"" + escape(String.join(",", bookmark.tags())) + "\"");
+			}
+			writer.write(">" + escape(bookmark.title()) + "</A>\n");
+			if (bookmark.description() != null && !bookmark.description().isBlank()) {
+				writer.write(indent + "<DD>" + escape(bookmark.description()) + "\n");
+			}
+		}
+
+		@Override
+		public void end() throws IOException {
+			if (currentCategory != null) {
+				writer.write("    </DL><p>\n");
+			}
+			writer.write("</DL><p>\n");
+			writer.flush();
+		}
+
+		private static String escape(String value) {
+			return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+		}
+	}
+
+	/** 가져오기 API 의 JSON 형식과 같은 객체 배열 */
+	private static class JsonExportWriter implements ExportWriter {
+
+		private final JsonGenerator generator;
+
+		JsonExportWriter(ObjectMapper objectMapper, OutputStream out) throws IOException {
+			this.generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+			// 응답 스트림은 Spring MVC 가 닫는다
+			this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+		}
+
+		@Override
+		public void begin() throws IOException {
+			generator.writeStartArray();
+			generator.flush();
+		}
+
+		@Override
+		public void write(ExportedBookmark bookmark) throws IOException {
+			generator.writeStartObject();
+			generator.writeStringField("url", bookmark.url());
+			generator.writeStringField("title", bookmark.title());
+			generator.writeStringField("description", bookmark.description());
+			generator.writeStringField("category", bookmark.category());
+			generator.writeArrayFieldStart("tags");
+			for (String tag : bookmark.tags()) {
+				generator.writeString(tag);
+			}
+			generator.writeEndArray();
+			generator.writeStringField("createdAt",
+					bookmark.createdAt() != null ? bookmark.createdAt().toString() : null);
+			generator.writeEndObject();
+		}
+
+		@Override
+		public void end() throws IOException {
+			generator.writeEndArray();
+			generator.close();
+		}
+	}
+
+	/** RFC 4180 CSV. Excel 에서 한글이 깨지지 않도록 UTF-8 BOM 을 붙이고, 태그는 ';' 로 연결 */
+	private static class CsvExportWriter implements ExportWriter {
+
+		private final Writer writer;
+
+		CsvExportWriter(OutputStream out) {
+			this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+		}
+
+		@Override
+		public void begin() throws IOException {
+			writer.write("\uFEFFurl,title,description,category,tags,created_at\r\n");
+			writer.flush();
+		}
+
+		@Override
+		public void write(ExportedBookmark bookmark) throws IOException {
+			writer.write(text(bookmark.url()) + "," + text(bookmark.title()) + "," + text(bookmark.description())
+					+ "," + text(bookmark.category()) + "," + text(String.join(";", bookmark.tags())) + ","
+					+ field(bookmark.createdAt() != null ? bookmark.createdAt().toString() : null) + "\r\n");
+		}
+
+		@Override
+		public void end() throws IOException {
+			writer.flush();
+		}
+
+		/** 사용자 입력 텍스트(URL 포함): 스프레드시트가 수식으로 해석하지 않도록 =, +, -, @, 탭, CR 로 시작하면 ' 를 붙임 */
+		private static String text(String value) {
+			if (value != null && !value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+				return field("'" + value);
+			}
+			return field(value);
+		}
+
+		private static String field(String value) {
+			if (value == null) {
+				return "";
+			}
+			if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+				return "\"" + value.replace("\"", "\"\"") + "\"";
+			}
+			return value;
+		}
+	}
+}
@@ -0,0 +1,22 @@
+package com.linkly.bookmark;
+
+import java.util.Locale;
+
+/** 북마크 가져오기/내보내기 파일 형식 */
+public enum BookmarkFileFormat {
+
+	/** 브라우저(Chrome, Firefox, Safari, Edge) 내보내기 형식 */
+	HTML,
+	/** Linkly 형식 (url, title, description, category, tags 객체 배열) */
+	JSON,
+	/** 스프레드시트용 (내보내기 전용) */
+	CSV;
+
+	/** 파일 확장자로 형식 추정 (알 수 없으면 HTML) */
+	public static BookmarkFileFormat fromFilename(String filename) {
+		if (filename != null && filename.toLowerCase(Locale.ROOT).endsWith(".json")) {
+			return JSON;
+		}
+		return HTML;
+	}
+}
@@ -0,0 +1,32 @@
+package com.linkly.bookmark;
+
+import com.linkly.bookmark.dto.BookmarkImportStatusResponse;
+import org.springframework.web.multipart.MultipartFile;
+
+/** 북마크 가져오기 서비스 인터페이스 */
+public interface BookmarkImportService {
+
+	/**
+	 * 가져오기 시작 (업로드 파일을 임시 파일로 옮긴 뒤 백그라운드에서 처리)
+	 *
+	 * @param userId
+	 *            사용자 ID
+	 * @param file
+	 *            브라우저 내보내기 HTML 또는 Linkly JSON 파일
+	 * @param format
+	 *            파일 형식 (null 이면 파일명으로 추정)
+	 * @return 시작된 작업의 진행 상태
+	 */
+	BookmarkImportStatusResponse startImport(Long userId, MultipartFile file, BookmarkFileFormat format);
+
+	/**
+	 * 가져오기 진행 상태 조회
+	 *
+	 * @param userId
+	 *            사용자 ID (본인 작업만 조회 가능)
+	 * @param jobId
+	 *            작업 ID
+	 * @return 진행 상태
+	 */
+	BookmarkImportStatusResponse getStatus(Long userId, String jobId);
+}
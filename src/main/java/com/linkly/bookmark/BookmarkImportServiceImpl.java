@@ -0,0 +1,416 @@
+package com.linkly.bookmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkly.bookmark.dto.BookmarkImportStatusResponse;
+import com.linkly.bookmark.dto.BookmarkImportStatusResponse.Status;
+import com.linkly.bookmark.dto.ImportBookmarkEntry;
+import com.linkly.category.CategoryRepository;
+import com.linkly.domain.AppUser;
+import com.linkly.domain.Bookmark;
+import com.linkly.domain.BookmarkTagMap;
+import com.linkly.domain.Category;
+import com.linkly.domain.Tag;
+import com.linkly.global.config.BookmarkImportConfig;
+import com.linkly.global.exception.BusinessException;
+import com.linkly.global.exception.InvalidRequestException;
+import com.linkly.global.exception.ResourceNotFoundException;
+import com.linkly.global.util.NameCollation;
+import com.linkly.global.util.UrlNormalizer;
+import com.linkly.tag.TagPostings.Posting;
+import com.linkly.tag.TagRepository;
+import com.linkly.tag.TagUsageCounter;
+import com.linkly.user.AppUserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 북마크 가져오기.
+ *
+ * 파일을 스트리밍 파서로 읽으면서 batch-size 건씩 별도 트랜잭션으로 저장한다. 배치마다 이미 저장된 URL 을 정규화 URL 해시 IN 쿼리 한 번으로
+ * 걸러내고, 카테고리·태그 이름은 작업 시작 시 한 번 읽어 둔 맵으로 id 를 찾으며, 저장 후 영속성 컨텍스트를 비워 파일 크기와 무관하게 메모리를
+ * 일정하게 유지한다. 이름은 {@link NameCollation} 키로 찾고, 맵에 없는 이름은 저장 전에 DB 에 한 번 더 물어 collation 이 같은 기존
+ * 행을 재사용한다. URL 은 UrlNormalizer 기준으로 비교한다.
+ */
+@Slf4j
+@Service
+public class BookmarkImportServiceImpl implements BookmarkImportService {
+
+	private static final int MAX_URL_LENGTH = 500;
+	private static final int MAX_TITLE_LENGTH = 255;
+	private static final int MAX_CATEGORY_NAME_LENGTH = 50;
+	private static final int MAX_TAG_NAME_LENGTH = 100;
+
+	private final AppUserRepository userRepository;
+	private final BookmarkRepository bookmarkRepository;
+	private final CategoryRepository categoryRepository;
+	private final TagRepository tagRepository;
+	private final LocalCategoryClassifier localCategoryClassifier;
+	private final TagUsageCounter tagUsageCounter;
+	private final EntityManager entityManager;
+	private final TransactionTemplate transactionTemplate;
+	private final ObjectMapper objectMapper;
+	private final Executor bookmarkImportExecutor;
+	private final BookmarkImportConfig bookmarkImportConfig;
+
+	private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+	public BookmarkImportServiceImpl(AppUserRepository userRepository, BookmarkRepository bookmarkRepository,
+			CategoryRepository categoryRepository, TagRepository tagRepository,
+			LocalCategoryClassifier localCategoryClassifier, TagUsageCounter tagUsageCounter,
+			EntityManager entityManager, TransactionTemplate transactionTemplate, ObjectMapper objectMapper,
+			@Qualifier("bookmarkImportExecutor") Executor bookmarkImportExecutor,
+			BookmarkImportConfig bookmarkImportConfig) {
+		this.userRepository = userRepository;
+		this.bookmarkRepository = bookmarkRepository;
+		this.categoryRepository = categoryRepository;
+		this.tagRepository = tagRepository;
+		this.localCategoryClassifier = localCategoryClassifier;
+		this.tagUsageCounter = tagUsageCounter;
+		this.entityManager = entityManager;
+		this.transactionTemplate = transactionTemplate;
+		this.objectMapper = objectMapper;
+		this.bookmarkImportExecutor = bookmarkImportExecutor;
+		this.bookmarkImportConfig = bookmarkImportConfig;
+	}
+
+	@Override
+	public BookmarkImportStatusResponse startImport(Long userId, MultipartFile file, BookmarkFileFormat format) {
+		if (file == null || file.isEmpty()) {
+			throw new InvalidRequestException("가져올 파일이 비어 있습니다");
+		}
+		if (!userRepository.existsById(userId)) {
+			throw new ResourceNotFoundException("User", userId);
+		}
+
+		BookmarkFileFormat resolvedFormat = format != null
+				? format
+				: BookmarkFileFormat.fromFilename(file.getOriginalFilename());
+		if (resolvedFormat == BookmarkFileFormat.CSV) {
+			throw new InvalidRequestException("CSV 파일은 가져올 수 없습니다", "format=" + resolvedFormat);
+		}
+		ImportJob job = new ImportJob(UUID.randomUUID().toString(), userId, resolvedFormat);
+		synchronized (jobs) {
+			purgeExpiredJobs();
+			if (jobs.values().stream().anyMatch(existing -> existing.userId.equals(userId) && !existing.isFinished())) {
+				throw new InvalidRequestException("이미 진행 중인 가져오기가 있습니다", "userId=" + userId);
+			}
+			jobs.put(job.id, job);
+		}
+
+		// 요청이 끝나면 업로드 임시 파일이 삭제되므로 작업용 임시 파일로 옮겨 둠
+		Path tempFile = null;
+		try {
+			tempFile = Files.createTempFile("linkly-import-", "." + resolvedFormat.name().toLowerCase(Locale.ROOT));
+			file.transferTo(tempFile);
+			Path source = tempFile;
+			bookmarkImportExecutor.execute(() -> runImport(job, source));
+		} catch (IOException | RejectedExecutionException e) {
+			jobs.remove(job.id);
+			deleteQuietly(tempFile);
+			throw new BusinessException("가져오기 작업을 시작할 수 없습니다", e);
+		}
+
+		log.info("북마크 가져오기 시작: jobId={}, userId={}, format={}, bytes={}", job.id, userId, resolvedFormat,
+				file.getSize());
+		return job.toResponse();
+	}
+
+	@Override
+	public BookmarkImportStatusResponse getStatus(Long userId, String jobId) {
+		ImportJob job = jobs.get(jobId);
+		if (job == null || !job.userId.equals(userId)) {
+			throw new ResourceNotFoundException("ImportJob", jobId);
+		}
+		return job.toResponse();
+	}
+
+	private void runImport(ImportJob job, Path source) {
+		job.startedAt = LocalDateTime.now();
+		job.status = Status.RUNNING;
+		try (Reader reader = new BufferedReader(
+				new InputStreamReader(Files.newInputStream(source), StandardCharsets.UTF_8))) {
+			ImportBatch batch = new ImportBatch(job);
+			if (job.format == BookmarkFileFormat.JSON) {
+				JsonBookmarkParser.parse(objectMapper, reader, batch::add);
+			} else {
+				NetscapeBookmarkParser.parse(reader, batch::add);
+			}
+			batch.flush();
+			job.finishedAt = LocalDateTime.now();
+			job.status = Status.COMPLETED;
+			log.info("북마크 가져오기 완료: jobId={}, processed={}, imported={}, duplicates={}, skipped={}, failed={}",
+					job.id, job.processed, job.imported, job.duplicates, job.skipped, job.failed);
+		} catch (Exception e) {
+			job.error = e.getMessage();
+			job.finishedAt = LocalDateTime.now();
+			job.status = Status.FAILED;
+			log.warn("북마크 가져오기 실패: jobId={}, processed={}, error={}", job.id, job.processed, e.getMessage());
+		} finally {
+			deleteQuietly(source);
+			if (job.imported.get() > 0) {
+				localCategoryClassifier.invalidate(job.userId);
+			}
+		}
+	}
+
+	private void purgeExpiredJobs() {
+		LocalDateTime expiry = LocalDateTime.now().minusMinutes(bookmarkImportConfig.getJobTtlMinutes());
+		jobs.values().removeIf(job -> job.isFinished() && job.finishedAt != null && job.finishedAt.isBefore(expiry));
+	}
+
+	private static void deleteQuietly(Path path) {
+		if (path == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(path);
+		} catch (IOException e) {
+			log.warn("가져오기 임시 파일 삭제 실패: path={}", path);
+		}
+	}
+
+	private static String truncate(String value, int maxLength) {
+		return value.length() <= maxLength ? value : value.substring(0, maxLength);
+	}
+
+	static boolean isImportableUrl(String url) {
+		if (url == null || url.isEmpty() || url.length() > MAX_URL_LENGTH) {
+			return false;
+		}
+		String lower = url.toLowerCase(Locale.ROOT);
+		return lower.startsWith("http://") || lower.startsWith("https://");
+	}
+
+	/** 파서가 전달하는 북마크를 모아 batch-size 단위로 저장 (작업 스레드 하나에서만 사용) */
+	private class ImportBatch {
+
+		private final ImportJob job;
+		private final List<ImportBookmarkEntry> pending = new ArrayList<>();
+		private final Set<Long> seenUrlHashes = new HashSet<>();
+		private final Map<String, Long> categoryIds = new HashMap<>();
+		private final Map<String, Long> tagIds = new HashMap<>();
+
+		/** 삭제된 카테고리 이름. 이름 유니크 제약(ux_user_category_name) 때문에 다시 만들 수 없어 미분류로 저장 */
+		private final Set<String> deletedCategoryNames = new HashSet<>();
+
+		ImportBatch(ImportJob job) {
+			this.job = job;
+			loadNames();
+		}
+
+		void add(ImportBookmarkEntry entry) {
+			job.processed.incrementAndGet();
+			if (!isImportableUrl(entry.getUrl())) {
+				job.skipped.incrementAndGet();
+				return;
+			}
+			if (!seenUrlHashes.add(UrlNormalizer.hash(entry.getUrl()))) {
+				job.duplicates.incrementAndGet();
+				return;
+			}
+			pending.add(entry);
+			if (pending.size() >= bookmarkImportConfig.getBatchSize()) {
+				flush();
+			}
+		}
+
+		void flush() {
+			if (pending.isEmpty()) {
+				return;
+			}
+			List<ImportBookmarkEntry> entries = List.copyOf(pending);
+			pending.clear();
+			try {
+				Integer saved = transactionTemplate.execute(status -> save(entries));
+				int savedCount = saved != null ? saved : 0;
+				job.imported.addAndGet(savedCount);
+				job.duplicates.addAndGet(entries.size() - savedCount);
+			} catch (DataAccessException | PersistenceException e) {
+				// 같은 URL 이 동시에 저장되는 등 배치 전체가 롤백된 경우: 이 배치만 실패로 집계하고 계속 진행
+				job.failed.addAndGet(entries.size());
+				log.warn("북마크 가져오기 배치 실패: jobId={}, size={}, error={}", job.id, entries.size(), e.getMessage());
+				loadNames();
+			}
+		}
+
+		private int save(List<ImportBookmarkEntry> entries) {
+			Set<Long> existingUrlHashes = new HashSet<>(bookmarkRepository.findExistingUrlHashes(job.userId,
+					entries.stream().map(entry -> UrlNormalizer.hash(entry.getUrl())).toList()));
+			AppUser user = entityManager.getReference(AppUser.class, job.userId);
+			lockTags(entries);
+
+			int saved = 0;
+			List<Posting> addedMappings = new ArrayList<>();
+			Map<Long, String> addedTagNames = new HashMap<>();
+			for (ImportBookmarkEntry entry : entries) {
+				if (existingUrlHashes.contains(UrlNormalizer.hash(entry.getUrl()))) {
+					continue;
+				}
+				String title = entry.getTitle() != null ? entry.getTitle() : entry.getUrl();
+				Bookmark bookmark = Bookmark.builder().appUser(user).category(category(user, entry.getFolder()))
+						.url(entry.getUrl()).title(truncate(title, MAX_TITLE_LENGTH))
+						.description(entry.getDescription()).build();
+				entityManager.persist(bookmark);
+
+				Set<Long> mappedTagIds = new HashSet<>();
+				for (String tagName : BookmarkServiceImpl.normalizeTagNames(entry.getTags())) {
+					Tag tag = tag(user, truncate(tagName, MAX_TAG_NAME_LENGTH));
+					if (mappedTagIds.add(tag.getId())) {
+						entityManager.persist(BookmarkTagMap.builder().bookmark(bookmark).tag(tag).build());
+						addedMappings.add(new Posting(bookmark.getId(), tag.getId()));
+						addedTagNames.putIfAbsent(tag.getId(), tag.getName());
+					}
+				}
+				saved++;
+			}
+			entityManager.flush();
+			tagUsageCounter.increment(job.userId, addedMappings, addedTagNames);
+			entityManager.clear();
+			return saved;
+		}
+
+		/**
+		 * 배치에서 쓸 기존 태그를 잠가 고아 태그 정리가 매핑 INSERT 전에 지우지 못하게 함. 가져오기를 시작한 뒤 이미 지워진 태그는 캐시에서 빼서
+		 * 다시 만든다.
+		 */
+		private void lockTags(List<ImportBookmarkEntry> entries) {
+			Set<Long> cachedTagIds = new HashSet<>();
+			for (ImportBookmarkEntry entry : entries) {
+				for (String tagName : BookmarkServiceImpl.normalizeTagNames(entry.getTags())) {
+					Long tagId = tagIds.get(NameCollation.key(truncate(tagName, MAX_TAG_NAME_LENGTH)));
+					if (tagId != null) {
+						cachedTagIds.add(tagId);
+					}
+				}
+			}
+			if (cachedTagIds.isEmpty()) {
+				return;
+			}
+			Set<Long> lockedTagIds = new HashSet<>();
+			tagRepository.findAllForUpdateByIdIn(cachedTagIds).forEach(tag -> lockedTagIds.add(tag.getId()));
+			tagIds.values().removeIf(tagId -> cachedTagIds.contains(tagId) && !lockedTagIds.contains(tagId));
+		}
+
+		private Category category(AppUser user, String folder) {
+			if (folder == null || folder.isBlank()) {
+				return null;
+			}
+			String name = truncate(folder.strip(), MAX_CATEGORY_NAME_LENGTH);
+			if (deletedCategoryNames.contains(NameCollation.key(name))) {
+				return null;
+			}
+			Long categoryId = categoryIds.get(NameCollation.key(name));
+			if (categoryId == null) {
+				// 키가 다른데 collation 은 같은 기존 카테고리 (새로 만들면 ux_user_category_name 위반으로 배치 전체가 롤백됨)
+				Category category = categoryRepository.findByAppUserAndName(user, name).orElse(null);
+				if (category != null && category.getDeletedAt() != null) {
+					deletedCategoryNames.add(NameCollation.key(name));
+					return null;
+				}
+				if (category == null) {
+					category = Category.builder().appUser(user).name(name).build();
+					entityManager.persist(category);
+				}
+				categoryIds.put(NameCollation.key(name), category.getId());
+				return category;
+			}
+			return entityManager.getReference(Category.class, categoryId);
+		}
+
+		private Tag tag(AppUser user, String name) {
+			Long tagId = tagIds.get(NameCollation.key(name));
+			if (tagId == null) {
+				// 키가 다른데 collation 은 같은 기존 태그는 잠가서 재사용 (새로 만들면 ux_user_tag_name 위반)
+				Tag tag = tagRepository.findAllForUpdateByAppUserIdAndNameIn(job.userId, List.of(name)).stream()
+						.findFirst().orElse(null);
+				if (tag == null) {
+					tag = Tag.builder().appUser(user).name(name).build();
+					entityManager.persist(tag);
+				}
+				tagIds.put(NameCollation.key(name), tag.getId());
+				return tag;
+			}
+			return entityManager.getReference(Tag.class, tagId);
+		}
+
+		/** 사용자의 카테고리·태그 이름 → id (롤백된 배치에서 만든 이름을 지우기 위해 실패 시 다시 읽음) */
+		private void loadNames() {
+			categoryIds.clear();
+			deletedCategoryNames.clear();
+			tagIds.clear();
+			transactionTemplate.executeWithoutResult(status -> {
+				AppUser user = entityManager.getReference(AppUser.class, job.userId);
+				for (Category category : categoryRepository.findAllByAppUser(user)) {
+					if (category.getDeletedAt() == null) {
+						categoryIds.put(NameCollation.key(category.getName()), category.getId());
+					} else {
+						deletedCategoryNames.add(NameCollation.key(category.getName()));
+					}
+				}
+				for (Tag tag : tagRepository.findAllByAppUserId(job.userId)) {
+					tagIds.put(NameCollation.key(tag.getName()), tag.getId());
+				}
+			});
+		}
+	}
+
+	/** 진행 중/완료된 가져오기 작업 (카운터는 작업 스레드가 쓰고 상태 조회 요청이 읽음) */
+	private static class ImportJob {
+
+		private final String id;
+		private final Long userId;
+		private final BookmarkFileFormat format;
+		private final AtomicLong processed = new AtomicLong();
+		private final AtomicLong imported = new AtomicLong();
+		private final AtomicLong duplicates = new AtomicLong();
+		private final AtomicLong skipped = new AtomicLong();
+		private final AtomicLong failed = new AtomicLong();
+		private volatile Status status = Status.PENDING;
+		private volatile String error;
+		private volatile LocalDateTime startedAt;
+		private volatile LocalDateTime finishedAt;
+
+		ImportJob(String id, Long userId, BookmarkFileFormat format) {
+			this.id = id;
+			this.userId = userId;
+			this.format = format;
+		}
+
+		boolean isFinished() {
+			return status == Status.COMPLETED || status == Status.FAILED;
+		}
+
+		BookmarkImportStatusResponse toResponse() {
+			return BookmarkImportStatusResponse.builder().jobId(id).status(status).format(format.name())
+					.processed(processed.get()).imported(imported.get()).duplicates(duplicates.get())
+					.skipped(skipped.get()).failed(failed.get()).error(error).startedAt(startedAt)
+					.finishedAt(finishedAt).build();
+		}
+	}
+}
@@ -1,12 +1,23 @@
 package com.linkly.bookmark;
 
+import com.linkly.bookmark.dto.BookmarkExportRow;
+import com.linkly.bookmark.dto.CategorizedBookmarkRow;
 import com.linkly.domain.AppUser;
 import com.linkly.domain.Bookmark;
 import com.linkly.domain.Category;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -34,17 +45,26 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
 	/** 사용자별, URL별 북마크 존재 여부 확인 */
 	boolean existsByAppUserAndUrl(AppUser appUser, String url);
 
+	/** 정규화 URL 해시가 같은 다른 북마크 존재 여부 (삭제된 북마크 포함, ux_bookmark_user_url_hash 기준) */
+	boolean existsByAppUserIdAndUrlHashAndIdNot(Long userId, Long urlHash, Long id);
+
 	/** 사용자 ID로 북마크 조회 */
 	List<Bookmark> findAllByAppUserId(Long userId);
 
-	/** 사용자 ID와 삭제되지 않은 북마크 조회 */
+	/** 사용자 ID와 삭제되지 않은 북마크 조회 (응답 변환에 쓰는 카테고리 함께 조회) */
+	@EntityGraph(attributePaths = "category")
 	List<Bookmark> findAllByAppUserIdAndDeletedAtIsNull(Long userId);
 
+	/** ID 목록으로 삭제되지 않은 북마크 조회 (응답 변환에 쓰는 카테고리 함께 조회) */
+	@EntityGraph(attributePaths = "category")
+	List<Bookmark> findAllByIdInAndDeletedAtIsNull(Collection<Long> ids);
+
 	/** 삭제되지 않은 전체 북마크 조회 (헬스체크 스케줄러용) */
 	List<Bookmark> findAllByDeletedAtIsNull();
 
 	/** 키워드 + 선택적 카테고리 검색 (제목·URL·설명·태그명 대상) */
 	@Query("SELECT DISTINCT b FROM Bookmark b " +
+		   "LEFT JOIN FETCH b.category " +
 		   "LEFT JOIN BookmarkTagMap btm ON btm.bookmark = b " +
 		   "LEFT JOIN btm.tag t " +
 		   "WHERE b.appUser.id = :userId " +
@@ -57,4 +77,49 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
 	List<Bookmark> searchBookmarks(@Param("userId") Long userId,
 								   @Param("keyword") String keyword,
 								   @Param("categoryId") Long categoryId);
+
+	/** 카테고리가 지정된 활성 북마크의 학습용 텍스트 조회 (로컬 카테고리 분류기용, 최신순) */
+	@Query("SELECT new com.linkly.bookmark.dto.CategorizedBookmarkRow(c.name, b.title, b.description) " +
+		   "FROM Bookmark b JOIN b.category c " +
+		   "WHERE b.appUser.id = :userId " +
+		   "AND b.deletedAt IS NULL " +
+		   "AND c.deletedAt IS NULL " +
+		   "ORDER BY b.id DESC")
+	List<CategorizedBookmarkRow> findCategorizedRows(@Param("userId") Long userId, Pageable pageable);
+
+	/** 주어진 정규화 URL 해시 중 이미 저장된 해시 (삭제된 북마크 포함, ux_bookmark_user_url_hash 기준) */
+	@Query("SELECT b.urlHash FROM Bookmark b WHERE b.appUser.id = :userId AND b.urlHash IN :urlHashes")
+	List<Long> findExistingUrlHashes(@Param("userId") Long userId, @Param("urlHashes") Collection<Long> urlHashes);
+
+	/**
+	 * 내보내기용 커서 조회 (엔티티 대신 projection, 카테고리 이름·북마크 순으로 정렬해 같은 북마크의 태그 행이 연속). 트랜잭션 안에서 소비하고
+	 * 반드시 닫아야 한다. MySQL 은 useCursorFetch=true 일 때 fetch size 단위로 읽는다.
+	 */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+	@Query("SELECT new com.linkly.bookmark.dto.BookmarkExportRow(b.id, b.url, b.title, b.description, c.name, "
+			+ "b.createdAt, t.name) " + "FROM Bookmark b LEFT JOIN b.category c ON c.deletedAt IS NULL "
+			+ "LEFT JOIN BookmarkTagMap btm ON btm.bookmark = b " + "LEFT JOIN btm.tag t "
+			+ "WHERE b.appUser.id = :userId AND b.deletedAt IS NULL " + "ORDER BY c.name, b.id, btm.id")
+	Stream<BookmarkExportRow> streamExportRows(@Param("userId") Long userId);
+
+	/** 주어진 ID 중 사용자가 소유한 활성 북마크 ID (일괄 작업 권한 확인용) */
+	@Query("SELECT b.id FROM Bookmark b WHERE b.id IN :ids AND b.appUser.id = :userId AND b.deletedAt IS NULL")
+	List<Long> findActiveIdsOwnedBy(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+	/** 일괄 Soft Delete (벌크 UPDATE 는 auditing 이 적용되지 않으므로 updatedAt 도 직접 갱신) */
+	@Modifying
+	@Query("UPDATE Bookmark b SET b.deletedAt = :now, b.updatedAt = :now WHERE b.id IN :ids AND b.deletedAt IS NULL")
+	int softDeleteAllByIdIn(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+	/** 일괄 카테고리 변경 (category 가 null 이면 미분류) */
+	@Modifying
+	@Query("UPDATE Bookmark b SET b.category = :category, b.updatedAt = :now WHERE b.id IN :ids")
+	int updateCategoryByIdIn(@Param("ids") Collection<Long> ids, @Param("category") Category category,
+			@Param("now") LocalDateTime now);
+
+	/** 카테고리의 모든 북마크(삭제된 북마크 포함)를 다른 카테고리로 옮김 (target 이 null 이면 미분류) */
+	@Modifying
+	@Query("UPDATE Bookmark b SET b.category = :target, b.updatedAt = :now WHERE b.category.id = :categoryId")
+	int reassignCategory(@Param("categoryId") Long categoryId, @Param("target") Category target,
+			@Param("now") LocalDateTime now);
 }
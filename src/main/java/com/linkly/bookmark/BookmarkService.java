@@ -2,6 +2,7 @@ package com.linkly.bookmark;
 
 import com.linkly.bookmark.dto.BookmarkResponse;
 import com.linkly.bookmark.dto.CreateBookmarkRequest;
+import com.linkly.bookmark.dto.TagFilterResponse;
 import com.linkly.bookmark.dto.UpdateBookmarkRequest;
 import java.util.List;
 
@@ -72,4 +73,24 @@ public interface BookmarkService {
 	 * @return 검색된 북마크 목록
 	 */
 	List<BookmarkResponse> searchBookmarks(Long userId, String keyword, Long categoryId);
+
+	/**
+	 * 태그 조합으로 북마크 필터링 (all AND any OR none NOT, 최신순)
+	 *
+	 * @param userId
+	 *            사용자 ID
+	 * @param all
+	 *            모두 붙어 있어야 하는 태그 이름
+	 * @param any
+	 *            하나 이상 붙어 있어야 하는 태그 이름
+	 * @param none
+	 *            붙어 있으면 제외할 태그 이름
+	 * @param page
+	 *            페이지 번호 (0부터)
+	 * @param size
+	 *            페이지 크기
+	 * @return 조건에 맞는 북마크 한 페이지와 전체 수
+	 */
+	TagFilterResponse filterBookmarksByTags(Long userId, List<String> all, List<String> any, List<String> none,
+			int page, int size);
 }
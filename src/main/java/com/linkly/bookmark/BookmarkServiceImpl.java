@@ -1,19 +1,36 @@
 package com.linkly.bookmark;
 
 import com.linkly.bookmark.dto.BookmarkResponse;
+import com.linkly.bookmark.dto.BookmarkTagNameRow;
 import com.linkly.bookmark.dto.CreateBookmarkRequest;
+import com.linkly.bookmark.dto.TagFilterResponse;
 import com.linkly.bookmark.dto.UpdateBookmarkRequest;
 import com.linkly.category.CategoryRepository;
 import com.linkly.domain.*;
 import com.linkly.global.exception.InvalidRequestException;
 import com.linkly.global.exception.ResourceNotFoundException;
+import com.linkly.global.util.NameCollation;
+import com.linkly.global.util.UrlNormalizer;
+import com.linkly.tag.TagNameLookup;
+import com.linkly.tag.TagPostingIndex;
+import com.linkly.tag.TagPostings.Posting;
 import com.linkly.tag.TagRepository;
+import com.linkly.tag.TagUsageCounter;
 import com.linkly.user.AppUserRepository;
+import io.micrometer.core.annotation.Timed;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,48 +38,50 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Timed(value = "bookmark.service", description = "BookmarkService 메서드 실행 시간 (class, method 태그)")
 public class BookmarkServiceImpl implements BookmarkService {
 
+	/** (사용자, 정규화 URL 해시) 유니크 제약 이름 (Bookmark 엔티티 / V7 마이그레이션의 (app_user_id, url_hash)) */
+	private static final String DUPLICATE_URL_CONSTRAINT = "ux_bookmark_user_url_hash";
+
+	/** 북마크 → 사용자 외래 키 이름 */
+	private static final String USER_FOREIGN_KEY = "fk_bookmark_user";
+
+	/** 태그 필터 페이지 크기 상한 */
+	static final int MAX_TAG_FILTER_PAGE_SIZE = 200;
+
+	/** 태그 필터 offset(page × size) 상한. 색인은 offset 만큼 건너뛰며 읽으므로 깊은 페이지를 막는다 */
+	static final int MAX_TAG_FILTER_OFFSET = 10_000;
+
 	private final BookmarkRepository bookmarkRepository;
 	private final AppUserRepository userRepository;
 	private final CategoryRepository categoryRepository;
 	private final TagRepository tagRepository;
 	private final BookmarkTagMapRepository bookmarkTagMapRepository;
+	private final TagUsageCounter tagUsageCounter;
+	private final TagPostingIndex tagPostingIndex;
 
 	@Override
 	@Transactional
 	public BookmarkResponse createBookmark(Long userId, CreateBookmarkRequest request) {
-		log.info("북마크 생성 시도: userId={}, url={}", userId, request.getUrl());
-
-		// 사용자 조회
-		AppUser user = userRepository.findByIdAndDeletedAtIsNull(userId)
-				.orElseThrow(() -> new ResourceNotFoundException("User", userId));
-
-		// URL 중복 체크 (같은 사용자 내에서)
-		if (bookmarkRepository.findByAppUserAndUrl(user, request.getUrl()).isPresent()) {
-			throw new InvalidRequestException("이미 저장된 URL입니다", "url=" + request.getUrl());
-		}
+		log.debug("북마크 생성 시도: userId={}, url={}", userId, request.getUrl());
 
-		// 카테고리 조회 (있는 경우)
-		Category category = null;
-		if (request.getCategoryId() != null) {
-			category = categoryRepository.findByIdAndDeletedAtIsNull(request.getCategoryId())
-					.orElseThrow(() -> new ResourceNotFoundException("Category", request.getCategoryId()));
+		// 카테고리 소유자 확인 (있는 경우)
+		Category category = findOwnedCategory(request.getCategoryId(), userId);
 
-			// 카테고리 소유자 확인
-			if (!category.getAppUser().getId().equals(userId)) {
-				throw new InvalidRequestException("해당 카테고리를 사용할 권한이 없습니다", "categoryId=" + request.getCategoryId());
-			}
-		}
+		// 활성 사용자인지는 인증 필터가 이미 확인했으므로 조회 없이 참조만 사용
+		AppUser user = userRepository.getReferenceById(userId);
 
-		// 북마크 생성
+		// 북마크 생성 (정규화 URL 중복은 INSERT 시 ux_bookmark_user_url_hash 위반으로 확인)
 		Bookmark bookmark = Bookmark.builder().appUser(user).category(category).url(request.getUrl())
 				.title(request.getTitle()).description(request.getDescription()).build();
 
-		Bookmark savedBookmark = bookmarkRepository.save(bookmark);
+		Bookmark savedBookmark = insertBookmark(bookmark, userId);
 
 		// 태그 처리
-		List<String> tagNames = processTags(savedBookmark, user, request.getTags());
+		List<String> tagNames = addTags(savedBookmark, user,
+				normalizeTagNames(request.getTags() != null ? request.getTags() : List.of())).values().stream()
+				.map(Tag::getName).toList();
 
 		log.info("북마크 생성 완료: bookmarkId={}, tags={}", savedBookmark.getId(), tagNames);
 
@@ -92,14 +111,13 @@ public class BookmarkServiceImpl implements BookmarkService {
 
 		List<Bookmark> bookmarks = bookmarkRepository.findAllByAppUserIdAndDeletedAtIsNull(userId);
 
-		return bookmarks.stream().map(bookmark -> BookmarkResponse.from(bookmark, getTagNames(bookmark)))
-				.collect(Collectors.toList());
+		return toResponses(bookmarks);
 	}
 
 	@Override
 	@Transactional
 	public BookmarkResponse updateBookmark(Long bookmarkId, Long userId, UpdateBookmarkRequest request) {
-		log.info("북마크 수정 시도: bookmarkId={}, userId={}", bookmarkId, userId);
+		log.debug("북마크 수정 시도: bookmarkId={}, userId={}", bookmarkId, userId);
 
 		// 북마크 조회
 		Bookmark bookmark = bookmarkRepository.findByIdAndDeletedAtIsNull(bookmarkId)
@@ -111,36 +129,25 @@ public class BookmarkServiceImpl implements BookmarkService {
 					"bookmarkId=" + bookmarkId + ", userId=" + userId);
 		}
 
-		// URL 변경 시 중복 체크
+		// URL 변경 시 중복 체크 (정규화 URL 해시 인덱스만 읽는 exists 쿼리, 표기만 바뀐 자기 자신은 제외)
 		if (request.getUrl() != null && !request.getUrl().equals(bookmark.getUrl())) {
-			if (bookmarkRepository.findByAppUserAndUrl(bookmark.getAppUser(), request.getUrl()).isPresent()) {
+			if (bookmarkRepository.existsByAppUserIdAndUrlHashAndIdNot(userId, UrlNormalizer.hash(request.getUrl()),
+					bookmarkId)) {
 				throw new InvalidRequestException("이미 저장된 URL입니다", "url=" + request.getUrl());
 			}
 		}
 
 		// 카테고리 변경 (null 가능)
-		Category category = null;
-		if (request.getCategoryId() != null) {
-			category = categoryRepository.findByIdAndDeletedAtIsNull(request.getCategoryId())
-					.orElseThrow(() -> new ResourceNotFoundException("Category", request.getCategoryId()));
-
-			// 카테고리 소유자 확인
-			if (!category.getAppUser().getId().equals(userId)) {
-				throw new InvalidRequestException("해당 카테고리를 사용할 권한이 없습니다", "categoryId=" + request.getCategoryId());
-			}
-		}
+		Category category = findOwnedCategory(request.getCategoryId(), userId);
 
 		// 북마크 정보 수정
-		bookmark.updateInfo(request.getTitle(), request.getDescription(), request.getUrl());
+		bookmark.updateInfo(request.getTitle(), request.getUrl(), request.getDescription());
 		bookmark.changeCategory(category);
 
-		// 태그 수정 (있는 경우 전체 교체)
+		// 태그 수정 (있는 경우 전체 교체, 바뀐 태그만 반영)
 		List<String> tagNames;
 		if (request.getTags() != null) {
-			// 기존 태그 매핑 삭제
-			bookmarkTagMapRepository.deleteAllByBookmark(bookmark);
-			// 새 태그 추가
-			tagNames = processTags(bookmark, bookmark.getAppUser(), request.getTags());
+			tagNames = replaceTags(bookmark, bookmark.getAppUser(), request.getTags());
 		} else {
 			tagNames = getTagNames(bookmark);
 		}
@@ -153,7 +160,7 @@ public class BookmarkServiceImpl implements BookmarkService {
 	@Override
 	@Transactional
 	public void deleteBookmark(Long bookmarkId, Long userId) {
-		log.info("북마크 삭제 시도: bookmarkId={}, userId={}", bookmarkId, userId);
+		log.debug("북마크 삭제 시도: bookmarkId={}, userId={}", bookmarkId, userId);
 
 		// 북마크 조회
 		Bookmark bookmark = bookmarkRepository.findByIdAndDeletedAtIsNull(bookmarkId)
@@ -165,8 +172,9 @@ public class BookmarkServiceImpl implements BookmarkService {
 					"bookmarkId=" + bookmarkId + ", userId=" + userId);
 		}
 
-		// 태그 매핑 삭제
-		bookmarkTagMapRepository.deleteAllByBookmark(bookmark);
+		// 태그 매핑 삭제 (DELETE 한 번)
+		tagUsageCounter.decrementForBookmarks(userId, List.of(bookmarkId));
+		bookmarkTagMapRepository.deleteAllByBookmarkIdIn(List.of(bookmarkId));
 
 		// Soft Delete
 		bookmark.softDelete();
@@ -184,39 +192,185 @@ public class BookmarkServiceImpl implements BookmarkService {
 
 		List<Bookmark> bookmarks = bookmarkRepository.searchBookmarks(userId, keyword, categoryId);
 
-		return bookmarks.stream().map(b -> BookmarkResponse.from(b, getTagNames(b))).collect(Collectors.toList());
+		return toResponses(bookmarks);
 	}
 
-	/** 태그 처리: 태그가 없으면 생성, 있으면 재사용 */
-	private List<String> processTags(Bookmark bookmark, AppUser user, List<String> tagNames) {
-		if (tagNames == null || tagNames.isEmpty()) {
-			return new ArrayList<>();
+	@Override
+	public TagFilterResponse filterBookmarksByTags(Long userId, List<String> all, List<String> any,
+			List<String> none, int requestedPage, int requestedSize) {
+		int page = Math.max(requestedPage, 0);
+		int size = Math.min(Math.max(requestedSize, 1), MAX_TAG_FILTER_PAGE_SIZE);
+		if ((long) page * size > MAX_TAG_FILTER_OFFSET) {
+			throw new InvalidRequestException("page × size 는 " + MAX_TAG_FILTER_OFFSET + " 이하여야 합니다",
+					"userId=" + userId + ", page=" + page + ", size=" + size);
+		}
+		List<String> allTags = normalizeTagNames(all != null ? all : List.of());
+		List<String> anyTags = normalizeTagNames(any != null ? any : List.of());
+		List<String> noneTags = normalizeTagNames(none != null ? none : List.of());
+		log.debug("태그 필터: userId={}, all={}, any={}, none={}, page={}, size={}", userId, allTags, anyTags, noneTags,
+				page, size);
+
+		// NOT 만으로는 '태그 없는 북마크'까지 포함한 전체 집합이 필요하므로 양의 조건을 요구
+		if (allTags.isEmpty() && anyTags.isEmpty()) {
+			throw new InvalidRequestException("all 또는 any 태그를 하나 이상 지정해야 합니다", "userId=" + userId);
 		}
 
-		List<String> result = new ArrayList<>();
+		TagPostingIndex.Result result = tagPostingIndex.filter(userId, allTags, anyTags, noneTags,
+				page * size, size);
+		if (result.bookmarkIds().isEmpty()) {
+			return TagFilterResponse.builder().bookmarks(new ArrayList<>()).total(result.total()).page(page).size(size)
+					.build();
+		}
 
-		for (String tagName : tagNames) {
-			// 태그 조회 또는 생성
-			Tag tag = tagRepository.findByAppUserAndName(user, tagName).orElseGet(() -> {
-				Tag newTag = Tag.builder().appUser(user).name(tagName).build();
-				return tagRepository.save(newTag);
-			});
-
-			// 북마크-태그 매핑 생성 (중복 체크)
-			if (!bookmarkTagMapRepository.existsByBookmarkAndTag(bookmark, tag)) {
-				BookmarkTagMap mapping = BookmarkTagMap.builder().bookmark(bookmark).tag(tag).build();
-				bookmarkTagMapRepository.save(mapping);
+		// IN 조회는 순서를 보장하지 않으므로 색인 순서(최신순)로 다시 정렬
+		Map<Long, Bookmark> bookmarksById = bookmarkRepository.findAllByIdInAndDeletedAtIsNull(result.bookmarkIds())
+				.stream().collect(Collectors.toMap(Bookmark::getId, Function.identity()));
+		List<Bookmark> bookmarks = result.bookmarkIds().stream().map(bookmarksById::get).filter(Objects::nonNull)
+				.toList();
+
+		return TagFilterResponse.builder().bookmarks(toResponses(bookmarks)).total(result.total()).page(page).size(size)
+				.build();
+	}
+
+	/**
+	 * 사용자의 활성 카테고리 조회 (categoryId 가 null 이면 null). 소유자 비교는 AppUser 프록시의 ID 만 쓰므로 사용자를 읽지 않고, 응답에
+	 * 카테고리 이름이 필요하므로 카테고리 자체는 한 번 조회한다.
+	 */
+	private Category findOwnedCategory(Long categoryId, Long userId) {
+		if (categoryId == null) {
+			return null;
+		}
+		Category category = categoryRepository.findByIdAndDeletedAtIsNull(categoryId)
+				.orElseThrow(() -> new ResourceNotFoundException("Category", categoryId));
+		if (!category.getAppUser().getId().equals(userId)) {
+			throw new InvalidRequestException("해당 카테고리를 사용할 권한이 없습니다", "categoryId=" + categoryId);
+		}
+		return category;
+	}
+
+	/** 미리 조회하지 않고 INSERT 한 뒤 제약 조건 위반을 중복 URL·없는 사용자로 변환 */
+	private Bookmark insertBookmark(Bookmark bookmark, Long userId) {
+		try {
+			return bookmarkRepository.saveAndFlush(bookmark);
+		} catch (DataIntegrityViolationException e) {
+			String cause = String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase(Locale.ROOT);
+			if (cause.contains(DUPLICATE_URL_CONSTRAINT)) {
+				throw new InvalidRequestException("이미 저장된 URL입니다", "url=" + bookmark.getUrl());
 			}
+			if (cause.contains(USER_FOREIGN_KEY)) {
+				throw new ResourceNotFoundException("User", userId);
+			}
+			throw e;
+		}
+	}
 
-			result.add(tag.getName());
+	/**
+	 * 태그 전체 교체: 현재 매핑과 비교해 빠진 태그는 DELETE 한 번, 새 태그는 배치 INSERT 로 반영한다. 태그가 그대로면 쓰기가 없다. 이름
+	 * 비교는 {@link NameCollation} 으로 DB collation 과 맞춘다.
+	 */
+	private List<String> replaceTags(Bookmark bookmark, AppUser user, List<String> tagNames) {
+		Map<String, Tag> currentByKey = new LinkedHashMap<>();
+		for (Tag tag : bookmarkTagMapRepository.findTagsByBookmarkId(bookmark.getId())) {
+			currentByKey.putIfAbsent(NameCollation.key(tag.getName()), tag);
+		}
+		Map<String, String> requestedByKey = new LinkedHashMap<>();
+		for (String tagName : normalizeTagNames(tagNames)) {
+			requestedByKey.putIfAbsent(NameCollation.key(tagName), tagName);
+		}
+
+		List<Long> removedTagIds = currentByKey.entrySet().stream()
+				.filter(entry -> !requestedByKey.containsKey(entry.getKey())).map(entry -> entry.getValue().getId())
+				.toList();
+		if (!removedTagIds.isEmpty()) {
+			tagUsageCounter.decrementForBookmarks(user.getId(), List.of(bookmark.getId()), removedTagIds);
+			bookmarkTagMapRepository.deleteAllByBookmarkIdInAndTagIdIn(List.of(bookmark.getId()), removedTagIds);
 		}
 
+		List<String> addedNames = requestedByKey.entrySet().stream()
+				.filter(entry -> !currentByKey.containsKey(entry.getKey())).map(Map.Entry::getValue).toList();
+		Map<String, Tag> addedByKey = addTags(bookmark, user, addedNames);
+
+		List<String> result = new ArrayList<>();
+		for (String key : requestedByKey.keySet()) {
+			Tag tag = currentByKey.containsKey(key) ? currentByKey.get(key) : addedByKey.get(key);
+			result.add(tag.getName());
+		}
+		log.debug("태그 변경: bookmarkId={}, removed={}, added={}", bookmark.getId(), removedTagIds.size(),
+				addedNames.size());
 		return result;
 	}
 
+	/**
+	 * 아직 매핑이 없는 태그 이름들을 붙임 (태그 조회 한 번, 없는 태그와 매핑은 배치 INSERT)
+	 *
+	 * @return {@link NameCollation} 키 → 태그 (입력 순서, collation 이 같은 이름은 하나로 합침)
+	 */
+	private Map<String, Tag> addTags(Bookmark bookmark, AppUser user, List<String> tagNames) {
+		Map<String, Tag> tagsByKey = new LinkedHashMap<>();
+		if (tagNames.isEmpty()) {
+			return tagsByKey;
+		}
+		Map<String, String> namesByKey = new LinkedHashMap<>();
+		for (String tagName : tagNames) {
+			namesByKey.putIfAbsent(NameCollation.key(tagName), tagName);
+		}
+		// 기존 태그를 잠가 고아 태그 정리가 매핑 INSERT 전에 지우지 못하게 함 (이미 지워졌으면 아래에서 새로 만듦)
+		Map<String, Tag> existingByKey = TagNameLookup.lockExisting(tagRepository, user.getId(),
+				new ArrayList<>(namesByKey.values()));
+
+		Map<String, Tag> newByKey = new LinkedHashMap<>();
+		namesByKey.forEach((key, tagName) -> {
+			if (!existingByKey.containsKey(key)) {
+				newByKey.put(key, Tag.builder().appUser(user).name(tagName).build());
+			}
+		});
+		if (!newByKey.isEmpty()) {
+			for (Tag tag : tagRepository.saveAll(new ArrayList<>(newByKey.values()))) {
+				existingByKey.put(NameCollation.key(tag.getName()), tag);
+			}
+		}
+		for (String key : namesByKey.keySet()) {
+			tagsByKey.put(key, existingByKey.get(key));
+		}
+
+		bookmarkTagMapRepository.saveAll(tagsByKey.values().stream()
+				.map(tag -> BookmarkTagMap.builder().bookmark(bookmark).tag(tag).build()).toList());
+		tagUsageCounter.increment(user.getId(),
+				tagsByKey.values().stream().map(tag -> new Posting(bookmark.getId(), tag.getId())).toList(),
+				tagsByKey.values().stream().collect(Collectors.toMap(Tag::getId, Tag::getName, (a, b) -> a)));
+		return tagsByKey;
+	}
+
+	/** 앞뒤 공백 제거, 빈 이름 제외, 입력 순서를 유지한 채 중복 제거 */
+	static List<String> normalizeTagNames(List<String> tagNames) {
+		Set<String> normalized = new LinkedHashSet<>();
+		for (String tagName : tagNames) {
+			if (tagName != null && !tagName.isBlank()) {
+				normalized.add(tagName.strip());
+			}
+		}
+		return new ArrayList<>(normalized);
+	}
+
 	/** 북마크의 태그 이름 목록 조회 */
 	private List<String> getTagNames(Bookmark bookmark) {
-		return bookmarkTagMapRepository.findAllByBookmark(bookmark).stream().map(mapping -> mapping.getTag().getName())
+		return bookmarkTagMapRepository.findTagNameRows(List.of(bookmark.getId())).stream()
+				.map(BookmarkTagNameRow::getTagName).collect(Collectors.toList());
+	}
+
+	/** 목록 응답 변환: 태그 이름을 북마크 수와 무관하게 한 번의 쿼리로 조회 */
+	private List<BookmarkResponse> toResponses(List<Bookmark> bookmarks) {
+		if (bookmarks.isEmpty()) {
+			return new ArrayList<>();
+		}
+		List<Long> bookmarkIds = bookmarks.stream().map(Bookmark::getId).toList();
+		Map<Long, List<String>> tagNamesByBookmarkId = bookmarkTagMapRepository.findTagNameRows(bookmarkIds).stream()
+				.collect(Collectors.groupingBy(BookmarkTagNameRow::getBookmarkId,
+						Collectors.mapping(BookmarkTagNameRow::getTagName, Collectors.toList())));
+
+		return bookmarks.stream()
+				.map(bookmark -> BookmarkResponse.from(bookmark,
+						tagNamesByBookmarkId.getOrDefault(bookmark.getId(), new ArrayList<>())))
 				.collect(Collectors.toList());
 	}
 }
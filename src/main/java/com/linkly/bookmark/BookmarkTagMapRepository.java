@@ -1,11 +1,15 @@
 package com.linkly.bookmark;
 
+import com.linkly.bookmark.dto.BookmarkTagIdRow;
+import com.linkly.bookmark.dto.BookmarkTagNameRow;
 import com.linkly.domain.Bookmark;
 import com.linkly.domain.BookmarkTagMap;
 import com.linkly.domain.Tag;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,6 +20,15 @@ public interface BookmarkTagMapRepository extends JpaRepository<BookmarkTagMap,
 	/** 북마크별 모든 태그 매핑 조회 */
 	List<BookmarkTagMap> findAllByBookmark(Bookmark bookmark);
 
+	/** 여러 북마크의 태그 이름을 한 번에 조회 (매핑 순서대로) */
+	@Query("SELECT new com.linkly.bookmark.dto.BookmarkTagNameRow(btm.bookmark.id, t.name) "
+			+ "FROM BookmarkTagMap btm JOIN btm.tag t " + "WHERE btm.bookmark.id IN :bookmarkIds " + "ORDER BY btm.id")
+	List<BookmarkTagNameRow> findTagNameRows(@Param("bookmarkIds") Collection<Long> bookmarkIds);
+
+	/** 북마크에 붙은 태그 조회 (매핑 순서대로) */
+	@Query("SELECT t FROM BookmarkTagMap btm JOIN btm.tag t " + "WHERE btm.bookmark.id = :bookmarkId " + "ORDER BY btm.id")
+	List<Tag> findTagsByBookmarkId(@Param("bookmarkId") Long bookmarkId);
+
 	/** 태그별 모든 북마크 매핑 조회 */
 	List<BookmarkTagMap> findAllByTag(Tag tag);
 
@@ -31,14 +44,42 @@ public interface BookmarkTagMapRepository extends JpaRepository<BookmarkTagMap,
 	/** 태그 ID로 모든 매핑 조회 */
 	List<BookmarkTagMap> findAllByTagId(Long tagId);
 
-	/** 북마크에 연결된 모든 매핑 삭제 */
-	void deleteAllByBookmark(Bookmark bookmark);
+	/** 북마크에 연결된 모든 매핑을 DELETE 한 번으로 삭제 (파생 삭제는 엔티티를 모두 읽어 한 건씩 지움) */
+	@Modifying
+	@Query("DELETE FROM BookmarkTagMap btm WHERE btm.bookmark = :bookmark")
+	int deleteAllByBookmark(@Param("bookmark") Bookmark bookmark);
+
+	/** 태그에 연결된 모든 매핑을 DELETE 한 번으로 삭제 */
+	@Modifying
+	@Query("DELETE FROM BookmarkTagMap btm WHERE btm.tag = :tag")
+	int deleteAllByTag(@Param("tag") Tag tag);
 
-	/** 태그에 연결된 모든 매핑 삭제 */
-	void deleteAllByTag(Tag tag);
+	/** 여러 북마크와 태그 사이에 이미 있는 매핑 조회 (일괄 태그 추가용) */
+	@Query("SELECT new com.linkly.bookmark.dto.BookmarkTagIdRow(btm.bookmark.id, btm.tag.id) "
+			+ "FROM BookmarkTagMap btm " + "WHERE btm.bookmark.id IN :bookmarkIds AND btm.tag.id IN :tagIds")
+	List<BookmarkTagIdRow> findIdRows(@Param("bookmarkIds") Collection<Long> bookmarkIds,
+			@Param("tagIds") Collection<Long> tagIds);
 
-	/** 특정 태그들이 모두 포함된 북마크 조회 */
-	@Query("SELECT btm.bookmark FROM BookmarkTagMap btm " + "WHERE btm.tag.id IN :tagIds " + "GROUP BY btm.bookmark "
+	/** 여러 북마크의 모든 매핑을 DELETE 한 번으로 삭제 */
+	@Modifying
+	@Query("DELETE FROM BookmarkTagMap btm WHERE btm.bookmark.id IN :bookmarkIds")
+	int deleteAllByBookmarkIdIn(@Param("bookmarkIds") Collection<Long> bookmarkIds);
+
+	/** 여러 북마크에서 특정 태그들의 매핑을 DELETE 한 번으로 삭제 */
+	@Modifying
+	@Query("DELETE FROM BookmarkTagMap btm WHERE btm.bookmark.id IN :bookmarkIds AND btm.tag.id IN :tagIds")
+	int deleteAllByBookmarkIdInAndTagIdIn(@Param("bookmarkIds") Collection<Long> bookmarkIds,
+			@Param("tagIds") Collection<Long> tagIds);
+
+	/** 사용자의 활성 북마크 중 특정 태그들이 모두 포함된 북마크 조회 */
+	@Query("SELECT b FROM BookmarkTagMap btm JOIN btm.bookmark b "
+			+ "WHERE btm.tag.id IN :tagIds AND b.appUser.id = :userId AND b.deletedAt IS NULL " + "GROUP BY b "
 			+ "HAVING COUNT(DISTINCT btm.tag.id) = :tagCount")
-	List<Bookmark> findBookmarksByAllTags(@Param("tagIds") List<Long> tagIds, @Param("tagCount") long tagCount);
+	List<Bookmark> findBookmarksByAllTags(@Param("userId") Long userId, @Param("tagIds") List<Long> tagIds,
+			@Param("tagCount") long tagCount);
+
+	/** 사용자의 활성 북마크에 붙은 모든 (북마크 ID, 태그 ID) 쌍 (태그 필터 색인 생성용) */
+	@Query("SELECT new com.linkly.bookmark.dto.BookmarkTagIdRow(b.id, btm.tag.id) "
+			+ "FROM BookmarkTagMap btm JOIN btm.bookmark b " + "WHERE b.appUser.id = :userId AND b.deletedAt IS NULL")
+	List<BookmarkTagIdRow> findIdRowsByUserId(@Param("userId") Long userId);
 }
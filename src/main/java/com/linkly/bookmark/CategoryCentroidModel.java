@@ -0,0 +1,234 @@
+package com.linkly.bookmark;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 해시 n-gram TF-IDF 벡터와 카테고리별 중심 벡터(centroid)로 카테고리를 추정하는 불변 모델.
+ *
+ * 단어 토큰과 문자 3-gram(한글처럼 띄어쓰기로 형태소가 나뉘지 않는 텍스트 대응)을 고정 크기 공간으로 해싱하고, 카테고리별로
+ * 정규화된 문서 벡터의 평균을 코사인 유사도로 비교한다.
+ */
+public final class CategoryCentroidModel {
+
+	/** 해시 특성 공간 크기 (2^18) */
+	static final int DIMENSION_BITS = 18;
+
+	private static final int WORD_SEED = 0x5bd1e995;
+	private static final int NGRAM_SEED = 0x1b873593;
+	private static final int NGRAM_SIZE = 3;
+
+	private final Map<String, Centroid> centroids;
+	private final int[] idfKeys;
+	private final float[] idfValues;
+	private final float unseenIdf;
+
+	private CategoryCentroidModel(Map<String, Centroid> centroids, int[] idfKeys, float[] idfValues, float unseenIdf) {
+		this.centroids = centroids;
+		this.idfKeys = idfKeys;
+		this.idfValues = idfValues;
+		this.unseenIdf = unseenIdf;
+	}
+
+	/** 학습 샘플 (카테고리 이름 + 텍스트) */
+	public record Sample(String category, String text) {
+	}
+
+	/** 예측 결과: 최고 점수 카테고리와 2순위 점수 (margin 계산용) */
+	public record Prediction(String category, double score, double runnerUpScore, int sampleCount) {
+
+		public double margin() {
+			return score - runnerUpScore;
+		}
+	}
+
+	/** 학습 샘플로 모델 생성 */
+	public static CategoryCentroidModel train(List<Sample> samples) {
+		// 1. 문서별 TF 및 문서 빈도(DF) 계산
+		List<Map<Integer, Float>> termFrequencies = samples.stream()
+				.map(sample -> termFrequencies(sample.text())).toList();
+		Map<Integer, Integer> documentFrequencies = new HashMap<>();
+		for (Map<Integer, Float> tf : termFrequencies) {
+			for (Integer feature : tf.keySet()) {
+				documentFrequencies.merge(feature, 1, Integer::sum);
+			}
+		}
+
+		int documentCount = samples.size();
+		int[] idfKeys = documentFrequencies.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+		float[] idfValues = new float[idfKeys.length];
+		for (int i = 0; i < idfKeys.length; i++) {
+			idfValues[i] = idf(documentCount, documentFrequencies.get(idfKeys[i]));
+		}
+		float unseenIdf = idf(documentCount, 0);
+
+		// 2. 카테고리별 정규화 문서 벡터 합산
+		Map<String, Map<Integer, Float>> sums = new HashMap<>();
+		Map<String, Integer> counts = new HashMap<>();
+		for (int i = 0; i < samples.size(); i++) {
+			Map<Integer, Float> vector = weigh(termFrequencies.get(i), idfKeys, idfValues, unseenIdf);
+			if (vector.isEmpty()) {
+				continue;
+			}
+			String category = samples.get(i).category();
+			Map<Integer, Float> sum = sums.computeIfAbsent(category, key -> new HashMap<>());
+			vector.forEach((feature, weight) -> sum.merge(feature, weight, Float::sum));
+			counts.merge(category, 1, Integer::sum);
+		}
+
+		// 3. 중심 벡터 정규화 후 정렬된 희소 배열로 고정
+		Map<String, Centroid> centroids = new HashMap<>();
+		sums.forEach((category, sum) -> centroids.put(category, Centroid.of(sum, counts.get(category))));
+
+		return new CategoryCentroidModel(centroids, idfKeys, idfValues, unseenIdf);
+	}
+
+	/**
+	 * 후보 카테고리 중 가장 유사한 카테고리를 추정한다.
+	 *
+	 * @return 학습 데이터가 있는 후보가 없거나 텍스트에서 특성을 뽑지 못하면 null
+	 */
+	public Prediction predict(String text, List<String> candidates) {
+		Map<Integer, Float> query = weigh(termFrequencies(text), idfKeys, idfValues, unseenIdf);
+		if (query.isEmpty()) {
+			return null;
+		}
+
+		String best = null;
+		double bestScore = 0;
+		double runnerUp = 0;
+		int bestCount = 0;
+		for (String candidate : candidates) {
+			Centroid centroid = centroids.get(candidate);
+			if (centroid == null) {
+				continue;
+			}
+			double score = centroid.dot(query);
+			if (best == null || score > bestScore) {
+				runnerUp = best == null ? 0 : bestScore;
+				best = candidate;
+				bestScore = score;
+				bestCount = centroid.sampleCount;
+			} else if (score > runnerUp) {
+				runnerUp = score;
+			}
+		}
+
+		return best == null ? null : new Prediction(best, bestScore, runnerUp, bestCount);
+	}
+
+	/** 학습된 카테고리 수 */
+	public int categoryCount() {
+		return centroids.size();
+	}
+
+	static Map<Integer, Float> termFrequencies(String text) {
+		Map<Integer, Float> tf = new HashMap<>();
+		if (text == null || text.isBlank()) {
+			return tf;
+		}
+
+		String lower = text.toLowerCase(Locale.ROOT);
+		int length = lower.length();
+		int start = -1;
+		for (int i = 0; i <= length; i++) {
+			boolean tokenChar = i < length && Character.isLetterOrDigit(lower.charAt(i));
+			if (tokenChar && start < 0) {
+				start = i;
+			} else if (!tokenChar && start >= 0) {
+				addToken(tf, lower.substring(start, i));
+				start = -1;
+			}
+		}
+		return tf;
+	}
+
+	private static void addToken(Map<Integer, Float> tf, String token) {
+		tf.merge(hash(token, WORD_SEED), 1f, Float::sum);
+
+		// 경계 표시(^, $)를 붙인 문자 3-gram
+		String padded = "^" + token + "$";
+		for (int i = 0; i + NGRAM_SIZE <= padded.length(); i++) {
+			tf.merge(hash(padded.substring(i, i + NGRAM_SIZE), NGRAM_SEED), 1f, Float::sum);
+		}
+	}
+
+	/** String.hashCode 에 시드를 섞고 murmur3 finalizer 로 분산시킨 뒤 상위 비트를 사용 */
+	private static int hash(String value, int seed) {
+		int h = value.hashCode() ^ seed;
+		h ^= h >>> 16;
+		h *= 0x85ebca6b;
+		h ^= h >>> 13;
+		h *= 0xc2b2ae35;
+		h ^= h >>> 16;
+		return h >>> (Integer.SIZE - DIMENSION_BITS);
+	}
+
+	private static float idf(int documentCount, int documentFrequency) {
+		return (float) (Math.log((documentCount + 1.0) / (documentFrequency + 1.0)) + 1.0);
+	}
+
+	/** 로그 TF × IDF 가중치를 적용하고 L2 정규화 */
+	private static Map<Integer, Float> weigh(Map<Integer, Float> tf, int[] idfKeys, float[] idfValues,
+			float unseenIdf) {
+		Map<Integer, Float> weighted = new HashMap<>(tf.size() * 2);
+		double norm = 0;
+		for (Map.Entry<Integer, Float> entry : tf.entrySet()) {
+			int index = Arrays.binarySearch(idfKeys, entry.getKey());
+			float idf = index >= 0 ? idfValues[index] : unseenIdf;
+			float weight = (float) ((1 + Math.log(entry.getValue())) * idf);
+			weighted.put(entry.getKey(), weight);
+			norm += weight * weight;
+		}
+		if (norm == 0) {
+			return weighted;
+		}
+		float inverse = (float) (1 / Math.sqrt(norm));
+		weighted.replaceAll((feature, weight) -> weight * inverse);
+		return weighted;
+	}
+
+	/** 정렬된 희소 배열로 저장한 카테고리 중심 벡터 */
+	private static final class Centroid {
+
+		private final int[] features;
+		private final float[] weights;
+		private final int sampleCount;
+
+		private Centroid(int[] features, float[] weights, int sampleCount) {
+			this.features = features;
+			this.weights = weights;
+			this.sampleCount = sampleCount;
+		}
+
+		static Centroid of(Map<Integer, Float> sum, int sampleCount) {
+			int[] features = sum.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+			float[] weights = new float[features.length];
+			double norm = 0;
+			for (int i = 0; i < features.length; i++) {
+				weights[i] = sum.get(features[i]);
+				norm += weights[i] * weights[i];
+			}
+			float inverse = norm == 0 ? 0 : (float) (1 / Math.sqrt(norm));
+			for (int i = 0; i < weights.length; i++) {
+				weights[i] *= inverse;
+			}
+			return new Centroid(features, weights, sampleCount);
+		}
+
+		/** 질의 벡터(수십 개 특성)를 기준으로 이진 탐색하여 내적 계산 */
+		double dot(Map<Integer, Float> query) {
+			double dot = 0;
+			for (Map.Entry<Integer, Float> entry : query.entrySet()) {
+				int index = Arrays.binarySearch(features, entry.getKey());
+				if (index >= 0) {
+					dot += weights[index] * entry.getValue();
+				}
+			}
+			return dot;
+		}
+	}
+}
@@ -0,0 +1,49 @@
+package com.linkly.bookmark;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkly.bookmark.dto.ImportBookmarkEntry;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Linkly JSON 형식 스트리밍 파서.
+ *
+ * 최상위 배열의 원소를 하나씩 트리로 읽어 전달하므로 한 번에 메모리에 올라가는 것은 북마크 한 건뿐이다. 원소 형식:
+ * {"url", "title", "description", "category", "tags": [...]}
+ */
+public class JsonBookmarkParser {
+
+	private JsonBookmarkParser() {
+	}
+
+	public static void parse(ObjectMapper objectMapper, Reader reader, Consumer<ImportBookmarkEntry> consumer)
+			throws IOException {
+		try (JsonParser parser = objectMapper.createParser(reader)) {
+			if (parser.nextToken() != JsonToken.START_ARRAY) {
+				throw new IOException("JSON 가져오기 파일은 북마크 객체 배열이어야 합니다");
+			}
+			while (parser.nextToken() == JsonToken.START_OBJECT) {
+				JsonNode node = objectMapper.readTree(parser);
+				String url = text(node, "url");
+				if (url == null) {
+					continue;
+				}
+				List<String> tags = new ArrayList<>();
+				node.path("tags").forEach(tag -> tags.add(tag.asText()));
+				consumer.accept(new ImportBookmarkEntry(url.strip(), text(node, "title"), text(node, "description"),
+						text(node, "category"), tags));
+			}
+		}
+	}
+
+	private static String text(JsonNode node, String field) {
+		JsonNode value = node.get(field);
+		return value == null || value.isNull() || value.asText().isBlank() ? null : value.asText();
+	}
+}
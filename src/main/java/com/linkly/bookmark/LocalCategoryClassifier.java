@@ -0,0 +1,158 @@
+package com.linkly.bookmark;
+
+import com.linkly.bookmark.dto.CategorizedBookmarkRow;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자가 이미 분류해 둔 북마크로 학습하는 프로세스 내 카테고리 분류기.
+ *
+ * 신뢰도가 충분할 때만 결과를 돌려주고, 애매하면 Optional.empty() 로 Ollama 폴백을 유도한다. 사용자별 모델은 TTL 동안
+ * 캐시된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocalCategoryClassifier {
+
+	private static final int HIT_RATE_LOG_INTERVAL = 100;
+
+	private final BookmarkRepository bookmarkRepository;
+
+	@Value("${category-classifier.enabled:true}")
+	private boolean enabled;
+
+	@Value("${category-classifier.min-score:0.35}")
+	private double minScore;
+
+	@Value("${category-classifier.min-margin:0.1}")
+	private double minMargin;
+
+	@Value("${category-classifier.min-samples:3}")
+	private int minSamples;
+
+	@Value("${category-classifier.max-training-samples:5000}")
+	private int maxTrainingSamples;
+
+	@Value("${category-classifier.model-ttl-seconds:300}")
+	private long modelTtlSeconds;
+
+	@Value("${category-classifier.max-cached-users:1000}")
+	private int maxCachedUsers;
+
+	private final Map<Long, CachedModel> models = new ConcurrentHashMap<>();
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	private record CachedModel(CategoryCentroidModel model, long builtAtMillis) {
+	}
+
+	/**
+	 * 로컬 모델로 카테고리를 추정한다.
+	 *
+	 * @return 신뢰도가 임계값 이상이면 추천 카테고리, 아니면 empty (Ollama 폴백 대상)
+	 */
+	public Optional<String> classify(Long userId, String title, String description, List<String> categoryNames) {
+		if (!enabled || categoryNames.isEmpty()) {
+			return Optional.empty();
+		}
+
+		long start = System.nanoTime();
+		CategoryCentroidModel.Prediction prediction = getModel(userId).predict(text(title, description),
+				categoryNames);
+
+		boolean confident = prediction != null && prediction.sampleCount() >= minSamples
+				&& prediction.score() >= minScore && prediction.margin() >= minMargin;
+		long total = record(confident);
+
+		if (log.isDebugEnabled()) {
+			log.debug("로컬 카테고리 분류: userId={}, prediction={}, confident={}, elapsedMicros={}", userId, prediction,
+					confident, (System.nanoTime() - start) / 1_000);
+		}
+		if (total % HIT_RATE_LOG_INTERVAL == 0) {
+			log.info("로컬 카테고리 분류기 fast-path 적중률: {}% ({}/{})", String.format("%.1f", getHitRate() * 100),
+					hits.get(), total);
+		}
+
+		return confident ? Optional.of(prediction.category()) : Optional.empty();
+	}
+
+	/** 사용자 모델 캐시 무효화 (카테고리 구성이 바뀌었을 때) */
+	public void invalidate(Long userId) {
+		models.remove(userId);
+	}
+
+	/** 로컬 분류기가 응답한 비율 (0.0 ~ 1.0) */
+	public double getHitRate() {
+		long hitCount = hits.get();
+		long total = hitCount + misses.get();
+		return total == 0 ? 0 : (double) hitCount / total;
+	}
+
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	private long record(boolean hit) {
+		if (hit) {
+			return hits.incrementAndGet() + misses.get();
+		}
+		return misses.incrementAndGet() + hits.get();
+	}
+
+	private CategoryCentroidModel getModel(Long userId) {
+		long now = System.currentTimeMillis();
+		CachedModel cached = models.get(userId);
+		if (cached != null && now - cached.builtAtMillis() < modelTtlSeconds * 1_000) {
+			return cached.model();
+		}
+
+		CategoryCentroidModel model = train(userId);
+		evictIfFull();
+		models.put(userId, new CachedModel(model, now));
+		return model;
+	}
+
+	private CategoryCentroidModel train(Long userId) {
+		long start = System.currentTimeMillis();
+		List<CategorizedBookmarkRow> rows = bookmarkRepository.findCategorizedRows(userId,
+				PageRequest.of(0, maxTrainingSamples));
+		List<CategoryCentroidModel.Sample> samples = rows.stream()
+				.map(row -> new CategoryCentroidModel.Sample(row.getCategoryName(),
+						text(row.getTitle(), row.getDescription())))
+				.toList();
+
+		CategoryCentroidModel model = CategoryCentroidModel.train(samples);
+		log.debug("로컬 카테고리 모델 학습: userId={}, samples={}, categories={}, elapsedMs={}", userId, samples.size(),
+				model.categoryCount(), System.currentTimeMillis() - start);
+		return model;
+	}
+
+	private void evictIfFull() {
+		if (models.size() < maxCachedUsers) {
+			return;
+		}
+		Iterator<Long> iterator = models.keySet().iterator();
+		if (iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+
+	private static String text(String title, String description) {
+		return description == null ? title : title + " " + description;
+	}
+}
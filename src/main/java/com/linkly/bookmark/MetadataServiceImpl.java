@@ -1,6 +1,8 @@
 package com.linkly.bookmark;
 
 import com.linkly.bookmark.dto.UrlMetadataResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
@@ -13,8 +15,19 @@ public class MetadataServiceImpl implements MetadataService {
 	private static final int TIMEOUT_MS = 5000;
 	private static final String USER_AGENT = "Mozilla/5.0 (compatible; Linkly/1.0)";
 
+	private final Timer successTimer;
+	private final Timer failureTimer;
+
+	public MetadataServiceImpl(MeterRegistry meterRegistry) {
+		this.successTimer = Timer.builder("metadata.fetch").description("Jsoup URL 메타데이터 조회 시간")
+				.tag("outcome", "success").register(meterRegistry);
+		this.failureTimer = Timer.builder("metadata.fetch").description("Jsoup URL 메타데이터 조회 시간")
+				.tag("outcome", "failure").register(meterRegistry);
+	}
+
 	@Override
 	public UrlMetadataResponse extractMetadata(String url) {
+		Timer.Sample sample = Timer.start();
 		try {
 			Document doc = Jsoup.connect(url)
 					.userAgent(USER_AGENT)
@@ -22,19 +35,24 @@ public class MetadataServiceImpl implements MetadataService {
 					.followRedirects(true)
 					.get();
 
-			String title = getTitle(doc);
-			String description = getDescription(doc);
-
-			return UrlMetadataResponse.builder()
-					.title(title)
-					.description(description)
-					.build();
+			UrlMetadataResponse response = parse(doc);
+			sample.stop(successTimer);
+			return response;
 		} catch (Exception e) {
+			sample.stop(failureTimer);
 			log.warn("URL 메타데이터 추출 실패: url={}, error={}", url, e.getMessage());
 			return UrlMetadataResponse.builder().build();
 		}
 	}
 
+	/** 네트워크 없이 파싱 부분만 측정할 수 있도록 분리 (jmh MetadataParsingBenchmark) */
+	UrlMetadataResponse parse(Document doc) {
+		return UrlMetadataResponse.builder()
+				.title(getTitle(doc))
+				.description(getDescription(doc))
+				.build();
+	}
+
 	private String getTitle(Document doc) {
 		// og:title 우선
 		String ogTitle = doc.select("meta[property=og:title]").attr("content");
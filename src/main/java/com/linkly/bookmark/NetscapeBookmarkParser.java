@@ -0,0 +1,234 @@
+package com.linkly.bookmark;
+
+import com.linkly.bookmark.dto.ImportBookmarkEntry;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.jsoup.parser.Parser;
+
+/**
+ * Netscape 북마크 HTML(브라우저 내보내기 파일) 스트리밍 파서.
+ *
+ * 문서 전체를 DOM 으로 만들지 않고 태그 단위로 읽으면서 H3(폴더) / DL(폴더 범위) / A(북마크) / DD(설명) 만 해석한다. 북마크는 가장
+ * 안쪽 폴더 이름과 함께 전달하며, 북마크바·기타 북마크 같은 브라우저 기본 폴더는 폴더 없음으로 본다. 메모리 사용량은 파일 크기와 무관하게
+ * 폴더 깊이와 태그 하나의 길이에만 비례한다.
+ */
+public class NetscapeBookmarkParser {
+
+	/** 텍스트·태그 하나에 보관할 최대 길이 (비정상적으로 긴 입력 방어) */
+	private static final int MAX_TOKEN_LENGTH = 16_384;
+
+	/** 브라우저 기본 폴더 표시 속성 */
+	private static final List<String> ROOT_FOLDER_ATTRIBUTES = List.of("personal_toolbar_folder",
+			"unfiled_bookmarks_folder");
+
+	private final Reader reader;
+	private final Consumer<ImportBookmarkEntry> consumer;
+
+	private final Deque<String> folders = new ArrayDeque<>();
+	private final StringBuilder text = new StringBuilder();
+
+	/** 직전에 닫힌 H3 의 폴더 이름 (다음 DL 이 이 폴더의 범위). 기본 폴더면 "" */
+	private String pendingFolder;
+	private boolean pendingFolderIsRoot;
+
+	/** 제목까지 읽었지만 DD(설명)가 뒤따를 수 있어 아직 전달하지 않은 북마크 */
+	private Map<String, String> anchorAttributes;
+	private String anchorTitle;
+	private boolean inDescription;
+
+	private NetscapeBookmarkParser(Reader reader, Consumer<ImportBookmarkEntry> consumer) {
+		this.reader = reader;
+		this.consumer = consumer;
+	}
+
+	/** reader 를 끝까지 읽으며 북마크를 하나씩 consumer 에 전달 */
+	public static void parse(Reader reader, Consumer<ImportBookmarkEntry> consumer) throws IOException {
+		new NetscapeBookmarkParser(reader, consumer).run();
+	}
+
+	private void run() throws IOException {
+		int c;
+		while ((c = reader.read()) != -1) {
+			if (c == '<') {
+				String tag = readTag();
+				if (tag != null) {
+					handleTag(tag);
+				}
+			} else if (text.length() < MAX_TOKEN_LENGTH) {
+				text.append((char) c);
+			}
+		}
+		emitPending();
+	}
+
+	/** '<' 다음부터 '>' 까지 읽어 태그 본문을 반환. 주석과 선언(<!...>)은 건너뛰고 null */
+	private String readTag() throws IOException {
+		StringBuilder tag = new StringBuilder();
+		char quote = 0;
+		int c;
+		while ((c = reader.read()) != -1) {
+			if (quote != 0) {
+				if (c == quote) {
+					quote = 0;
+				}
+			} else if (c == '"' || c == '\'') {
+				quote = (char) c;
+			} else if (c == '>') {
+				break;
+			}
+			if (tag.length() < MAX_TOKEN_LENGTH) {
+				tag.append((char) c);
+			}
+			if (tag.length() == 3 && tag.toString().equals("!--")) {
+				skipComment();
+				return null;
+			}
+		}
+		return tag.isEmpty() || tag.charAt(0) == '!' || tag.charAt(0) == '?' ? null : tag.toString();
+	}
+
+	private void skipComment() throws IOException {
+		int dashes = 0;
+		int c;
+		while ((c = reader.read()) != -1) {
+			if (c == '>' && dashes >= 2) {
+				return;
+			}
+			dashes = c == '-' ? dashes + 1 : 0;
+		}
+	}
+
+	private void handleTag(String tag) {
+		boolean closing = tag.startsWith("/");
+		String body = closing ? tag.substring(1) : tag;
+		int nameEnd = 0;
+		while (nameEnd < body.length() && !Character.isWhitespace(body.charAt(nameEnd)) && body.charAt(nameEnd) != '/') {
+			nameEnd++;
+		}
+		String name = body.substring(0, nameEnd).toLowerCase(Locale.ROOT);
+
+		switch (name) {
+			case "dt", "dl", "h3", "h1" -> {
+				emitPending();
+				if (name.equals("dl")) {
+					if (closing) {
+						folders.pollFirst();
+					} else {
+						folders.push(pendingFolderIsRoot || pendingFolder == null ? "" : pendingFolder);
+						pendingFolder = null;
+						pendingFolderIsRoot = false;
+					}
+				} else if (name.equals("h3")) {
+					if (closing) {
+						pendingFolder = decodedText();
+					} else {
+						pendingFolderIsRoot = ROOT_FOLDER_ATTRIBUTES.stream()
+								.anyMatch(parseAttributes(body.substring(nameEnd))::containsKey);
+					}
+				}
+				text.setLength(0);
+			}
+			case "a" -> {
+				if (closing) {
+					anchorTitle = decodedText();
+				} else {
+					emitPending();
+					anchorAttributes = parseAttributes(body.substring(nameEnd));
+				}
+				text.setLength(0);
+			}
+			case "dd" -> {
+				inDescription = anchorAttributes != null;
+				text.setLength(0);
+			}
+			default -> {
+				// p, br 등 서식 태그는 무시 (DD 설명 텍스트는 계속 이어서 수집)
+			}
+		}
+	}
+
+	private void emitPending() {
+		if (anchorAttributes == null) {
+			return;
+		}
+		String url = anchorAttributes.get("href");
+		String description = inDescription ? emptyToNull(decodedText()) : null;
+		String folder = folders.isEmpty() ? null : emptyToNull(folders.peekFirst());
+		List<String> tags = new ArrayList<>();
+		String tagAttribute = anchorAttributes.get("tags");
+		if (tagAttribute != null) {
+			tags.addAll(Arrays.asList(tagAttribute.split(",")));
+		}
+		anchorAttributes = null;
+		inDescription = false;
+
+		if (url != null) {
+			consumer.accept(new ImportBookmarkEntry(url.strip(), emptyToNull(anchorTitle), description, folder, tags));
+		}
+		anchorTitle = null;
+	}
+
+	private String decodedText() {
+		return Parser.unescapeEntities(text.toString(), false).strip();
+	}
+
+	/** name="value" / name='value' / name=value / name 형태의 속성 (이름은 소문자, 값은 엔티티 디코딩) */
+	static Map<String, String> parseAttributes(String source) {
+		Map<String, String> attributes = new HashMap<>();
+		int i = 0;
+		int length = source.length();
+		while (i < length) {
+			while (i < length && (Character.isWhitespace(source.charAt(i)) || source.charAt(i) == '/')) {
+				i++;
+			}
+			int nameStart = i;
+			while (i < length && source.charAt(i) != '=' && !Character.isWhitespace(source.charAt(i))) {
+				i++;
+			}
+			if (nameStart == i) {
+				break;
+			}
+			String name = source.substring(nameStart, i).toLowerCase(Locale.ROOT);
+			while (i < length && Character.isWhitespace(source.charAt(i))) {
+				i++;
+			}
+			String value = "";
+			if (i < length && source.charAt(i) == '=') {
+				i++;
+				while (i < length && Character.isWhitespace(source.charAt(i))) {
+					i++;
+				}
+				if (i < length && (source.charAt(i) == '"' || source.charAt(i) == '\'')) {
+					char quote = source.charAt(i++);
+					int valueStart = i;
+					while (i < length && source.charAt(i) != quote) {
+						i++;
+					}
+					value = source.substring(valueStart, i);
+					i++;
+				} else {
+					int valueStart = i;
+					while (i < length && !Character.isWhitespace(source.charAt(i))) {
+						i++;
+					}
+					value = source.substring(valueStart, i);
+				}
+			}
+			attributes.put(name, Parser.unescapeEntities(value, true));
+		}
+		return attributes;
+	}
+
+	private static String emptyToNull(String value) {
+		return value == null || value.isEmpty() ? null : value;
+	}
+}
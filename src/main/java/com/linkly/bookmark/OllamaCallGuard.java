@@ -0,0 +1,182 @@
+package com.linkly.bookmark;
+
+import com.linkly.global.config.OllamaConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ollama 호출을 감싸는 벌크헤드 + 서킷 브레이커.
+ *
+ * 동시 호출 수를 제한하고(초과분은 짧게 대기 후 거절), 연속 실패 시 일정 시간 호출을 차단한 뒤 HALF_OPEN 시험 호출로 복구 여부를
+ * 확인한다. LLM 이 느려져도 Tomcat 스레드가 ollama.timeout 만큼 줄줄이 묶이지 않게 하기 위함.
+ */
+@Slf4j
+@Component
+public class OllamaCallGuard {
+
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	/** 벌크헤드 포화 또는 서킷 OPEN 으로 호출이 거절된 경우 */
+	public static class CallNotPermittedException extends RuntimeException {
+
+		public CallNotPermittedException(String message) {
+			super(message);
+		}
+	}
+
+	private final OllamaConfig.Bulkhead bulkheadConfig;
+	private final OllamaConfig.CircuitBreaker circuitBreakerConfig;
+	private final Semaphore permits;
+	private final AtomicInteger waitingCalls = new AtomicInteger();
+
+	// 서킷 상태는 this 로 동기화
+	private State state = State.CLOSED;
+	private int consecutiveFailures;
+	private int halfOpenCalls;
+	private long openUntilMillis;
+
+	private final Timer successTimer;
+	private final Timer failureTimer;
+	private final Counter bulkheadRejections;
+	private final Counter circuitRejections;
+
+	public OllamaCallGuard(OllamaConfig ollamaConfig, MeterRegistry meterRegistry) {
+		this.bulkheadConfig = ollamaConfig.getBulkhead();
+		this.circuitBreakerConfig = ollamaConfig.getCircuitBreaker();
+		this.permits = new Semaphore(bulkheadConfig.getMaxConcurrentCalls());
+
+		this.successTimer = Timer.builder("ollama.calls").tag("outcome", "success").register(meterRegistry);
+		this.failureTimer = Timer.builder("ollama.calls").tag("outcome", "failure").register(meterRegistry);
+		this.bulkheadRejections = Counter.builder("ollama.calls.rejected").tag("reason", "bulkhead_full")
+				.register(meterRegistry);
+		this.circuitRejections = Counter.builder("ollama.calls.rejected").tag("reason", "circuit_open")
+				.register(meterRegistry);
+		Gauge.builder("ollama.bulkhead.in_flight", this, OllamaCallGuard::getInFlightCalls).register(meterRegistry);
+		Gauge.builder("ollama.bulkhead.waiting", waitingCalls, AtomicInteger::get).register(meterRegistry);
+		Gauge.builder("ollama.circuit.state", this, guard -> guard.getState().ordinal())
+				.description("0=CLOSED, 1=OPEN, 2=HALF_OPEN").register(meterRegistry);
+	}
+
+	/**
+	 * 허용되는 경우에만 call 을 실행한다.
+	 *
+	 * @throws CallNotPermittedException
+	 *             서킷이 열려 있거나 벌크헤드 대기열이 가득 찬 경우
+	 */
+	public <T> T execute(Callable<T> call) throws Exception {
+		boolean halfOpenProbe = acquireCircuitPermission();
+		try {
+			acquireBulkheadPermit();
+		} catch (CallNotPermittedException | InterruptedException e) {
+			releaseHalfOpenProbe(halfOpenProbe);
+			throw e;
+		}
+
+		long start = System.nanoTime();
+		try {
+			T result = call.call();
+			successTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			onSuccess();
+			return result;
+		} catch (Exception e) {
+			failureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			onFailure();
+			throw e;
+		} finally {
+			permits.release();
+			releaseHalfOpenProbe(halfOpenProbe);
+		}
+	}
+
+	public synchronized State getState() {
+		if (state == State.OPEN && System.currentTimeMillis() >= openUntilMillis) {
+			return State.HALF_OPEN;
+		}
+		return state;
+	}
+
+	public int getInFlightCalls() {
+		return bulkheadConfig.getMaxConcurrentCalls() - permits.availablePermits();
+	}
+
+	/** @return HALF_OPEN 시험 호출로 허용된 경우 true */
+	private synchronized boolean acquireCircuitPermission() {
+		if (state == State.OPEN) {
+			if (System.currentTimeMillis() < openUntilMillis) {
+				circuitRejections.increment();
+				throw new CallNotPermittedException("Ollama circuit is OPEN");
+			}
+			transitionTo(State.HALF_OPEN);
+		}
+		if (state == State.HALF_OPEN) {
+			if (halfOpenCalls >= circuitBreakerConfig.getHalfOpenMaxCalls()) {
+				circuitRejections.increment();
+				throw new CallNotPermittedException("Ollama circuit is HALF_OPEN and a probe is in flight");
+			}
+			halfOpenCalls++;
+			return true;
+		}
+		return false;
+	}
+
+	private synchronized void releaseHalfOpenProbe(boolean halfOpenProbe) {
+		if (halfOpenProbe && halfOpenCalls > 0) {
+			halfOpenCalls--;
+		}
+	}
+
+	private void acquireBulkheadPermit() throws InterruptedException {
+		if (permits.tryAcquire()) {
+			return;
+		}
+		if (waitingCalls.incrementAndGet() > bulkheadConfig.getMaxWaitingCalls()) {
+			waitingCalls.decrementAndGet();
+			bulkheadRejections.increment();
+			throw new CallNotPermittedException("Ollama bulkhead queue is full");
+		}
+		try {
+			if (!permits.tryAcquire(bulkheadConfig.getMaxWaitMs(), TimeUnit.MILLISECONDS)) {
+				bulkheadRejections.increment();
+				throw new CallNotPermittedException("Ollama bulkhead wait timed out");
+			}
+		} finally {
+			waitingCalls.decrementAndGet();
+		}
+	}
+
+	private synchronized void onSuccess() {
+		consecutiveFailures = 0;
+		if (state == State.HALF_OPEN) {
+			transitionTo(State.CLOSED);
+		}
+	}
+
+	private synchronized void onFailure() {
+		consecutiveFailures++;
+		if (state == State.HALF_OPEN
+				|| (state == State.CLOSED && consecutiveFailures >= circuitBreakerConfig.getFailureThreshold())) {
+			openUntilMillis = System.currentTimeMillis() + circuitBreakerConfig.getOpenDurationSeconds() * 1_000;
+			transitionTo(State.OPEN);
+		}
+	}
+
+	private void transitionTo(State next) {
+		if (state != next) {
+			log.warn("Ollama circuit 상태 변경: {} -> {} (consecutiveFailures={})", state, next, consecutiveFailures);
+		}
+		state = next;
+		if (next != State.HALF_OPEN) {
+			halfOpenCalls = 0;
+		}
+	}
+}
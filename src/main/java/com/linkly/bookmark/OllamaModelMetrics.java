@@ -0,0 +1,57 @@
+package com.linkly.bookmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ollama 응답에 포함된 load_duration / total_duration (나노초) 을 모델 적재 시간과 추론 시간으로 나눠 기록한다.
+ *
+ * 콜드 스타트(모델 적재)가 지연의 원인인지, 추론 자체가 느린지를 구분하기 위함.
+ */
+@Component
+public class OllamaModelMetrics {
+
+	private final Timer loadTimer;
+	private final Timer inferenceTimer;
+	private final Timer warmupTimer;
+	private final Timer earlyExitTimer;
+
+	public OllamaModelMetrics(MeterRegistry meterRegistry) {
+		this.loadTimer = Timer.builder("ollama.model.load").description("Ollama 모델 적재 시간 (load_duration)")
+				.register(meterRegistry);
+		this.inferenceTimer = Timer.builder("ollama.inference")
+				.description("Ollama 추론 시간 (total_duration - load_duration)").register(meterRegistry);
+		this.warmupTimer = Timer.builder("ollama.warmup").description("warm-up 요청 왕복 시간").register(meterRegistry);
+		this.earlyExitTimer = Timer.builder("ollama.stream.early-exit")
+				.description("카테고리가 확정되어 일찍 끊은 스트리밍 요청의 소요 시간").register(meterRegistry);
+	}
+
+	/** 최종 응답(done=true) 의 duration 필드를 기록. 필드가 없는 응답(스트리밍 조기 종료 등)은 무시 */
+	public void recordGeneration(JsonNode response) {
+		long total = response.path("total_duration").asLong(0);
+		if (total <= 0) {
+			return;
+		}
+		long load = response.path("load_duration").asLong(0);
+		if (load > 0) {
+			loadTimer.record(load, TimeUnit.NANOSECONDS);
+		}
+		inferenceTimer.record(Math.max(0, total - load), TimeUnit.NANOSECONDS);
+	}
+
+	/** 스트리밍을 일찍 끊은 요청 (Ollama 가 duration 을 보내기 전이라 요청부터 끊을 때까지의 시간) */
+	public void recordEarlyExit(long elapsedNanos) {
+		earlyExitTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+	}
+
+	public void recordWarmup(long elapsedNanos, JsonNode response) {
+		warmupTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+		long load = response.path("load_duration").asLong(0);
+		if (load > 0) {
+			loadTimer.record(load, TimeUnit.NANOSECONDS);
+		}
+	}
+}
@@ -0,0 +1,69 @@
+package com.linkly.bookmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkly.global.config.OllamaConfig;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Ollama 모델 warm-up.
+ *
+ * 빈 prompt 로 /api/generate 를 호출하면 Ollama 는 모델만 메모리에 적재하고 즉시 응답한다. 기동 직후 한 번, 이후 keep-alive 보다 짧은
+ * 주기로 반복해 첫 사용자 요청이 모델 적재 시간을 떠안지 않게 한다. 사용자 요청이 아니므로 OllamaCallGuard 는 거치지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "ollama.warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OllamaModelWarmer {
+
+	private final RestTemplate ollamaRestTemplate;
+	private final OllamaConfig ollamaConfig;
+	private final ObjectMapper objectMapper;
+	private final OllamaModelMetrics ollamaModelMetrics;
+
+	public OllamaModelWarmer(@Qualifier("ollamaRestTemplate") RestTemplate ollamaRestTemplate,
+			OllamaConfig ollamaConfig, ObjectMapper objectMapper, OllamaModelMetrics ollamaModelMetrics) {
+		this.ollamaRestTemplate = ollamaRestTemplate;
+		this.ollamaConfig = ollamaConfig;
+		this.objectMapper = objectMapper;
+		this.ollamaModelMetrics = ollamaModelMetrics;
+	}
+
+	/** initialDelay 0 이므로 기동 직후 한 번 실행되고, 이후 interval-ms 마다 반복 */
+	@Scheduled(initialDelay = 0, fixedDelayString = "${ollama.warmup.interval-ms:600000}")
+	public void scheduledWarmUp() {
+		warmUp();
+	}
+
+	/**
+	 * 모델을 메모리에 적재하고 keep_alive 를 갱신한다.
+	 *
+	 * @return 성공 여부 (Ollama 미기동 등 실패는 로그만 남김)
+	 */
+	public boolean warmUp() {
+		Map<String, Object> requestBody = Map.of("model", ollamaConfig.getModel(), "prompt", "", "stream", false,
+				"keep_alive", ollamaConfig.getKeepAlive());
+		long start = System.nanoTime();
+		try {
+			String body = ollamaRestTemplate.postForObject(ollamaConfig.getBaseUrl() + "/api/generate", requestBody,
+					String.class);
+			long elapsed = System.nanoTime() - start;
+			JsonNode response = body != null ? objectMapper.readTree(body) : objectMapper.createObjectNode();
+			ollamaModelMetrics.recordWarmup(elapsed, response);
+
+			log.info("Ollama 모델 warm-up 완료: model={}, keepAlive={}, elapsedMs={}", ollamaConfig.getModel(),
+					ollamaConfig.getKeepAlive(), TimeUnit.NANOSECONDS.toMillis(elapsed));
+			return true;
+		} catch (Exception e) {
+			log.warn("Ollama 모델 warm-up 실패: model={}, error={}", ollamaConfig.getModel(), e.getMessage());
+			return false;
+		}
+	}
+}
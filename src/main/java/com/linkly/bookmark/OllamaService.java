@@ -1,5 +1,6 @@
 package com.linkly.bookmark;
 
+import com.linkly.bookmark.dto.CategorySuggestionItem;
 import com.linkly.bookmark.dto.CategorySuggestionResponse;
 import java.util.List;
 
@@ -18,4 +19,17 @@ public interface OllamaService {
 	 * @return 추천된 카테고리 (실패 시 suggestedCategory가 null)
 	 */
 	CategorySuggestionResponse suggestCategory(String title, String description, List<String> existingCategories);
+
+	/**
+	 * 여러 북마크의 카테고리를 일괄 추천한다. 북마크를 청크 단위로 묶어 JSON 프롬프트 하나로 요청하며, 청크는 설정된 동시성 한도 내에서
+	 * 병렬로 처리된다.
+	 *
+	 * @param items
+	 *            추천 대상 북마크 목록
+	 * @param existingCategories
+	 *            사용자의 기존 카테고리 이름 목록
+	 * @return items 와 같은 순서의 추천 결과 (실패한 항목은 suggestedCategory가 null)
+	 */
+	List<CategorySuggestionResponse> suggestCategories(List<CategorySuggestionItem> items,
+			List<String> existingCategories);
 }
@@ -2,13 +2,36 @@ package com.linkly.bookmark;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.linkly.bookmark.dto.CategorySuggestionItem;
 import com.linkly.bookmark.dto.CategorySuggestionResponse;
 import com.linkly.global.config.OllamaConfig;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
@@ -17,15 +40,27 @@ import org.springframework.web.client.RestTemplate;
 @Service
 public class OllamaServiceImpl implements OllamaService {
 
+	private static final String SOURCE_LLM = "LLM";
+
 	private final RestTemplate ollamaRestTemplate;
+	private final HttpClient ollamaHttpClient;
 	private final OllamaConfig ollamaConfig;
 	private final ObjectMapper objectMapper;
+	private final Executor ollamaBatchExecutor;
+	private final OllamaCallGuard ollamaCallGuard;
+	private final OllamaModelMetrics ollamaModelMetrics;
 
 	public OllamaServiceImpl(@Qualifier("ollamaRestTemplate") RestTemplate ollamaRestTemplate,
-			OllamaConfig ollamaConfig, ObjectMapper objectMapper) {
+			@Qualifier("ollamaHttpClient") HttpClient ollamaHttpClient, OllamaConfig ollamaConfig, ObjectMapper objectMapper,
+			@Qualifier("ollamaBatchExecutor") Executor ollamaBatchExecutor, OllamaCallGuard ollamaCallGuard,
+			OllamaModelMetrics ollamaModelMetrics) {
 		this.ollamaRestTemplate = ollamaRestTemplate;
+		this.ollamaHttpClient = ollamaHttpClient;
 		this.ollamaConfig = ollamaConfig;
 		this.objectMapper = objectMapper;
+		this.ollamaBatchExecutor = ollamaBatchExecutor;
+		this.ollamaCallGuard = ollamaCallGuard;
+		this.ollamaModelMetrics = ollamaModelMetrics;
 	}
 
 	@Override
@@ -33,24 +68,219 @@ public class OllamaServiceImpl implements OllamaService {
 			List<String> existingCategories) {
 		try {
 			String prompt = buildPrompt(title, description, existingCategories);
-			String url = ollamaConfig.getBaseUrl() + "/api/generate";
+			String rawResponse = ollamaCallGuard.execute(() -> ollamaConfig.isStream()
+					? generateStreaming(prompt, existingCategories)
+					: generate(prompt, false));
+			String suggested = validateCategory(rawResponse, existingCategories);
 
-			Map<String, Object> requestBody = Map.of(
-					"model", ollamaConfig.getModel(),
-					"prompt", prompt,
-					"stream", false);
+			log.debug("Ollama 카테고리 추천 결과: title={}, suggested={}", title, suggested);
+			return suggestion(suggested);
+		} catch (Exception e) {
+			log.warn("Ollama 카테고리 추천 실패: {}", e.getMessage());
+			return suggestion(null);
+		}
+	}
 
-			ResponseEntity<String> response = ollamaRestTemplate.postForEntity(url, requestBody, String.class);
+	@Override
+	public List<CategorySuggestionResponse> suggestCategories(List<CategorySuggestionItem> items,
+			List<String> existingCategories) {
+		CategorySuggestionResponse[] results = new CategorySuggestionResponse[items.size()];
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
 
-			String rawResponse = extractResponse(response.getBody());
-			String suggested = validateCategory(rawResponse, existingCategories);
+		for (int[] range : chunk(items, existingCategories)) {
+			int from = range[0];
+			int to = range[1];
+			futures.add(CompletableFuture
+					.supplyAsync(() -> suggestChunk(items.subList(from, to), existingCategories), ollamaBatchExecutor)
+					.thenAccept(chunkResults -> System.arraycopy(chunkResults, 0, results, from, to - from)));
+		}
+		CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+		log.info("Ollama 일괄 카테고리 추천 완료: items={}, chunks={}", items.size(), futures.size());
+		return Arrays.asList(results);
+	}
+
+	/** 항목 수와 프롬프트 길이 한도에 맞춰 [from, to) 범위로 분할 */
+	private List<int[]> chunk(List<CategorySuggestionItem> items, List<String> categories) {
+		OllamaConfig.Batch batch = ollamaConfig.getBatch();
+		int baseLength = buildBatchPrompt(List.of(), categories).length();
+
+		List<int[]> ranges = new ArrayList<>();
+		int from = 0;
+		int length = baseLength;
+		for (int i = 0; i < items.size(); i++) {
+			int itemLength = itemNode(i - from, items.get(i)).toString().length() + 1;
+			boolean full = i - from >= batch.getSize() || length + itemLength > batch.getMaxPromptChars();
+			if (i > from && full) {
+				ranges.add(new int[]{from, i});
+				from = i;
+				length = baseLength;
+			}
+			length += itemLength;
+		}
+		if (from < items.size()) {
+			ranges.add(new int[]{from, items.size()});
+		}
+		return ranges;
+	}
+
+	private CategorySuggestionResponse[] suggestChunk(List<CategorySuggestionItem> chunk, List<String> categories) {
+		CategorySuggestionResponse[] results = new CategorySuggestionResponse[chunk.size()];
+		Arrays.fill(results, suggestion(null));
+		try {
+			String prompt = buildBatchPrompt(chunk, categories);
+			String rawResponse = ollamaCallGuard.execute(() -> generate(prompt, true));
+			JsonNode root = objectMapper.readTree(rawResponse);
+			JsonNode entries = root.isArray() ? root : root.path("results");
 
-			log.info("Ollama 카테고리 추천 결과: title={}, suggested={}", title, suggested);
-			return CategorySuggestionResponse.builder().suggestedCategory(suggested).build();
+			for (JsonNode entry : entries) {
+				int id = entry.path("id").asInt(-1);
+				JsonNode category = entry.path("category");
+				if (id < 0 || id >= chunk.size() || !category.isTextual()) {
+					continue;
+				}
+				results[id] = suggestion(validateCategory(category.asText().trim(), categories));
+			}
 		} catch (Exception e) {
-			log.warn("Ollama 카테고리 추천 실패: {}", e.getMessage());
-			return CategorySuggestionResponse.builder().suggestedCategory(null).build();
+			log.warn("Ollama 일괄 카테고리 추천 실패: chunkSize={}, error={}", chunk.size(), e.getMessage());
+		}
+		return results;
+	}
+
+	private String generate(String prompt, boolean batch) throws Exception {
+		Map<String, Object> requestBody = requestBody(prompt, false);
+		if (batch) {
+			requestBody.put("format", "json");
+		} else {
+			requestBody.put("options", Map.of("num_predict", ollamaConfig.getNumPredict()));
+		}
+
+		ResponseEntity<String> response = ollamaRestTemplate.postForEntity(generateUrl(), requestBody, String.class);
+		return extractResponse(response.getBody());
+	}
+
+	/**
+	 * NDJSON 토큰 스트림을 읽다가 카테고리가 확정되거나 줄바꿈이 오면 응답을 닫는다.
+	 *
+	 * RestTemplate(JdkClientHttpRequestFactory) 은 응답을 닫을 때 남은 본문을 끝까지 읽어 커넥션을 재사용하므로 일찍 반환해도 생성이
+	 * 끝날 때까지 기다리게 된다. 그래서 스트리밍만 java.net.http.HttpClient 로 보내고, 다 읽지 않은 본문 스트림을 닫아 구독을 취소한다.
+	 * 그러면 커넥션이 풀로 돌아가지 않고 끊기고 Ollama 가 생성을 중단한다.
+	 *
+	 * HttpRequest.timeout 은 응답 헤더까지만 적용되므로, 요청부터 본문을 다 읽을 때까지 ollama.timeout 한 번의 기한을 둔다. 기한이 지나면
+	 * 본문 스트림을 닫아 막혀 있는 읽기를 깨우고 HttpTimeoutException 을 던지며, OllamaCallGuard 는 이를 실패로 세어 서킷을 연다.
+	 */
+	private String generateStreaming(String prompt, List<String> categories) throws Exception {
+		Map<String, Object> requestBody = requestBody(prompt, true);
+		requestBody.put("options", Map.of("num_predict", ollamaConfig.getNumPredict()));
+		Duration timeout = Duration.ofSeconds(ollamaConfig.getTimeout());
+
+		HttpRequest request = HttpRequest.newBuilder(URI.create(generateUrl())).timeout(timeout)
+				.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+				.POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(requestBody))).build();
+
+		long start = System.nanoTime();
+		long deadline = start + timeout.toNanos();
+		HttpResponse<InputStream> response;
+		try {
+			response = ollamaHttpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+		} catch (HttpTimeoutException e) {
+			throw streamingTimeout(timeout);
+		}
+
+		InputStream body = response.body();
+		AtomicBoolean expired = new AtomicBoolean();
+		CompletableFuture<Void> watchdog = CompletableFuture.runAsync(() -> {
+			expired.set(true);
+			closeQuietly(body);
+		}, CompletableFuture.delayedExecutor(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+		try (body) {
+			if (response.statusCode() != HttpStatus.OK.value()) {
+				throw new IOException("Ollama 스트리밍 응답 오류: status=" + response.statusCode());
+			}
+			return readUntilCategory(body, categories, start);
+		} catch (IOException e) {
+			if (expired.get()) {
+				throw streamingTimeout(timeout);
+			}
+			throw e;
+		} finally {
+			watchdog.cancel(false);
+		}
+	}
+
+	private static HttpTimeoutException streamingTimeout(Duration timeout) {
+		return new HttpTimeoutException("Ollama 스트리밍 응답이 " + timeout.toSeconds() + "초 안에 끝나지 않음");
+	}
+
+	private static void closeQuietly(InputStream body) {
+		try {
+			body.close();
+		} catch (IOException e) {
+			log.debug("Ollama 스트리밍 본문 닫기 실패: {}", e.getMessage());
+		}
+	}
+
+	private String readUntilCategory(InputStream body, List<String> categories, long start) throws IOException {
+		BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+		StringBuilder generated = new StringBuilder();
+		String line;
+		while ((line = reader.readLine()) != null) {
+			if (line.isBlank()) {
+				continue;
+			}
+			JsonNode chunk = objectMapper.readTree(line);
+			generated.append(chunk.path("response").asText());
+
+			// 조기 종료한 응답에는 duration 필드가 없으므로 여기까지 걸린 시간을 따로 기록
+			String text = generated.toString().stripLeading();
+			int newline = text.indexOf('\n');
+			if (newline >= 0) {
+				ollamaModelMetrics.recordEarlyExit(System.nanoTime() - start);
+				return text.substring(0, newline).trim();
+			}
+			String matched = matchUnambiguous(text.trim(), categories);
+			if (matched != null) {
+				log.debug("Ollama 스트리밍 조기 종료: matched={}", matched);
+				ollamaModelMetrics.recordEarlyExit(System.nanoTime() - start);
+				return matched;
+			}
+			if (chunk.path("done").asBoolean(false)) {
+				ollamaModelMetrics.recordGeneration(chunk);
+				break;
+			}
+		}
+		return generated.toString().trim();
+	}
+
+	/** 생성된 텍스트가 카테고리와 정확히 일치하고, 그 텍스트로 시작하는 더 긴 카테고리가 없을 때만 확정 */
+	private String matchUnambiguous(String text, List<String> categories) {
+		if (text.isEmpty()) {
+			return null;
 		}
+		String lower = text.toLowerCase(Locale.ROOT);
+		String matched = null;
+		for (String category : categories) {
+			String candidate = category.toLowerCase(Locale.ROOT);
+			if (candidate.equals(lower)) {
+				matched = category;
+			} else if (candidate.startsWith(lower)) {
+				return null;
+			}
+		}
+		return matched;
+	}
+
+	private Map<String, Object> requestBody(String prompt, boolean stream) {
+		Map<String, Object> requestBody = new HashMap<>();
+		requestBody.put("model", ollamaConfig.getModel());
+		requestBody.put("prompt", prompt);
+		requestBody.put("stream", stream);
+		requestBody.put("keep_alive", ollamaConfig.getKeepAlive());
+		return requestBody;
+	}
+
+	private String generateUrl() {
+		return ollamaConfig.getBaseUrl() + "/api/generate";
 	}
 
 	private String buildPrompt(String title, String description, List<String> categories) {
@@ -67,17 +297,53 @@ public class OllamaServiceImpl implements OllamaService {
 				String.join(", ", categories));
 	}
 
+	private String buildBatchPrompt(List<CategorySuggestionItem> chunk, List<String> categories) {
+		ArrayNode bookmarks = objectMapper.createArrayNode();
+		for (int i = 0; i < chunk.size(); i++) {
+			bookmarks.add(itemNode(i, chunk.get(i)));
+		}
+		ArrayNode categoryNames = objectMapper.createArrayNode();
+		categories.forEach(categoryNames::add);
+
+		return "You are a bookmark categorization assistant. "
+				+ "For each bookmark in the JSON array below, choose the most appropriate category from the list. "
+				+ "Reply with ONLY a JSON object of the form "
+				+ "{\"results\":[{\"id\":<bookmark id>,\"category\":\"<category name>\"}]} covering every id. "
+				+ "Use null as the category when nothing fits.\n\n"
+				+ "Available categories: " + categoryNames + "\n\n"
+				+ "Bookmarks: " + bookmarks;
+	}
+
+	private JsonNode itemNode(int id, CategorySuggestionItem item) {
+		return objectMapper.createObjectNode()
+				.put("id", id)
+				.put("title", item.getTitle())
+				.put("description", item.getDescription() != null ? item.getDescription() : "");
+	}
+
 	private String extractResponse(String responseBody) throws Exception {
 		JsonNode node = objectMapper.readTree(responseBody);
+		ollamaModelMetrics.recordGeneration(node);
 		return node.get("response").asText().trim();
 	}
 
-	private String validateCategory(String rawResponse, List<String> existingCategories) {
+	/** 정확히 일치하는 카테고리 우선, 없으면 응답에 포함된 가장 긴 카테고리 (예: "개발도구" 응답에서 "개발" 오탐 방지) */
+	static String validateCategory(String rawResponse, List<String> existingCategories) {
+		String longestContained = null;
 		for (String category : existingCategories) {
-			if (rawResponse.equalsIgnoreCase(category) || rawResponse.contains(category)) {
+			if (rawResponse.equalsIgnoreCase(category)) {
 				return category;
 			}
+			if (rawResponse.contains(category)
+					&& (longestContained == null || category.length() > longestContained.length())) {
+				longestContained = category;
+			}
 		}
-		return null;
+		return longestContained;
+	}
+
+	private static CategorySuggestionResponse suggestion(String suggested) {
+		return CategorySuggestionResponse.builder().suggestedCategory(suggested)
+				.source(suggested != null ? SOURCE_LLM : null).build();
 	}
 }
@@ -0,0 +1,25 @@
+package com.linkly.bookmark.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "일괄 카테고리 추천 요청")
+public class BatchCategorySuggestionRequest {
+
+	@NotEmpty(message = "추천 대상은 1개 이상이어야 합니다")
+	@Size(max = 500, message = "한 번에 최대 500개까지 추천할 수 있습니다")
+	@Valid
+	@Schema(description = "추천 대상 북마크 목록")
+	private List<CategorySuggestionItem> items;
+}
@@ -0,0 +1,19 @@
+package com.linkly.bookmark.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** 내보내기용 북마크·태그 한 행 (태그가 여러 개면 북마크당 여러 행, 태그가 없으면 tagName 이 null 인 한 행) */
+@Getter
+@AllArgsConstructor
+public class BookmarkExportRow {
+
+	private Long bookmarkId;
+	private String url;
+	private String title;
+	private String description;
+	private String categoryName;
+	private LocalDateTime createdAt;
+	private String tagName;
+}
@@ -0,0 +1,51 @@
+package com.linkly.bookmark.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@Schema(description = "북마크 가져오기 진행 상태")
+public class BookmarkImportStatusResponse {
+
+	public enum Status {
+		PENDING, RUNNING, COMPLETED, FAILED
+	}
+
+	@Schema(description = "가져오기 작업 ID", example = "5f0c8a3e-2b1d-4c55-9a57-0d7e3f1a2b3c")
+	private String jobId;
+
+	@Schema(description = "작업 상태", example = "RUNNING")
+	private Status status;
+
+	@Schema(description = "파일 형식", example = "HTML")
+	private String format;
+
+	@Schema(description = "파일에서 읽은 북마크 수", example = "12000")
+	private long processed;
+
+	@Schema(description = "새로 저장한 북마크 수", example = "11500")
+	private long imported;
+
+	@Schema(description = "이미 저장된 URL 이라 건너뛴 수 (파일 내 중복 포함)", example = "450")
+	private long duplicates;
+
+	@Schema(description = "http(s) 가 아니거나 너무 긴 URL 이라 건너뛴 수", example = "50")
+	private long skipped;
+
+	@Schema(description = "저장 중 오류로 실패한 수", example = "0")
+	private long failed;
+
+	@Schema(description = "오류 메시지 (FAILED 인 경우)")
+	private String error;
+
+	@Schema(description = "시작 시간")
+	private LocalDateTime startedAt;
+
+	@Schema(description = "종료 시간")
+	private LocalDateTime finishedAt;
+}
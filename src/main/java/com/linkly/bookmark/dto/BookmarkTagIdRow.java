@@ -0,0 +1,13 @@
+package com.linkly.bookmark.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** 북마크 ID 와 태그 ID 쌍 (일괄 태그 추가 시 이미 있는 매핑 확인용) */
+@Getter
+@AllArgsConstructor
+public class BookmarkTagIdRow {
+
+	private Long bookmarkId;
+	private Long tagId;
+}
@@ -0,0 +1,13 @@
+package com.linkly.bookmark.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** 북마크 ID 와 태그 이름 쌍 (목록 조회 시 태그 일괄 조회용) */
+@Getter
+@AllArgsConstructor
+public class BookmarkTagNameRow {
+
+	private Long bookmarkId;
+	private String tagName;
+}
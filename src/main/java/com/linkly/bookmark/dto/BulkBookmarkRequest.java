@@ -0,0 +1,24 @@
+package com.linkly.bookmark.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "북마크 일괄 삭제 요청")
+public class BulkBookmarkRequest {
+
+	@NotEmpty(message = "대상 북마크는 1개 이상이어야 합니다")
+	@Size(max = 10000, message = "한 번에 최대 10000개까지 처리할 수 있습니다")
+	@Schema(description = "대상 북마크 ID 목록", example = "[1, 2, 3]")
+	private List<@NotNull Long> bookmarkIds;
+}
@@ -0,0 +1,21 @@
+package com.linkly.bookmark.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "북마크 일괄 작업 결과")
+public class BulkOperationResponse {
+
+	@Schema(description = "요청한 북마크 수 (중복 제외)", example = "5000")
+	private int requested;
+
+	@Schema(description = "실제로 변경된 행 수", example = "5000")
+	private int affected;
+}
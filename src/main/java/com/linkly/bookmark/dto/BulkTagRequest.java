@@ -0,0 +1,32 @@
+package com.linkly.bookmark.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "북마크 일괄 태그 추가/제거 요청")
+public class BulkTagRequest {
+
+	@NotEmpty(message = "대상 북마크는 1개 이상이어야 합니다")
+	@Size(max = 10000, message = "한 번에 최대 10000개까지 처리할 수 있습니다")
+	@Schema(description = "대상 북마크 ID 목록", example = "[1, 2, 3]")
+	private List<@NotNull Long> bookmarkIds;
+
+	@Size(max = 20, message = "한 번에 최대 20개의 태그를 추가할 수 있습니다")
+	@Schema(description = "추가할 태그 이름 목록 (없는 태그는 생성)", example = "[\"spring\", \"java\"]")
+	private List<@Size(max = 100, message = "태그는 100자 이하여야 합니다") String> addTags;
+
+	@Size(max = 20, message = "한 번에 최대 20개의 태그를 제거할 수 있습니다")
+	@Schema(description = "제거할 태그 이름 목록", example = "[\"old\"]")
+	private List<@Size(max = 100, message = "태그는 100자 이하여야 합니다") String> removeTags;
+}
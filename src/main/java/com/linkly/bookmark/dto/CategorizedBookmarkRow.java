@@ -0,0 +1,14 @@
+package com.linkly.bookmark.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** 카테고리 분류기 학습용 프로젝션 (카테고리가 지정된 북마크의 텍스트) */
+@Getter
+@AllArgsConstructor
+public class CategorizedBookmarkRow {
+
+	private String categoryName;
+	private String title;
+	private String description;
+}
@@ -0,0 +1,23 @@
+package com.linkly.bookmark.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "카테고리 추천 대상 북마크")
+public class CategorySuggestionItem {
+
+	@NotBlank(message = "제목은 필수입니다")
+	@Schema(description = "북마크 제목", example = "GitHub")
+	private String title;
+
+	@Schema(description = "북마크 설명", example = "Where the world builds software")
+	private String description;
+}
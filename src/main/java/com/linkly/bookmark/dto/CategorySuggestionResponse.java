@@ -13,4 +13,7 @@ public class CategorySuggestionResponse {
 
 	@Schema(description = "추천된 카테고리 이름 (null 가능)", example = "개발")
 	private String suggestedCategory;
+
+	@Schema(description = "추천 출처 (LOCAL: 로컬 분류기, LLM: Ollama, null: 추천 없음)", example = "LOCAL")
+	private String source;
 }
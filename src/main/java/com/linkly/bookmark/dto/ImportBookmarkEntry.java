@@ -0,0 +1,17 @@
+package com.linkly.bookmark.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** 가져오기 파일에서 읽은 북마크 한 건 (folder 는 카테고리 이름으로 사용) */
+@Getter
+@AllArgsConstructor
+public class ImportBookmarkEntry {
+
+	private String url;
+	private String title;
+	private String description;
+	private String folder;
+	private List<String> tags;
+}
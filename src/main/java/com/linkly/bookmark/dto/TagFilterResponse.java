@@ -0,0 +1,28 @@
+package com.linkly.bookmark.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "태그 필터 결과 (최신순 페이지)")
+public class TagFilterResponse {
+
+	@Schema(description = "현재 페이지의 북마크 목록")
+	private List<BookmarkResponse> bookmarks;
+
+	@Schema(description = "조건에 맞는 전체 북마크 수", example = "1234")
+	private long total;
+
+	@Schema(description = "페이지 번호 (0부터)", example = "0")
+	private int page;
+
+	@Schema(description = "페이지 크기", example = "50")
+	private int size;
+}
@@ -58,7 +58,7 @@ public class CategoryController {
 	}
 
 	@GetMapping
-	@Operation(summary = "사용자의 카테고리 목록 조회", description = "인증된 사용자의 모든 카테고리를 조회합니다.")
+	@Operation(summary = "사용자의 카테고리 목록 조회", description = "인증된 사용자의 모든 카테고리를 카테고리별 북마크 수, 마지막 북마크 수정일시와 함께 조회합니다.")
 	@ApiResponses({@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
 			@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")})
 	public ResponseEntity<ApiResponse<List<CategoryResponse>>> getCategoriesByUserId() {
@@ -88,18 +88,19 @@ public class CategoryController {
 	}
 
 	@DeleteMapping("/{categoryId}")
-	@Operation(summary = "카테고리 삭제", description = "카테고리를 삭제합니다. (Soft Delete - 실제로는 삭제되지 않고 삭제 시간만 기록됩니다) 카테고리 소유자만 삭제할 수 있습니다.")
+	@Operation(summary = "카테고리 삭제", description = "카테고리를 삭제합니다. (Soft Delete - 실제로는 삭제되지 않고 삭제 시간만 기록됩니다) 카테고리의 북마크는 reassignTo 로 지정한 카테고리로 옮기고, 지정하지 않으면 미분류로 바꿉니다. 카테고리 소유자만 삭제할 수 있습니다.")
 	@ApiResponses({
 			@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "204", description = "삭제 성공", content = @Content(schema = @Schema(hidden = true))),
 			@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청 (권한 없음 등)"),
 			@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "카테고리를 찾을 수 없음"),
 			@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")})
 	public ResponseEntity<Void> deleteCategory(
-			@Parameter(description = "카테고리 ID", example = "1") @PathVariable Long categoryId) {
+			@Parameter(description = "카테고리 ID", example = "1") @PathVariable Long categoryId,
+			@Parameter(description = "북마크를 옮길 카테고리 ID (없으면 미분류)", example = "2") @RequestParam(required = false) Long reassignTo) {
 		Long userId = SecurityUtils.getCurrentUserId();
-		log.info("DELETE /categories/{} - 카테고리 삭제: userId={}", categoryId, userId);
+		log.info("DELETE /categories/{} - 카테고리 삭제: userId={}, reassignTo={}", categoryId, userId, reassignTo);
 
-		categoryService.deleteCategory(categoryId, userId);
+		categoryService.deleteCategory(categoryId, userId, reassignTo);
 
 		return ResponseEntity.noContent().build();
 	}
@@ -1,10 +1,13 @@
 package com.linkly.category;
 
+import com.linkly.category.dto.CategorySummaryRow;
 import com.linkly.domain.AppUser;
 import com.linkly.domain.Category;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -19,6 +22,10 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
 	/** 삭제되지 않은 카테고리 조회 (ID로) */
 	Optional<Category> findByIdAndDeletedAtIsNull(Long id);
 
+	/** 활성 카테고리의 소유자 ID (카테고리·사용자 엔티티를 읽지 않고 소유권 확인) */
+	@Query("SELECT c.appUser.id FROM Category c WHERE c.id = :id AND c.deletedAt IS NULL")
+	Optional<Long> findOwnerIdById(@Param("id") Long id);
+
 	/** 사용자의 모든 카테고리 조회 (삭제된 것 포함) */
 	List<Category> findAllByAppUser(AppUser appUser);
 
@@ -30,4 +37,12 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
 
 	/** 사용자 ID로 모든 활성 카테고리 조회 */
 	List<Category> findAllByAppUser_IdAndDeletedAtIsNull(Long userId);
+
+	/** 사용자의 활성 카테고리별 활성 북마크 수와 마지막 수정일시 (idx_bookmark_category_deleted 만 읽는 GROUP BY 한 번) */
+	@Query("SELECT new com.linkly.category.dto.CategorySummaryRow(c.id, c.appUser.id, c.name, c.description, "
+			+ "c.createdAt, c.updatedAt, COUNT(b.id), MAX(b.updatedAt)) "
+			+ "FROM Category c LEFT JOIN Bookmark b ON b.category = c AND b.deletedAt IS NULL "
+			+ "WHERE c.appUser.id = :userId AND c.deletedAt IS NULL "
+			+ "GROUP BY c.id, c.appUser.id, c.name, c.description, c.createdAt, c.updatedAt " + "ORDER BY c.id")
+	List<CategorySummaryRow> findSummariesByUserId(@Param("userId") Long userId);
 }
@@ -29,7 +29,7 @@ public interface CategoryService {
 	CategoryResponse getCategoryById(Long categoryId);
 
 	/**
-	 * 사용자의 모든 카테고리 조회
+	 * 사용자의 모든 카테고리 조회 (카테고리별 활성 북마크 수, 마지막 수정일시 포함)
 	 *
 	 * @param userId
 	 *            사용자 ID
@@ -51,12 +51,14 @@ public interface CategoryService {
 	CategoryResponse updateCategory(Long categoryId, Long userId, UpdateCategoryRequest request);
 
 	/**
-	 * 카테고리 삭제 (Soft Delete)
+	 * 카테고리 삭제 (Soft Delete, 소속 북마크는 다른 카테고리로 이동하거나 미분류로 변경)
 	 *
 	 * @param categoryId
 	 *            카테고리 ID
 	 * @param userId
 	 *            사용자 ID (권한 체크용)
+	 * @param reassignToCategoryId
+	 *            북마크를 옮길 카테고리 ID (null 이면 미분류)
 	 */
-	void deleteCategory(Long categoryId, Long userId);
+	void deleteCategory(Long categoryId, Long userId, Long reassignToCategoryId);
 }
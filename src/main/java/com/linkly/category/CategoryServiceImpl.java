@@ -1,5 +1,7 @@
 package com.linkly.category;
 
+import com.linkly.bookmark.BookmarkRepository;
+import com.linkly.bookmark.LocalCategoryClassifier;
 import com.linkly.category.dto.CategoryResponse;
 import com.linkly.category.dto.CreateCategoryRequest;
 import com.linkly.category.dto.UpdateCategoryRequest;
@@ -8,6 +10,7 @@ import com.linkly.domain.Category;
 import com.linkly.global.exception.InvalidRequestException;
 import com.linkly.global.exception.ResourceNotFoundException;
 import com.linkly.user.AppUserRepository;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +26,8 @@ public class CategoryServiceImpl implements CategoryService {
 
 	private final CategoryRepository categoryRepository;
 	private final AppUserRepository userRepository;
+	private final BookmarkRepository bookmarkRepository;
+	private final LocalCategoryClassifier localCategoryClassifier;
 
 	@Override
 	@Transactional
@@ -67,9 +72,9 @@ public class CategoryServiceImpl implements CategoryService {
 			throw new ResourceNotFoundException("User", userId);
 		}
 
-		List<Category> categories = categoryRepository.findAllByAppUser_IdAndDeletedAtIsNull(userId);
-
-		return categories.stream().map(CategoryResponse::from).collect(Collectors.toList());
+		// 카테고리별 북마크 수는 GROUP BY 한 번으로 함께 집계
+		return categoryRepository.findSummariesByUserId(userId).stream().map(CategoryResponse::from)
+				.collect(Collectors.toList());
 	}
 
 	@Override
@@ -104,8 +109,8 @@ public class CategoryServiceImpl implements CategoryService {
 
 	@Override
 	@Transactional
-	public void deleteCategory(Long categoryId, Long userId) {
-		log.info("카테고리 삭제 시도: categoryId={}, userId={}", categoryId, userId);
+	public void deleteCategory(Long categoryId, Long userId, Long reassignToCategoryId) {
+		log.info("카테고리 삭제 시도: categoryId={}, userId={}, reassignTo={}", categoryId, userId, reassignToCategoryId);
 
 		// 카테고리 조회
 		Category category = categoryRepository.findByIdAndDeletedAtIsNull(categoryId)
@@ -117,9 +122,30 @@ public class CategoryServiceImpl implements CategoryService {
 					"categoryId=" + categoryId + ", userId=" + userId);
 		}
 
+		// 북마크를 옮길 카테고리 확인
+		Category target = null;
+		if (reassignToCategoryId != null) {
+			if (reassignToCategoryId.equals(categoryId)) {
+				throw new InvalidRequestException("삭제할 카테고리로는 북마크를 옮길 수 없습니다",
+						"categoryId=" + categoryId);
+			}
+			target = categoryRepository.findByIdAndDeletedAtIsNull(reassignToCategoryId)
+					.orElseThrow(() -> new ResourceNotFoundException("Category", reassignToCategoryId));
+			if (!target.getAppUser().getId().equals(userId)) {
+				throw new InvalidRequestException("해당 카테고리로 북마크를 옮길 권한이 없습니다",
+						"categoryId=" + reassignToCategoryId + ", userId=" + userId);
+			}
+		}
+
+		// 소속 북마크를 UPDATE 한 번으로 이동 (북마크 수와 무관)
+		int moved = bookmarkRepository.reassignCategory(categoryId, target, LocalDateTime.now());
+
 		// Soft Delete
 		category.softDelete();
 
-		log.info("카테고리 삭제 완료: categoryId={}", categoryId);
+		// 분류기 캐시에 남은 카테고리 정보 제거
+		localCategoryClassifier.invalidate(userId);
+
+		log.info("카테고리 삭제 완료: categoryId={}, movedBookmarks={}", categoryId, moved);
 	}
 }
@@ -31,10 +31,23 @@ public class CategoryResponse {
 	@Schema(description = "수정일시")
 	private LocalDateTime updatedAt;
 
+	@Schema(description = "활성 북마크 수 (목록 조회 시에만 포함)", example = "12")
+	private Long bookmarkCount;
+
+	@Schema(description = "카테고리 내 북마크의 마지막 수정일시 (목록 조회 시에만 포함, 북마크가 없으면 null)")
+	private LocalDateTime lastBookmarkUpdatedAt;
+
 	/** Entity를 DTO로 변환 */
 	public static CategoryResponse from(Category category) {
 		return CategoryResponse.builder().id(category.getId()).userId(category.getAppUser().getId())
 				.name(category.getName()).description(category.getDescription()).createdAt(category.getCreatedAt())
 				.updatedAt(category.getUpdatedAt()).build();
 	}
+
+	/** 집계 projection 을 DTO로 변환 */
+	public static CategoryResponse from(CategorySummaryRow row) {
+		return CategoryResponse.builder().id(row.getId()).userId(row.getUserId()).name(row.getName())
+				.description(row.getDescription()).createdAt(row.getCreatedAt()).updatedAt(row.getUpdatedAt())
+				.bookmarkCount(row.getBookmarkCount()).lastBookmarkUpdatedAt(row.getLastBookmarkUpdatedAt()).build();
+	}
 }
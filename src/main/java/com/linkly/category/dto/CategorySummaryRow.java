@@ -0,0 +1,20 @@
+package com.linkly.category.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** 카테고리와 활성 북마크 집계 (카테고리 목록 조회용 GROUP BY projection) */
+@Getter
+@AllArgsConstructor
+public class CategorySummaryRow {
+
+	private Long id;
+	private Long userId;
+	private String name;
+	private String description;
+	private LocalDateTime createdAt;
+	private LocalDateTime updatedAt;
+	private Long bookmarkCount;
+	private LocalDateTime lastBookmarkUpdatedAt;
+}
@@ -1,12 +1,16 @@
 package com.linkly.domain;
 
+import com.linkly.global.util.UrlNormalizer;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import lombok.*;
 
 @Entity
 @Table(name = "bookmark", uniqueConstraints = {
-		@UniqueConstraint(name = "ux_bookmark_user_url", columnNames = {"app_user_id", "url"})})
+		@UniqueConstraint(name = "ux_bookmark_user_url_hash", columnNames = {"app_user_id", "url_hash"})}, indexes = {
+				@Index(name = "idx_bookmark_user_deleted", columnList = "app_user_id, deleted_at"),
+				@Index(name = "idx_bookmark_deleted", columnList = "deleted_at"),
+				@Index(name = "idx_bookmark_category_deleted", columnList = "category_id, deleted_at, updated_at")})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -14,7 +18,8 @@ import lombok.*;
 public class Bookmark extends BaseTimeEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bookmark_seq")
+	@SequenceGenerator(name = "bookmark_seq", sequenceName = "bookmark_seq", allocationSize = 50)
 	@Column(name = "id")
 	private Long id;
 
@@ -28,6 +33,10 @@ public class Bookmark extends BaseTimeEntity {
 	@Column(name = "url", nullable = false, length = 500)
 	private String url;
 
+	/** 정규화한 URL 의 64비트 해시 (UrlNormalizer). 중복 확인은 500자 url 대신 이 컬럼의 고정 길이 인덱스를 사용 */
+	@Column(name = "url_hash", nullable = false)
+	private Long urlHash;
+
 	@Column(name = "description", columnDefinition = "TEXT")
 	private String description;
 
@@ -38,6 +47,11 @@ public class Bookmark extends BaseTimeEntity {
 	@Column(name = "deleted_at")
 	private LocalDateTime deletedAt;
 
+	@PrePersist
+	private void computeUrlHash() {
+		this.urlHash = UrlNormalizer.hash(url);
+	}
+
 	// 소프트 삭제 관련 메서드
 	public void softDelete() {
 		this.deletedAt = LocalDateTime.now();
@@ -58,6 +72,7 @@ public class Bookmark extends BaseTimeEntity {
 		}
 		if (url != null && !url.isBlank()) {
 			this.url = url;
+			this.urlHash = UrlNormalizer.hash(url);
 		}
 		this.description = description;
 	}
@@ -8,7 +8,8 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Entity
 @Table(name = "bookmark_tag_map", uniqueConstraints = {
-		@UniqueConstraint(name = "ux_bookmark_tag", columnNames = {"bookmark_id", "tag_id"})})
+		@UniqueConstraint(name = "ux_bookmark_tag", columnNames = {"bookmark_id", "tag_id"})}, indexes = {
+				@Index(name = "idx_map_tag_bookmark", columnList = "tag_id, bookmark_id")})
 @EntityListeners(AuditingEntityListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -17,7 +18,8 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 public class BookmarkTagMap {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bookmark_tag_map_seq")
+	@SequenceGenerator(name = "bookmark_tag_map_seq", sequenceName = "bookmark_tag_map_seq", allocationSize = 50)
 	@Column(name = "id")
 	private Long id;
 
@@ -6,7 +6,8 @@ import lombok.*;
 
 @Entity
 @Table(name = "category", uniqueConstraints = {
-		@UniqueConstraint(name = "ux_user_category_name", columnNames = {"app_user_id", "name"})})
+		@UniqueConstraint(name = "ux_user_category_name", columnNames = {"app_user_id", "name"})}, indexes = {
+				@Index(name = "idx_category_user_deleted", columnList = "app_user_id, deleted_at")})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -6,7 +6,8 @@ import java.time.LocalDateTime;
 import lombok.*;
 
 @Entity
-@Table(name = "link_check_result")
+@Table(name = "link_check_result", indexes = {
+		@Index(name = "idx_link_check_bookmark_checked", columnList = "bookmark_id, checked_at DESC")})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -14,7 +15,8 @@ import lombok.*;
 public class LinkCheckResult extends BaseTimeEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "link_check_result_seq")
+	@SequenceGenerator(name = "link_check_result_seq", sequenceName = "link_check_result_seq", allocationSize = 50)
 	@Column(name = "id")
 	private Long id;
 
@@ -3,10 +3,13 @@ package com.linkly.domain;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Entity
 @Table(name = "tag", uniqueConstraints = {
-		@UniqueConstraint(name = "ux_user_tag_name", columnNames = {"app_user_id", "name"})})
+		@UniqueConstraint(name = "ux_user_tag_name", columnNames = {"app_user_id", "name"})}, indexes = {
+				@Index(name = "idx_tag_user_deleted", columnList = "app_user_id, deleted_at")})
+@DynamicUpdate // usage_count 는 벌크 UPDATE 로만 바뀌므로 엔티티 변경 시 다른 컬럼만 갱신
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -14,7 +17,8 @@ import lombok.*;
 public class Tag extends BaseTimeEntity {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tag_seq")
+	@SequenceGenerator(name = "tag_seq", sequenceName = "tag_seq", allocationSize = 50)
 	@Column(name = "id")
 	private Long id;
 
@@ -25,6 +29,11 @@ public class Tag extends BaseTimeEntity {
 	@JoinColumn(name = "app_user_id", nullable = false, foreignKey = @ForeignKey(name = "fk_tag_user"))
 	private AppUser appUser;
 
+	/** 이 태그가 붙은 북마크 수 (매핑 추가·삭제 시 TagUsageCounter 가 벌크 UPDATE 로 갱신) */
+	@Builder.Default
+	@Column(name = "usage_count", nullable = false)
+	private long usageCount = 0;
+
 	@Column(name = "deleted_at")
 	private LocalDateTime deletedAt;
 
@@ -0,0 +1,16 @@
+package com.linkly.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "bookmark-bulk")
+@Getter
+@Setter
+public class BookmarkBulkConfig {
+
+	/** 트랜잭션 하나에서 처리할 북마크 수 (IN 목록 크기, 청크마다 UPDATE/DELETE 한 번) */
+	private int chunkSize = 1000;
+}
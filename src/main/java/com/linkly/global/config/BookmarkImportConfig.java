@@ -0,0 +1,34 @@
+package com.linkly.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@ConfigurationProperties(prefix = "bookmark-import")
+@Getter
+@Setter
+public class BookmarkImportConfig {
+
+	/** 트랜잭션 하나에 저장할 북마크 수 (hibernate.jdbc.batch_size 의 배수 권장) */
+	private int batchSize = 500;
+
+	/** 동시에 실행할 가져오기 작업 수 */
+	private int concurrency = 2;
+
+	/** 끝난 작업의 진행 상태를 보관할 시간 (분) */
+	private long jobTtlMinutes = 60;
+
+	@Bean(name = "bookmarkImportExecutor")
+	public ThreadPoolTaskExecutor bookmarkImportExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(concurrency);
+		executor.setMaxPoolSize(concurrency);
+		executor.setThreadNamePrefix("bookmark-import-");
+		executor.initialize();
+		return executor;
+	}
+}
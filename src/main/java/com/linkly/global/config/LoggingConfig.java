@@ -0,0 +1,23 @@
+package com.linkly.global.config;
+
+import com.linkly.global.logging.RequestLoggingFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class LoggingConfig {
+
+	/** QueryCountFilter 안쪽에서 실행해 요청당 SQL 수를 함께 기록 */
+	@Bean
+	@ConditionalOnProperty(prefix = "request-logging", name = "enabled", havingValue = "true", matchIfMissing = true)
+	public FilterRegistrationBean<RequestLoggingFilter> requestLoggingFilter(
+			RequestLoggingProperties requestLoggingProperties) {
+		FilterRegistrationBean<RequestLoggingFilter> registration = new FilterRegistrationBean<>(
+				new RequestLoggingFilter(requestLoggingProperties));
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 20);
+		return registration;
+	}
+}
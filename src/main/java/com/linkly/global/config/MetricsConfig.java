@@ -0,0 +1,31 @@
+package com.linkly.global.config;
+
+import com.linkly.global.metrics.QueryCountFilter;
+import com.linkly.global.metrics.QueryCountInspector;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class MetricsConfig {
+
+	/** 요청당 SQL 수 집계용 StatementInspector 등록 */
+	@Bean
+	public HibernatePropertiesCustomizer queryCountInspectorCustomizer() {
+		return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountInspector());
+	}
+
+	/** Spring Security 필터 체인(-100)보다 먼저 실행해 인증 과정의 조회도 집계 */
+	@Bean
+	public FilterRegistrationBean<QueryCountFilter> queryCountFilter(MeterRegistry meterRegistry,
+			QueryBudgetProperties queryBudgetProperties) {
+		FilterRegistrationBean<QueryCountFilter> registration = new FilterRegistrationBean<>(
+				new QueryCountFilter(meterRegistry, queryBudgetProperties));
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+		return registration;
+	}
+}
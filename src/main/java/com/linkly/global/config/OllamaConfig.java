@@ -1,5 +1,6 @@
 package com.linkly.global.config;
 
+import java.net.http.HttpClient;
 import java.time.Duration;
 import lombok.Getter;
 import lombok.Setter;
@@ -7,6 +8,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
@@ -19,6 +21,73 @@ public class OllamaConfig {
 	private String model;
 	private int timeout;
 
+	/** 단건 추천 시 NDJSON 스트리밍 응답을 읽다가 카테고리가 확정되면 생성을 중단 */
+	private boolean stream = true;
+
+	/** 단건 추천 시 생성 토큰 수 상한 (num_predict) */
+	private int numPredict = 16;
+
+	/** 요청마다 전달하는 keep_alive (모델을 메모리에 유지할 시간, 예: 30m, -1 은 무기한) */
+	private String keepAlive = "30m";
+
+	private final Batch batch = new Batch();
+	private final Bulkhead bulkhead = new Bulkhead();
+	private final CircuitBreaker circuitBreaker = new CircuitBreaker();
+	private final Warmup warmup = new Warmup();
+
+	@Getter
+	@Setter
+	public static class Batch {
+
+		/** 프롬프트 하나에 담을 최대 북마크 수 */
+		private int size = 20;
+
+		/** 프롬프트 최대 길이 (모델 컨텍스트 크기에 맞춰 조정) */
+		private int maxPromptChars = 6000;
+
+		/** 동시에 실행할 최대 청크 수 */
+		private int concurrency = 2;
+	}
+
+	@Getter
+	@Setter
+	public static class Bulkhead {
+
+		/** 동시에 진행할 수 있는 최대 Ollama 호출 수 */
+		private int maxConcurrentCalls = 4;
+
+		/** 허용 슬롯을 기다릴 수 있는 최대 요청 수 (초과 시 즉시 거절) */
+		private int maxWaitingCalls = 16;
+
+		/** 허용 슬롯 대기 시간 (밀리초) */
+		private long maxWaitMs = 500;
+	}
+
+	@Getter
+	@Setter
+	public static class CircuitBreaker {
+
+		/** 연속 실패(오류·타임아웃) 횟수가 이 값에 도달하면 OPEN */
+		private int failureThreshold = 5;
+
+		/** OPEN 유지 시간 (초). 이후 HALF_OPEN 으로 전환되어 시험 호출을 허용 */
+		private long openDurationSeconds = 30;
+
+		/** HALF_OPEN 상태에서 동시에 허용할 시험 호출 수 */
+		private int halfOpenMaxCalls = 1;
+	}
+
+	@Getter
+	@Setter
+	public static class Warmup {
+
+		/** 기동 직후 및 주기적으로 모델을 미리 적재 */
+		private boolean enabled = true;
+
+		/** 주기적 warm-up 간격 (밀리초). keep-alive 보다 짧게 두어 모델이 내려가지 않도록 함 */
+		private long intervalMs = 600_000;
+	}
+
 	@Bean("ollamaRestTemplate")
 	public RestTemplate ollamaRestTemplate(RestTemplateBuilder builder) {
 		return builder
@@ -26,4 +95,23 @@ public class OllamaConfig {
 				.readTimeout(Duration.ofSeconds(timeout))
 				.build();
 	}
+
+	/** 스트리밍 추천 전용. 다 읽지 않은 응답을 닫으면 커넥션을 끊으므로 조기 종료 시 Ollama 생성이 중단됨 */
+	@Bean("ollamaHttpClient")
+	public HttpClient ollamaHttpClient() {
+		return HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.connectTimeout(Duration.ofSeconds(timeout))
+				.build();
+	}
+
+	@Bean(name = "ollamaBatchExecutor")
+	public ThreadPoolTaskExecutor ollamaBatchExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(batch.getConcurrency());
+		executor.setMaxPoolSize(batch.getConcurrency());
+		executor.setThreadNamePrefix("ollama-batch-");
+		executor.initialize();
+		return executor;
+	}
 }
@@ -0,0 +1,33 @@
+package com.linkly.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "query-budget")
+@Getter
+@Setter
+public class QueryBudgetProperties {
+
+	public enum Mode {
+		/** 경고 로그만 남김 */
+		LOG,
+		/** 응답 본문 대신 500 으로 실패 (테스트용) */
+		FAIL
+	}
+
+	private boolean enabled = true;
+
+	/** 요청당 허용 SQL 문 수 */
+	private int maxQueries = 30;
+
+	/** 같은 형태의 SQL 이 한 요청에서 반복될 수 있는 최대 횟수 (초과 시 N+1 로 판단) */
+	private int maxRepeats = 10;
+
+	private Mode mode = Mode.LOG;
+
+	/** 응답에 X-Query-Count 헤더 추가 (운영에서는 끔) */
+	private boolean responseHeader = true;
+}
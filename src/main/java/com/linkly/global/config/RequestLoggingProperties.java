@@ -0,0 +1,26 @@
+package com.linkly.global.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "request-logging")
+@Getter
+@Setter
+public class RequestLoggingProperties {
+
+	private boolean enabled = true;
+
+	/** 정상 응답(2xx/3xx) 로그 샘플링 비율 (0.0 ~ 1.0). 4xx/5xx 와 느린 요청은 항상 기록 */
+	private double sampleRate = 0.01;
+
+	/** 엔드포인트별 샘플링 비율. 키는 "GET /bookmarks" 형식 (매핑 패턴 기준) */
+	private Map<String, Double> endpoints = new HashMap<>();
+
+	/** 이 시간 이상 걸린 요청은 샘플링과 무관하게 기록 */
+	private long slowThresholdMs = 1000;
+}
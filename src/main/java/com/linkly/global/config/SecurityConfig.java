@@ -43,9 +43,13 @@ public class SecurityConfig {
 								"/swagger-ui/**", // Swagger UI
 								"/v3/api-docs", // OpenAPI 문서 (루트)
 								"/v3/api-docs/**", // OpenAPI 문서
-								"/swagger-resources/**", "/webjars/**")
+								"/swagger-resources/**", "/webjars/**", "/actuator/health",
+								"/actuator/prometheus") // prod 에서는 외부 미공개 management 포트에서만 제공
 						.permitAll()
 
+						// 운영 메트릭은 관리자만 조회
+						.requestMatchers("/actuator/**").hasRole("ADMIN")
+
 						// 나머지 모든 요청은 인증 필요
 						.anyRequest().authenticated())
 
@@ -0,0 +1,25 @@
+package com.linkly.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "tag-gc")
+@Getter
+@Setter
+public class TagGcConfig {
+
+	/** 한 번에 조회·삭제할 태그 수 (트랜잭션 하나에서 DELETE 한 번) */
+	private int batchSize = 500;
+
+	/** 배치 사이 대기 시간 (다른 쓰기 트랜잭션에 tag 테이블 락을 양보) */
+	private long pauseMs = 200;
+
+	/** 만든 지 이 시간이 지나지 않은 태그는 건너뜀 (매핑 저장 직전의 새 태그 보호) */
+	private long minAgeMinutes = 60;
+
+	/** 한 번 실행할 때 처리할 최대 배치 수 (남은 태그는 다음 실행에서 처리) */
+	private int maxBatchesPerRun = 200;
+}
@@ -0,0 +1,74 @@
+package com.linkly.global.logging;
+
+import com.linkly.global.config.RequestLoggingProperties;
+import com.linkly.global.metrics.QueryCountContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청당 한 줄의 구조화 로그 (method, uri, status, durationMs, queries 키-값).
+ *
+ * 정상 응답은 엔드포인트별 비율로 샘플링하고, 4xx/5xx·예외·느린 요청은 항상 기록한다. 컨트롤러마다 남기던 INFO 로그를 대신한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RequestLoggingFilter extends OncePerRequestFilter {
+
+	private final RequestLoggingProperties requestLoggingProperties;
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		long start = System.nanoTime();
+		Exception failure = null;
+		try {
+			filterChain.doFilter(request, response);
+		} catch (ServletException | IOException | RuntimeException e) {
+			failure = e;
+			throw e;
+		} finally {
+			long durationMs = (System.nanoTime() - start) / 1_000_000;
+			int status = failure != null ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+			String endpoint = request.getMethod() + " " + uriPattern(request);
+
+			Level level = levelFor(status, durationMs, endpoint);
+			if (level != null) {
+				QueryCountContext queries = QueryCountContext.current();
+				log.atLevel(level).addKeyValue("method", request.getMethod()).addKeyValue("uri", uriPattern(request))
+						.addKeyValue("status", status).addKeyValue("durationMs", durationMs)
+						.addKeyValue("queries", queries != null ? queries.getCount() : null)
+						.setCause(failure).log("{} -> {} ({}ms)", endpoint, status, durationMs);
+			}
+		}
+	}
+
+	/** @return 기록할 로그 레벨, 샘플링에서 제외되면 null */
+	Level levelFor(int status, long durationMs, String endpoint) {
+		if (status >= 500) {
+			return Level.ERROR;
+		}
+		if (status >= 400) {
+			return Level.WARN;
+		}
+		if (durationMs >= requestLoggingProperties.getSlowThresholdMs()) {
+			return Level.WARN;
+		}
+		double sampleRate = requestLoggingProperties.getEndpoints().getOrDefault(endpoint,
+				requestLoggingProperties.getSampleRate());
+		return ThreadLocalRandom.current().nextDouble() < sampleRate ? Level.INFO : null;
+	}
+
+	private static String uriPattern(HttpServletRequest request) {
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		return pattern != null ? pattern.toString() : request.getRequestURI();
+	}
+}
@@ -0,0 +1,9 @@
+package com.linkly.global.metrics;
+
+/** query-budget.mode=FAIL 에서 요청이 쿼리 예산을 넘긴 경우 (테스트에서 N+1 회귀를 잡기 위함) */
+public class QueryBudgetExceededException extends RuntimeException {
+
+	public QueryBudgetExceededException(String message) {
+		super(message);
+	}
+}
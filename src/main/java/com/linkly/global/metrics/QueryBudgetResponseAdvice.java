@@ -0,0 +1,56 @@
+package com.linkly.global.metrics;
+
+import com.linkly.global.config.QueryBudgetProperties;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 본문을 쓰기 직전에 X-Query-Count 헤더를 붙이고, FAIL 모드에서는 예산 초과 요청을 실패시킨다.
+ *
+ * 필터에서는 본문이 이미 커밋된 뒤라 헤더를 추가할 수 없어 ResponseBodyAdvice 로 처리한다.
+ */
+@RestControllerAdvice
+public class QueryBudgetResponseAdvice implements ResponseBodyAdvice<Object> {
+
+	public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+
+	private final QueryBudgetProperties queryBudgetProperties;
+
+	/** @WebMvcTest 등 설정 빈이 없는 슬라이스에서는 기본값 사용 */
+	public QueryBudgetResponseAdvice(ObjectProvider<QueryBudgetProperties> queryBudgetProperties) {
+		this.queryBudgetProperties = queryBudgetProperties.getIfAvailable(QueryBudgetProperties::new);
+	}
+
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		return true;
+	}
+
+	@Override
+	public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+			Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+			ServerHttpResponse response) {
+		QueryCountContext context = QueryCountContext.current();
+		if (context == null) {
+			return body;
+		}
+		if (queryBudgetProperties.isResponseHeader()) {
+			response.getHeaders().set(QUERY_COUNT_HEADER, String.valueOf(context.getCount()));
+		}
+		if (queryBudgetProperties.isEnabled() && queryBudgetProperties.getMode() == QueryBudgetProperties.Mode.FAIL) {
+			String violation = context.checkBudget(queryBudgetProperties.getMaxQueries(),
+					queryBudgetProperties.getMaxRepeats());
+			// 예외 처리기가 만든 오류 응답도 이 advice 를 다시 거치므로 한 번만 실패시킴
+			if (violation != null && context.markViolationReported()) {
+				throw new QueryBudgetExceededException("쿼리 예산 초과: " + violation);
+			}
+		}
+		return body;
+	}
+}
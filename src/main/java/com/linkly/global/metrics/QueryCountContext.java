@@ -0,0 +1,99 @@
+package com.linkly.global.metrics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 스레드에서 실행된 SQL 문 수와 문장 형태(shape)별 반복 횟수.
+ *
+ * QueryCountFilter 가 요청 시작 시 열고 끝날 때 닫는다. 요청 밖(스케줄러, @Async 등)에서 실행된 SQL 은 집계하지 않는다.
+ */
+public final class QueryCountContext {
+
+	private static final ThreadLocal<QueryCountContext> CURRENT = new ThreadLocal<>();
+
+	private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+	private static final Pattern NUMBER = Pattern.compile("\\b\\d+\\b");
+	private static final Pattern STRING = Pattern.compile("'[^']*'");
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	private int count;
+	private final Map<String, Integer> shapes = new HashMap<>();
+	private String mostRepeatedShape;
+	private int maxRepeats;
+	private boolean violationReported;
+
+	private QueryCountContext() {
+	}
+
+	public static QueryCountContext start() {
+		QueryCountContext context = new QueryCountContext();
+		CURRENT.set(context);
+		return context;
+	}
+
+	/** @return 현재 요청의 컨텍스트, 요청 밖이면 null */
+	public static QueryCountContext current() {
+		return CURRENT.get();
+	}
+
+	public static void end() {
+		CURRENT.remove();
+	}
+
+	void record(String sql) {
+		count++;
+		String shape = shapeOf(sql);
+		int repeats = shapes.merge(shape, 1, Integer::sum);
+		if (repeats > maxRepeats) {
+			maxRepeats = repeats;
+			mostRepeatedShape = shape;
+		}
+	}
+
+	/** 리터럴과 IN 목록 길이를 지운 문장 형태. 같은 형태가 반복되면 루프 안 쿼리(N+1) 로 본다 */
+	static String shapeOf(String sql) {
+		String shape = STRING.matcher(sql).replaceAll("?");
+		shape = NUMBER.matcher(shape).replaceAll("?");
+		shape = IN_LIST.matcher(shape).replaceAll("(?)");
+		return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+	}
+
+	/**
+	 * 예산 초과 여부.
+	 *
+	 * @return 위반 내용, 예산 이내면 null
+	 */
+	public String checkBudget(int maxQueries, int maxRepeatsPerShape) {
+		if (count > maxQueries) {
+			return "queries=" + count + " > budget=" + maxQueries;
+		}
+		if (maxRepeats > maxRepeatsPerShape) {
+			return "same statement repeated " + maxRepeats + " times > " + maxRepeatsPerShape + ": "
+					+ mostRepeatedShape;
+		}
+		return null;
+	}
+
+	/** 한 요청에서 위반을 한 번만 보고하기 위한 표시. 처음 호출 시에만 true */
+	public boolean markViolationReported() {
+		if (violationReported) {
+			return false;
+		}
+		violationReported = true;
+		return true;
+	}
+
+	public int getCount() {
+		return count;
+	}
+
+	public int getMaxRepeats() {
+		return maxRepeats;
+	}
+
+	public String getMostRepeatedShape() {
+		return mostRepeatedShape;
+	}
+}
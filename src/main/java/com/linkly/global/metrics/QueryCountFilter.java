@@ -0,0 +1,61 @@
+package com.linkly.global.metrics;
+
+import com.linkly.global.config.QueryBudgetProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청당 SQL 문 수를 http.server.requests.queries 분포로 기록하고, 쿼리 예산을 넘긴 요청을 로그로 남긴다.
+ *
+ * 인증 필터에서 실행되는 조회까지 포함하도록 Spring Security 필터 체인보다 먼저 등록한다 (MetricsConfig). 응답 헤더와 FAIL 모드는
+ * 본문이 쓰이기 전에 처리해야 하므로 QueryBudgetResponseAdvice 가 담당한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class QueryCountFilter extends OncePerRequestFilter {
+
+	private final MeterRegistry meterRegistry;
+	private final QueryBudgetProperties queryBudgetProperties;
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		QueryCountContext context = QueryCountContext.start();
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			QueryCountContext.end();
+			String uri = uriPattern(request);
+			DistributionSummary.builder("http.server.requests.queries").description("요청당 실행된 SQL 문 수")
+					.tag("method", request.getMethod()).tag("uri", uri).register(meterRegistry)
+					.record(context.getCount());
+			checkBudget(context, request.getMethod(), uri);
+		}
+	}
+
+	private void checkBudget(QueryCountContext context, String method, String uri) {
+		if (!queryBudgetProperties.isEnabled()) {
+			return;
+		}
+		String violation = context.checkBudget(queryBudgetProperties.getMaxQueries(),
+				queryBudgetProperties.getMaxRepeats());
+		if (violation != null) {
+			log.warn("쿼리 예산 초과: {} {} - {}", method, uri, violation);
+		}
+	}
+
+	/** 실제 경로 대신 매핑 패턴(/bookmarks/{bookmarkId})을 태그로 사용해 카디널리티를 제한 */
+	private static String uriPattern(HttpServletRequest request) {
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		return pattern != null ? pattern.toString() : "UNKNOWN";
+	}
+}
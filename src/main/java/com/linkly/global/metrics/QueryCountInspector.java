@@ -0,0 +1,16 @@
+package com.linkly.global.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/** Hibernate 가 JDBC 로 보내는 모든 SQL 을 현재 요청의 QueryCountContext 에 집계 (SQL 은 변경하지 않음) */
+public class QueryCountInspector implements StatementInspector {
+
+	@Override
+	public String inspect(String sql) {
+		QueryCountContext context = QueryCountContext.current();
+		if (context != null) {
+			context.record(sql);
+		}
+		return sql;
+	}
+}
@@ -0,0 +1,29 @@
+package com.linkly.global.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 태그·카테고리 이름 비교 키.
+ *
+ * 이름 컬럼의 collation (utf8mb4_unicode_ci) 은 대소문자뿐 아니라 악센트("Café" = "cafe"), 전각 문자("Ｊａｖａ" = "Java"),
+ * 끝 공백도 같은 값으로 본다. 유니크 키 (ux_user_tag_name, ux_user_category_name) 와 IN 조회가 이 기준을 쓰므로, 조회 결과를 요청한
+ * 이름과 대조하거나 같은 요청 안의 이름을 합칠 때는 toLowerCase 대신 이 키를 쓴다. 호환 분해(NFKD) 후 결합 문자를 지우고 소문자로
+ * 바꾸는 근사치라 UCA 의 확장 규칙 일부는 다르게 볼 수 있다. 정확히 같아야 하는 곳은 DB 에 이름을 다시 물어 확인한다.
+ */
+public final class NameCollation {
+
+	private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+	private static final Pattern TRAILING_SPACES = Pattern.compile(" +$");
+
+	private NameCollation() {
+	}
+
+	/** collation 이 같다고 보는 이름끼리 같은 값 */
+	public static String key(String name) {
+		String decomposed = Normalizer.normalize(name, Normalizer.Form.NFKD);
+		String folded = COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT).replace("ß", "ss");
+		return TRAILING_SPACES.matcher(folded).replaceFirst("");
+	}
+}
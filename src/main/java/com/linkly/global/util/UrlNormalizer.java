@@ -0,0 +1,81 @@
+package com.linkly.global.util;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+
+/**
+ * 북마크 URL 정규화와 고정 길이 해시.
+ *
+ * 같은 주소를 가리키는 표기 차이(스킴·호스트 대소문자, 기본 포트, 빈 경로, 앞뒤 공백)를 하나로 맞춘 뒤 SHA-256 앞 8바이트를 long 으로 쓴다.
+ * 경로·쿼리·프래그먼트는 대소문자를 포함해 그대로 두므로 서로 다른 문서(앵커)는 구분된다. 파싱할 수 없는 URL 은 공백만 제거한 값을 사용한다.
+ *
+ * 정규화나 해시 방식을 바꾸면 저장된 bookmark.url_hash 와 어긋나 유니크 제약과 중복 확인이 조용히 깨진다. 바꿀 때는 기존 행의 url_hash 를
+ * 다시 계산하는 마이그레이션을 함께 추가해야 한다 (V7 은 적용 당시 로직의 사본을 사용하므로 수정하지 않는다).
+ */
+public final class UrlNormalizer {
+
+	private UrlNormalizer() {
+	}
+
+	/** 정규화한 URL 의 해시 (bookmark.url_hash) */
+	public static long hash(String url) {
+		return digest(normalize(url));
+	}
+
+	/** 문자열의 SHA-256 앞 8바이트 (big-endian long) */
+	public static long digest(String value) {
+		try {
+			byte[] sha = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+			return ByteBuffer.wrap(sha, 0, Long.BYTES).getLong();
+		} catch (NoSuchAlgorithmException e) {
+			// 모든 JVM 이 SHA-256 을 제공해야 하므로 발생하지 않음
+			throw new IllegalStateException(e);
+		}
+	}
+
+	public static String normalize(String url) {
+		String trimmed = url.strip();
+		URI uri;
+		try {
+			uri = new URI(trimmed);
+		} catch (URISyntaxException e) {
+			return trimmed;
+		}
+		if (uri.isOpaque() || uri.getScheme() == null || uri.getHost() == null) {
+			return trimmed;
+		}
+
+		String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+		String host = uri.getHost().toLowerCase(Locale.ROOT);
+		if (host.endsWith(".")) {
+			host = host.substring(0, host.length() - 1);
+		}
+		int port = uri.getPort();
+		if ((port == 80 && scheme.equals("http")) || (port == 443 && scheme.equals("https"))) {
+			port = -1;
+		}
+		String path = uri.getRawPath();
+
+		StringBuilder normalized = new StringBuilder(trimmed.length()).append(scheme).append("://");
+		if (uri.getRawUserInfo() != null) {
+			normalized.append(uri.getRawUserInfo()).append('@');
+		}
+		normalized.append(host);
+		if (port != -1) {
+			normalized.append(':').append(port);
+		}
+		normalized.append(path == null || path.isEmpty() ? "/" : path);
+		if (uri.getRawQuery() != null) {
+			normalized.append('?').append(uri.getRawQuery());
+		}
+		if (uri.getRawFragment() != null) {
+			normalized.append('#').append(uri.getRawFragment());
+		}
+		return normalized.toString();
+	}
+}
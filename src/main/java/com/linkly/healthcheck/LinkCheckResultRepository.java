@@ -4,6 +4,8 @@ import com.linkly.domain.LinkCheckResult;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -12,6 +14,12 @@ public interface LinkCheckResultRepository extends JpaRepository<LinkCheckResult
 	/** 북마크별 가장 최근 체크 결과 */
 	Optional<LinkCheckResult> findTopByBookmarkIdOrderByCheckedAtDesc(Long bookmarkId);
 
+	/** 사용자의 활성 북마크별 가장 최근 체크 결과 (북마크 함께 조회, 같은 시각 결과가 여럿이면 모두 반환) */
+	@Query("SELECT r FROM LinkCheckResult r JOIN FETCH r.bookmark b " + "WHERE b.appUser.id = :userId "
+			+ "AND b.deletedAt IS NULL " + "AND r.checkedAt = (SELECT MAX(r2.checkedAt) FROM LinkCheckResult r2 "
+			+ "WHERE r2.bookmark = b) " + "ORDER BY b.id, r.id DESC")
+	List<LinkCheckResult> findLatestByUserId(@Param("userId") Long userId);
+
 	/** 여러 북마크의 체크 결과 목록 (최신순) */
 	List<LinkCheckResult> findAllByBookmarkIdInOrderByCheckedAtDesc(List<Long> bookmarkIds);
 }
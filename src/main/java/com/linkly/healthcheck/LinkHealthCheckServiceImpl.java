@@ -3,21 +3,20 @@ package com.linkly.healthcheck;
 import com.linkly.bookmark.BookmarkRepository;
 import com.linkly.domain.Bookmark;
 import com.linkly.domain.LinkCheckResult;
-import com.linkly.domain.enums.LinkCheckStatus;
 import com.linkly.global.exception.InvalidRequestException;
 import com.linkly.global.exception.ResourceNotFoundException;
 import com.linkly.healthcheck.dto.LinkCheckResultResponse;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.ResourceAccessException;
-import org.springframework.web.client.RestTemplate;
 
 @Service
 @Slf4j
@@ -28,17 +27,22 @@ public class LinkHealthCheckServiceImpl implements LinkHealthCheckService {
 	private final BookmarkRepository bookmarkRepository;
 	private final LinkCheckResultRepository linkCheckResultRepository;
 	private final LinkHealthChecker linkHealthChecker;
-	private final RestTemplate restTemplate;
+	private final LinkProbe linkProbe;
 
 	@Override
 	public void checkAllBookmarks() {
 		List<Bookmark> bookmarks = bookmarkRepository.findAllByDeletedAtIsNull();
-		log.info("[HealthCheck] Scheduling async check for {} bookmarks", bookmarks.size());
-		bookmarks.forEach(linkHealthChecker::checkAndSave);
+		// 여러 사용자가 저장한 같은 URL 은 정규화 URL 해시로 묶어 한 번만 요청
+		Map<Long, List<Bookmark>> bookmarksByUrlHash = bookmarks.stream()
+				.collect(Collectors.groupingBy(Bookmark::getUrlHash, LinkedHashMap::new, Collectors.toList()));
+		log.info("[HealthCheck] Scheduling async check for {} bookmarks ({} distinct urls)", bookmarks.size(),
+				bookmarksByUrlHash.size());
+		bookmarksByUrlHash.values().forEach(linkHealthChecker::checkAndSave);
 	}
 
+	/** 원격 HTTP 요청 동안 커넥션을 잡지 않도록 조회·저장은 각각 리포지토리 트랜잭션으로 실행 */
 	@Override
-	@Transactional
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public LinkCheckResultResponse checkBookmarkNow(Long bookmarkId, Long userId) {
 		Bookmark bookmark = bookmarkRepository.findByIdAndDeletedAtIsNull(bookmarkId)
 				.orElseThrow(() -> new ResourceNotFoundException("Bookmark", bookmarkId));
@@ -47,42 +51,22 @@ public class LinkHealthCheckServiceImpl implements LinkHealthCheckService {
 			throw new InvalidRequestException("No permission for this bookmark", "bookmarkId=" + bookmarkId);
 		}
 
-		LinkCheckStatus status;
-		Integer httpStatus = null;
-		long start = System.currentTimeMillis();
-		long responseTimeMs;
+		LinkProbe.ProbeResult probe = linkProbe.probe(bookmark.getUrl());
 
-		try {
-			ResponseEntity<Void> response = restTemplate.exchange(
-					bookmark.getUrl(), HttpMethod.HEAD, null, Void.class);
-			responseTimeMs = System.currentTimeMillis() - start;
-			httpStatus = response.getStatusCode().value();
-			status = response.getStatusCode().is2xxSuccessful()
-					? LinkCheckStatus.HEALTHY
-					: LinkCheckStatus.DEAD;
-		} catch (ResourceAccessException e) {
-			responseTimeMs = System.currentTimeMillis() - start;
-			status = LinkCheckStatus.TIMEOUT;
-		} catch (Exception e) {
-			responseTimeMs = System.currentTimeMillis() - start;
-			status = LinkCheckStatus.DEAD;
-		}
-
-		LinkCheckResult result = LinkCheckResult.of(bookmark, status, httpStatus, responseTimeMs);
+		LinkCheckResult result = LinkCheckResult.of(bookmark, probe.status(), probe.httpStatus(),
+				probe.responseTimeMs());
 		linkCheckResultRepository.save(result);
-		log.info("[HealthCheck] Immediate check — bookmarkId={}, status={}", bookmarkId, status);
+		log.info("[HealthCheck] Immediate check — bookmarkId={}, status={}", bookmarkId, probe.status());
 		return LinkCheckResultResponse.from(result);
 	}
 
 	@Override
 	public List<LinkCheckResultResponse> getMyResults(Long userId) {
-		List<Bookmark> bookmarks = bookmarkRepository.findAllByAppUserIdAndDeletedAtIsNull(userId);
-		List<Long> bookmarkIds = bookmarks.stream().map(Bookmark::getId).toList();
-
-		return bookmarkIds.stream()
-				.map(linkCheckResultRepository::findTopByBookmarkIdOrderByCheckedAtDesc)
-				.filter(Optional::isPresent)
-				.map(opt -> LinkCheckResultResponse.from(opt.get()))
+		// 북마크별 최신 결과를 한 번에 조회 (같은 시각 결과가 여럿이면 id 가 큰 첫 행만 사용)
+		Set<Long> seenBookmarkIds = new HashSet<>();
+		return linkCheckResultRepository.findLatestByUserId(userId).stream()
+				.filter(result -> seenBookmarkIds.add(result.getBookmark().getId()))
+				.map(LinkCheckResultResponse::from)
 				.collect(Collectors.toList());
 	}
 }
@@ -0,0 +1,55 @@
+package com.linkly.healthcheck;
+
+import com.linkly.domain.enums.LinkCheckStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * 북마크 URL 에 HEAD 요청을 보내 상태를 판정하고 healthcheck.probe 타이머에 기록.
+ *
+ * URL 을 URI 로 넘겨 RestTemplate 의 http.client.requests 메트릭에 URL 별 uri 태그가 생기지 않도록 한다.
+ */
+@Component
+public class LinkProbe {
+
+	public record ProbeResult(LinkCheckStatus status, Integer httpStatus, long responseTimeMs) {
+	}
+
+	private final RestTemplate restTemplate;
+	private final MeterRegistry meterRegistry;
+
+	public LinkProbe(RestTemplate restTemplate, MeterRegistry meterRegistry) {
+		this.restTemplate = restTemplate;
+		this.meterRegistry = meterRegistry;
+	}
+
+	public ProbeResult probe(String url) {
+		LinkCheckStatus status;
+		Integer httpStatus = null;
+		long start = System.nanoTime();
+
+		try {
+			URI uri = UriComponentsBuilder.fromUriString(url).encode().build().toUri();
+			ResponseEntity<Void> response = restTemplate.exchange(uri, HttpMethod.HEAD, null, Void.class);
+			httpStatus = response.getStatusCode().value();
+			status = response.getStatusCode().is2xxSuccessful() ? LinkCheckStatus.HEALTHY : LinkCheckStatus.DEAD;
+		} catch (ResourceAccessException e) {
+			status = LinkCheckStatus.TIMEOUT;
+		} catch (Exception e) {
+			status = LinkCheckStatus.DEAD;
+		}
+
+		long elapsed = System.nanoTime() - start;
+		Timer.builder("healthcheck.probe").description("북마크 URL HEAD 요청 시간").tag("status", status.name())
+				.register(meterRegistry).record(elapsed, TimeUnit.NANOSECONDS);
+		return new ProbeResult(status, httpStatus, TimeUnit.NANOSECONDS.toMillis(elapsed));
+	}
+}
@@ -0,0 +1,92 @@
+package com.linkly.tag;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 사용자별 태그 자동완성 트라이 캐시.
+ *
+ * 처음 조회할 때 사용자의 태그를 한 번 읽어 트라이를 만들고, 트라이에 없는 태그가 매핑되거나 태그가 삭제된 트랜잭션이 커밋되면 해당 사용자
+ * 트라이를 버린다. 기존 태그의 사용 횟수 변화(순위)는 즉시 반영하지 않고 TTL 이 지나 다시 만들 때 반영한다. TTL 은 다른 인스턴스에서 바뀐
+ * 태그를 반영하기 위한 상한이기도 하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagAutocompleteIndex {
+
+	private final TagRepository tagRepository;
+
+	@Value("${tag-autocomplete.ttl-seconds:300}")
+	private long ttlSeconds;
+
+	@Value("${tag-autocomplete.max-cached-users:1000}")
+	private int maxCachedUsers;
+
+	private final Map<Long, CachedTrie> tries = new ConcurrentHashMap<>();
+
+	private record CachedTrie(TagPrefixTrie trie, Set<Long> tagIds, long builtAtMillis) {
+	}
+
+	public List<TagPrefixTrie.Entry> suggest(Long userId, String prefix, int limit) {
+		return getTrie(userId).suggest(prefix, limit);
+	}
+
+	/** 사용자 트라이 캐시 무효화 */
+	public void invalidate(Long userId) {
+		tries.remove(userId);
+	}
+
+	/** 태그 변경 트랜잭션 커밋 후 (트랜잭션 밖에서 발행되면 즉시) 태그 이름이 늘거나 줄었으면 무효화 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onTagsChanged(TagsChangedEvent event) {
+		CachedTrie cached = tries.get(event.userId());
+		if (cached == null) {
+			return;
+		}
+		if (!event.deletedTagIds().isEmpty() || !cached.tagIds().containsAll(event.tagNames().keySet())) {
+			invalidate(event.userId());
+		}
+	}
+
+	private TagPrefixTrie getTrie(Long userId) {
+		long now = System.currentTimeMillis();
+		CachedTrie cached = tries.get(userId);
+		if (cached != null && now - cached.builtAtMillis() < ttlSeconds * 1_000) {
+			return cached.trie();
+		}
+
+		long start = System.currentTimeMillis();
+		List<TagPrefixTrie.Entry> entries = tagRepository
+				.findAllByAppUserIdAndDeletedAtIsNullOrderByUsageCountDescNameAsc(userId).stream()
+				.map(tag -> new TagPrefixTrie.Entry(tag.getId(), tag.getName(), tag.getUsageCount())).toList();
+		TagPrefixTrie trie = TagPrefixTrie.build(entries);
+		log.debug("태그 자동완성 트라이 생성: userId={}, tags={}, elapsedMs={}", userId, trie.size(),
+				System.currentTimeMillis() - start);
+
+		evictIfFull();
+		tries.put(userId, new CachedTrie(trie,
+				entries.stream().map(TagPrefixTrie.Entry::id).collect(Collectors.toUnmodifiableSet()), now));
+		return trie;
+	}
+
+	private void evictIfFull() {
+		if (tries.size() < maxCachedUsers) {
+			return;
+		}
+		Iterator<Long> iterator = tries.keySet().iterator();
+		if (iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package com.linkly.tag;
+
+import com.linkly.global.dto.ApiResponse;
+import com.linkly.global.security.SecurityUtils;
+import com.linkly.tag.dto.TagResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/tags")
+@RequiredArgsConstructor
+@Tag(name = "Tag", description = "태그 조회 API")
+public class TagController {
+
+	private final TagService tagService;
+
+	@GetMapping
+	@Operation(summary = "사용자의 태그 목록 조회", description = "인증된 사용자의 모든 태그를 태그가 붙은 북마크 수와 함께 조회합니다. 많이 쓰인 태그가 먼저 옵니다. (태그 클라우드용)")
+	@ApiResponses({@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+			@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")})
+	public ResponseEntity<ApiResponse<List<TagResponse>>> getTagsByUserId() {
+		Long userId = SecurityUtils.getCurrentUserId();
+		log.debug("GET /tags - 태그 목록 조회: userId={}", userId);
+
+		List<TagResponse> responses = tagService.getTagsByUserId(userId);
+
+		return ResponseEntity.ok(ApiResponse.success(responses));
+	}
+
+	@GetMapping("/autocomplete")
+	@Operation(summary = "태그 자동완성", description = "입력한 접두사로 시작하는 태그를 많이 쓰인 순서로 최대 10개 반환합니다. 대소문자를 구분하지 않습니다.")
+	@ApiResponses({@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+			@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증되지 않은 사용자")})
+	public ResponseEntity<ApiResponse<List<TagResponse>>> autocomplete(
+			@Parameter(description = "태그 접두사", example = "spr") @RequestParam(defaultValue = "") String prefix,
+			@Parameter(description = "최대 개수 (1~10)", example = "10") @RequestParam(defaultValue = "10") int limit) {
+		Long userId = SecurityUtils.getCurrentUserId();
+
+		List<TagResponse> responses = tagService.autocomplete(userId, prefix, limit);
+
+		return ResponseEntity.ok(ApiResponse.success(responses));
+	}
+}
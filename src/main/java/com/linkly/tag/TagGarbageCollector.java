@@ -0,0 +1,145 @@
+package com.linkly.tag;
+
+import com.linkly.global.config.TagGcConfig;
+import com.linkly.tag.dto.OrphanTagRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 매핑이 하나도 없는 태그 정리.
+ *
+ * 북마크 수정·삭제는 bookmark_tag_map 만 지우므로 더 이상 쓰이지 않는 태그가 tag 테이블에 남는다. ID 키셋으로 batch-size 건씩 NOT
+ * EXISTS 안티 조인을 돌려 후보를 찾고, 배치마다 짧은 트랜잭션에서 다시 NOT EXISTS 를 확인하며 삭제한 뒤 pause-ms 만큼 쉰다. 조회는 잠금
+ * 없는 읽기이고 DELETE 는 PK 목록에만 행 락을 잡으므로 tag 테이블을 오래 막지 않는다. 같은 (사용자, 이름) 태그를 다시 만들 수 있도록 소프트
+ * 삭제가 아닌 물리 삭제이다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "tag-gc", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TagGarbageCollector {
+
+	private final TagRepository tagRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final ApplicationEventPublisher eventPublisher;
+	private final TagGcConfig tagGcConfig;
+	private final Counter deletedCounter;
+
+	public TagGarbageCollector(TagRepository tagRepository, TransactionTemplate transactionTemplate,
+			ApplicationEventPublisher eventPublisher, TagGcConfig tagGcConfig, MeterRegistry meterRegistry) {
+		this.tagRepository = tagRepository;
+		this.transactionTemplate = transactionTemplate;
+		this.eventPublisher = eventPublisher;
+		this.tagGcConfig = tagGcConfig;
+		this.deletedCounter = Counter.builder("tag.gc.deleted").description("정리한 고아 태그 수")
+				.register(meterRegistry);
+	}
+
+	/** 한 번 실행 결과 */
+	public record Result(int scanned, int deleted, int users, int batches, boolean completed, long elapsedMs) {
+	}
+
+	@Scheduled(cron = "${tag-gc.schedule:0 30 3 * * *}")
+	public void scheduledCollect() {
+		collect();
+	}
+
+	/**
+	 * 고아 태그를 배치 단위로 삭제
+	 *
+	 * @return 조회·삭제한 태그 수 (completed 가 false 면 max-batches-per-run 에 걸려 남은 태그가 있음)
+	 */
+	public Result collect() {
+		long start = System.currentTimeMillis();
+		LocalDateTime createdBefore = LocalDateTime.now().minusMinutes(tagGcConfig.getMinAgeMinutes());
+		int batchSize = tagGcConfig.getBatchSize();
+
+		int scanned = 0;
+		int deleted = 0;
+		int batches = 0;
+		boolean completed = false;
+		Set<Long> users = new TreeSet<>();
+		long afterId = 0;
+
+		while (batches < tagGcConfig.getMaxBatchesPerRun()) {
+			List<OrphanTagRow> orphans = tagRepository.findOrphanRows(afterId, createdBefore,
+					PageRequest.of(0, batchSize));
+			if (orphans.isEmpty()) {
+				completed = true;
+				break;
+			}
+			batches++;
+			scanned += orphans.size();
+			afterId = orphans.get(orphans.size() - 1).getTagId();
+
+			int batchDeleted = deleteBatch(orphans);
+			if (batchDeleted > 0) {
+				deleted += batchDeleted;
+				deletedCounter.increment(batchDeleted);
+				// 트랜잭션 밖이므로 자동완성 캐시가 바로 무효화됨
+				orphans.stream()
+						.collect(Collectors.groupingBy(OrphanTagRow::getUserId, LinkedHashMap::new,
+								Collectors.mapping(OrphanTagRow::getTagId, Collectors.toList())))
+						.forEach((userId, tagIds) -> {
+							users.add(userId);
+							eventPublisher.publishEvent(TagsChangedEvent.tagsDeleted(userId, tagIds));
+						});
+			}
+
+			if (orphans.size() < batchSize) {
+				completed = true;
+				break;
+			}
+			if (!pause()) {
+				break;
+			}
+		}
+
+		Result result = new Result(scanned, deleted, users.size(), batches, completed,
+				System.currentTimeMillis() - start);
+		log.info("고아 태그 정리 완료: scanned={}, deleted={}, users={}, batches={}, completed={}, elapsedMs={}",
+				result.scanned(), result.deleted(), result.users(), result.batches(), result.completed(),
+				result.elapsedMs());
+		return result;
+	}
+
+	private int deleteBatch(List<OrphanTagRow> orphans) {
+		List<Long> tagIds = orphans.stream().map(OrphanTagRow::getTagId).toList();
+		try {
+			Integer deleted = transactionTemplate.execute(status -> tagRepository.deleteOrphansByIdIn(tagIds));
+			return deleted != null ? deleted : 0;
+		} catch (DataAccessException e) {
+			// 확인과 삭제 사이에 매핑이 추가된 경우 등: 이번 배치는 건너뛰고 다음 실행에서 다시 확인
+			log.warn("고아 태그 배치 삭제 실패: firstTagId={}, size={}, error={}", tagIds.get(0), tagIds.size(),
+					e.getMessage());
+			return 0;
+		}
+	}
+
+	private boolean pause() {
+		if (tagGcConfig.getPauseMs() <= 0) {
+			return true;
+		}
+		try {
+			Thread.sleep(tagGcConfig.getPauseMs());
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.info("고아 태그 정리 중단 (인터럽트)");
+			return false;
+		}
+	}
+}
@@ -0,0 +1,61 @@
+package com.linkly.tag;
+
+import com.linkly.domain.Tag;
+import com.linkly.global.util.NameCollation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 매핑을 붙일 기존 태그를 이름으로 찾아 잠금.
+ *
+ * IN 조회는 DB collation 으로 이름을 비교하므로 "cafe" 를 요청해도 기존 "Café" 가 돌아온다. 결과는 {@link NameCollation} 키로 요청한
+ * 이름에 대응시키고, 키로 짝을 찾지 못한 이름이 있는데 어느 이름에도 대응되지 않은 태그가 남았으면 그 이름만 하나씩 다시 조회해 DB 가 같다고
+ * 보는 태그를 찾는다. 여기서 찾지 못한 이름은 없는 태그이므로 새로 만들어도 유니크 키 (ux_user_tag_name) 에 걸리지 않는다.
+ */
+public final class TagNameLookup {
+
+	private TagNameLookup() {
+	}
+
+	/**
+	 * @param names
+	 *            {@link NameCollation} 키가 서로 다른 태그 이름
+	 * @return 요청한 이름의 {@link NameCollation} 키 → 기존 태그 (없는 이름은 빠짐)
+	 */
+	public static Map<String, Tag> lockExisting(TagRepository tagRepository, Long userId, List<String> names) {
+		Map<String, Tag> tagsByKey = new LinkedHashMap<>();
+		if (names.isEmpty()) {
+			return tagsByKey;
+		}
+		List<Tag> found = tagRepository.findAllForUpdateByAppUserIdAndNameIn(userId, names);
+		Map<String, Tag> foundByKey = new LinkedHashMap<>();
+		for (Tag tag : found) {
+			foundByKey.putIfAbsent(NameCollation.key(tag.getName()), tag);
+		}
+
+		Set<Tag> matched = Collections.newSetFromMap(new IdentityHashMap<>());
+		List<String> unmatched = new ArrayList<>();
+		for (String name : names) {
+			String key = NameCollation.key(name);
+			Tag tag = foundByKey.get(key);
+			if (tag != null) {
+				tagsByKey.put(key, tag);
+				matched.add(tag);
+			} else {
+				unmatched.add(name);
+			}
+		}
+		if (matched.size() < found.size()) {
+			for (String name : unmatched) {
+				tagRepository.findAllForUpdateByAppUserIdAndNameIn(userId, List.of(name)).stream().findFirst()
+						.ifPresent(tag -> tagsByKey.put(NameCollation.key(name), tag));
+			}
+		}
+		return tagsByKey;
+	}
+}
@@ -0,0 +1,147 @@
+package com.linkly.tag;
+
+import com.linkly.bookmark.BookmarkTagMapRepository;
+import com.linkly.domain.Tag;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 사용자별 태그 필터 색인 캐시.
+ *
+ * 처음 필터링할 때 사용자의 (북마크, 태그) 매핑을 한 번 읽어 {@link TagPostings} 를 만들고, 이후 AND/OR/NOT 조합은 비트맵 연산으로
+ * 메모리에서 계산한다. 태그 매핑이 바뀌는 쓰기 경로는 모두 {@link TagUsageCounter} 를 거치므로, 그 트랜잭션이 커밋되면
+ * ({@link TagsChangedEvent}) 이벤트에 담긴 추가·삭제 매핑만 캐시된 비트맵에 반영한다. 쓰기마다 전체 매핑을 다시 읽지 않으며, TTL 은 다른
+ * 인스턴스에서 바뀐 매핑을 반영하기 위한 상한이다.
+ *
+ * 색인은 호출한 쪽 트랜잭션의 스냅숏이 아닌 새 읽기 전용 트랜잭션에서 만든다. 만드는 동안 커밋된 변경은 캐시에 없을 수도 있고 새로 만든 색인에도
+ * 빠져 있을 수 있으므로, 이벤트마다 사용자별 버전을 올리고 읽기 전과 버전이 같을 때만 새 색인을 캐시한다.
+ */
+@Slf4j
+@Component
+public class TagPostingIndex {
+
+	/** 사용자별 버전 슬롯 수 (사용자 ID 해시로 나눠 쓰며, 겹치면 캐시를 한 번 덜 할 뿐임) */
+	private static final int VERSION_STRIPES = 1024;
+
+	private final TagRepository tagRepository;
+	private final BookmarkTagMapRepository bookmarkTagMapRepository;
+	private final TransactionTemplate buildTransaction;
+	private final long ttlSeconds;
+	private final int maxCachedUsers;
+
+	private final Map<Long, CachedPostings> postings = new ConcurrentHashMap<>();
+	private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+	public TagPostingIndex(TagRepository tagRepository, BookmarkTagMapRepository bookmarkTagMapRepository,
+			PlatformTransactionManager transactionManager, @Value("${tag-filter.ttl-seconds:300}") long ttlSeconds,
+			@Value("${tag-filter.max-cached-users:1000}") int maxCachedUsers) {
+		this.tagRepository = tagRepository;
+		this.bookmarkTagMapRepository = bookmarkTagMapRepository;
+		this.buildTransaction = new TransactionTemplate(transactionManager);
+		this.buildTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.buildTransaction.setReadOnly(true);
+		this.ttlSeconds = ttlSeconds;
+		this.maxCachedUsers = maxCachedUsers;
+	}
+
+	private record CachedPostings(TagPostings postings, long builtAtMillis) {
+	}
+
+	/** 필터 결과 한 페이지 */
+	public record Result(List<Long> bookmarkIds, long total) {
+	}
+
+	/**
+	 * 태그 조건에 맞는 북마크 ID 를 최신순으로 조회
+	 *
+	 * @param all
+	 *            모두 붙어 있어야 하는 태그 이름
+	 * @param any
+	 *            하나 이상 붙어 있어야 하는 태그 이름
+	 * @param none
+	 *            붙어 있으면 제외할 태그 이름
+	 */
+	public Result filter(Long userId, Collection<String> all, Collection<String> any, Collection<String> none,
+			int offset, int limit) {
+		Roaring64Bitmap matched = getPostings(userId).match(all, any, none);
+		return new Result(TagPostings.page(matched, offset, limit), matched.getLongCardinality());
+	}
+
+	/** 사용자 색인 캐시 무효화 */
+	public void invalidate(Long userId) {
+		versions.incrementAndGet(stripe(userId));
+		postings.remove(userId);
+	}
+
+	/** 태그 매핑 변경 트랜잭션 커밋 후 (트랜잭션 밖에서 발행되면 즉시) 캐시된 색인에 변경분 반영 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onTagsChanged(TagsChangedEvent event) {
+		if (!event.hasMappingChanges()) {
+			return;
+		}
+		// 버전을 먼저 올려, 이 변경 전에 읽기 시작한 색인 생성이 결과를 캐시하지 못하게 함
+		versions.incrementAndGet(stripe(event.userId()));
+		// 키 단위로 원자적으로 교체하므로 동시에 커밋된 변경끼리 덮어쓰지 않음. 반영할 수 없으면 버리고 다음 조회에서 다시 만듦
+		postings.computeIfPresent(event.userId(), (userId, cached) -> {
+			TagPostings updated = cached.postings().apply(event.addedMappings(), event.tagNames(),
+					event.removedMappings(), event.detachedBookmarkIds());
+			return updated != null ? new CachedPostings(updated, cached.builtAtMillis()) : null;
+		});
+	}
+
+	private TagPostings getPostings(Long userId) {
+		long now = System.currentTimeMillis();
+		CachedPostings cached = postings.get(userId);
+		if (cached != null && now - cached.builtAtMillis() < ttlSeconds * 1_000) {
+			return cached.postings();
+		}
+
+		long start = System.currentTimeMillis();
+		long version = versions.get(stripe(userId));
+		TagPostings built = buildTransaction.execute(status -> build(userId));
+		log.debug("태그 필터 색인 생성: userId={}, tags={}, mappings={}, elapsedMs={}", userId, built.tagCount(),
+				built.mappingCount(), System.currentTimeMillis() - start);
+
+		evictIfFull();
+		// 같은 키의 이벤트 반영과 직렬화됨. 그사이 이벤트가 있었으면 기존 항목을 그대로 두고 다음 조회에서 다시 만듦
+		postings.compute(userId, (id, current) -> versions.get(stripe(userId)) == version
+				? new CachedPostings(built, now)
+				: current);
+		return built;
+	}
+
+	private TagPostings build(Long userId) {
+		Map<Long, String> tagNamesById = tagRepository.findAllByAppUserIdAndDeletedAtIsNull(userId).stream()
+				.collect(Collectors.toMap(Tag::getId, Tag::getName));
+		return TagPostings.build(tagNamesById, bookmarkTagMapRepository.findIdRowsByUserId(userId).stream()
+				.map(row -> new TagPostings.Posting(row.getBookmarkId(), row.getTagId())).toList());
+	}
+
+	private static int stripe(Long userId) {
+		return Math.floorMod(userId.hashCode(), VERSION_STRIPES);
+	}
+
+	private void evictIfFull() {
+		if (postings.size() < maxCachedUsers) {
+			return;
+		}
+		Iterator<Long> iterator = postings.keySet().iterator();
+		if (iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+}
@@ -0,0 +1,214 @@
+package com.linkly.tag;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+/**
+ * 한 사용자의 태그별 북마크 ID posting list (압축 비트맵).
+ *
+ * 만든 뒤에는 수정하지 않으며, 질의마다 새 비트맵에 교집합·합집합·차집합을 계산하므로 여러 스레드가 함께 읽어도 된다. 매핑 변경은
+ * {@link #apply} 가 바뀐 태그의 비트맵만 복사한 새 인스턴스로 반영한다. 태그 이름은 대소문자를 구분하지 않는다.
+ */
+public final class TagPostings {
+
+	private static final Roaring64Bitmap EMPTY = new Roaring64Bitmap();
+
+	/** 태그 ID → 소문자 이름 (매핑이 없는 태그 포함) */
+	private final Map<Long, String> tagKeysById;
+	private final Map<String, Roaring64Bitmap> bookmarksByTagName;
+	private final long mappingCount;
+
+	private TagPostings(Map<Long, String> tagKeysById, Map<String, Roaring64Bitmap> bookmarksByTagName,
+			long mappingCount) {
+		this.tagKeysById = tagKeysById;
+		this.bookmarksByTagName = bookmarksByTagName;
+		this.mappingCount = mappingCount;
+	}
+
+	/** 북마크-태그 매핑 한 건 */
+	public record Posting(Long bookmarkId, Long tagId) {
+	}
+
+	/**
+	 * @param tagNamesById
+	 *            태그 ID → 태그 이름
+	 * @param postings
+	 *            활성 북마크의 매핑 (이름을 모르는 태그는 무시)
+	 */
+	public static TagPostings build(Map<Long, String> tagNamesById, Collection<Posting> postings) {
+		Map<Long, Roaring64Bitmap> bookmarksByTagId = new HashMap<>();
+		for (Posting posting : postings) {
+			bookmarksByTagId.computeIfAbsent(posting.tagId(), id -> new Roaring64Bitmap())
+					.addLong(posting.bookmarkId());
+		}
+
+		Map<Long, String> tagKeysById = new HashMap<>();
+		Map<String, Roaring64Bitmap> bookmarksByTagName = new HashMap<>();
+		tagNamesById.forEach((tagId, name) -> {
+			tagKeysById.put(tagId, key(name));
+			Roaring64Bitmap bookmarks = bookmarksByTagId.get(tagId);
+			if (bookmarks != null) {
+				// MySQL collation 상 같은 이름은 하나의 태그지만, 혹시 겹치면 합친다
+				bookmarksByTagName.merge(key(name), bookmarks, (a, b) -> {
+					Roaring64Bitmap merged = copy(a);
+					merged.or(b);
+					return merged;
+				});
+			}
+		});
+		return new TagPostings(tagKeysById, bookmarksByTagName, postings.size());
+	}
+
+	/**
+	 * 커밋된 매핑 변경을 반영한 새 색인 (바뀐 태그의 비트맵만 복사하고 나머지는 공유)
+	 *
+	 * @param tagNames
+	 *            추가된 매핑의 태그 ID → 이름 (색인을 만든 뒤 생긴 태그에 필요)
+	 * @param detachedBookmarkIds
+	 *            모든 매핑이 삭제된 북마크
+	 * @return 이름을 모르는 태그의 매핑이 추가되었으면 null (색인을 다시 만들어야 함)
+	 */
+	public TagPostings apply(Collection<Posting> added, Map<Long, String> tagNames, Collection<Posting> removed,
+			Collection<Long> detachedBookmarkIds) {
+		Map<Long, String> keys = new HashMap<>(tagKeysById);
+		Map<String, Roaring64Bitmap> bitmaps = new HashMap<>(bookmarksByTagName);
+		Set<String> copied = new HashSet<>();
+		long count = mappingCount;
+
+		for (Posting posting : added) {
+			String key = keys.get(posting.tagId());
+			if (key == null) {
+				String name = tagNames.get(posting.tagId());
+				if (name == null) {
+					return null;
+				}
+				key = key(name);
+				keys.put(posting.tagId(), key);
+			}
+			Roaring64Bitmap bookmarks = writable(bitmaps, copied, key);
+			if (!bookmarks.contains(posting.bookmarkId())) {
+				bookmarks.addLong(posting.bookmarkId());
+				count++;
+			}
+		}
+
+		for (Posting posting : removed) {
+			String key = keys.get(posting.tagId());
+			Roaring64Bitmap bookmarks = key != null ? bitmaps.get(key) : null;
+			if (bookmarks != null && bookmarks.contains(posting.bookmarkId())) {
+				writable(bitmaps, copied, key).removeLong(posting.bookmarkId());
+				count--;
+			}
+		}
+
+		if (!detachedBookmarkIds.isEmpty()) {
+			for (String key : List.copyOf(bitmaps.keySet())) {
+				for (Long bookmarkId : detachedBookmarkIds) {
+					if (bitmaps.get(key).contains(bookmarkId)) {
+						writable(bitmaps, copied, key).removeLong(bookmarkId);
+						count--;
+					}
+				}
+			}
+		}
+		return new TagPostings(keys, bitmaps, count);
+	}
+
+	/**
+	 * (all 의 모든 태그) AND (any 중 하나 이상) AND NOT (none 중 하나라도). all 과 any 중 하나 이상은 비어 있지 않아야 한다.
+	 *
+	 * @return 조건을 만족하는 북마크 ID (새 비트맵)
+	 */
+	public Roaring64Bitmap match(Collection<String> all, Collection<String> any, Collection<String> none) {
+		if (all.isEmpty() && any.isEmpty()) {
+			throw new IllegalArgumentException("all 또는 any 태그가 필요합니다");
+		}
+
+		Roaring64Bitmap result = null;
+		if (!all.isEmpty()) {
+			// 작은 posting 부터 교집합을 구해 중간 결과를 빨리 줄임
+			List<Roaring64Bitmap> required = new ArrayList<>();
+			for (String name : all) {
+				Roaring64Bitmap bookmarks = bookmarksByTagName.get(key(name));
+				if (bookmarks == null) {
+					return new Roaring64Bitmap();
+				}
+				required.add(bookmarks);
+			}
+			required.sort(Comparator.comparingLong(Roaring64Bitmap::getLongCardinality));
+			result = copy(required.get(0));
+			for (int i = 1; i < required.size() && !result.isEmpty(); i++) {
+				result.and(required.get(i));
+			}
+		}
+
+		if (!any.isEmpty()) {
+			Roaring64Bitmap union = new Roaring64Bitmap();
+			for (String name : any) {
+				union.or(bookmarksByTagName.getOrDefault(key(name), EMPTY));
+			}
+			if (result == null) {
+				result = union;
+			} else {
+				result.and(union);
+			}
+		}
+
+		for (String name : none) {
+			if (result.isEmpty()) {
+				break;
+			}
+			result.andNot(bookmarksByTagName.getOrDefault(key(name), EMPTY));
+		}
+		return result;
+	}
+
+	/** 최신(ID 큰) 순으로 offset 부터 최대 limit 개 */
+	public static List<Long> page(Roaring64Bitmap bookmarks, int offset, int limit) {
+		List<Long> ids = new ArrayList<>((int) Math.min(bookmarks.getLongCardinality(), limit));
+		LongIterator iterator = bookmarks.getReverseLongIterator();
+		for (int skipped = 0; skipped < offset && iterator.hasNext(); skipped++) {
+			iterator.next();
+		}
+		while (ids.size() < limit && iterator.hasNext()) {
+			ids.add(iterator.next());
+		}
+		return ids;
+	}
+
+	public int tagCount() {
+		return bookmarksByTagName.size();
+	}
+
+	public long mappingCount() {
+		return mappingCount;
+	}
+
+	/** 이번 apply 에서 처음 고치는 태그면 비트맵을 복사해 기존 인스턴스와 분리 */
+	private static Roaring64Bitmap writable(Map<String, Roaring64Bitmap> bitmaps, Set<String> copied, String key) {
+		if (copied.add(key)) {
+			Roaring64Bitmap current = bitmaps.get(key);
+			bitmaps.put(key, current != null ? copy(current) : new Roaring64Bitmap());
+		}
+		return bitmaps.get(key);
+	}
+
+	private static Roaring64Bitmap copy(Roaring64Bitmap source) {
+		Roaring64Bitmap copy = new Roaring64Bitmap();
+		copy.or(source);
+		return copy;
+	}
+
+	private static String key(String name) {
+		return name.strip().toLowerCase(Locale.ROOT);
+	}
+}
@@ -0,0 +1,84 @@
+package com.linkly.tag;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 태그 자동완성용 불변 접두사 트라이.
+ *
+ * 노드마다 그 접두사로 시작하는 태그 중 사용 횟수 상위 MAX_SUGGESTIONS 개를 미리 담아 두므로, 조회는 접두사 길이만큼 내려가는 것으로
+ * 끝난다 (태그 수와 무관). 대소문자는 구분하지 않는다.
+ */
+public final class TagPrefixTrie {
+
+	/** 노드별로 보관하는 최대 후보 수 */
+	public static final int MAX_SUGGESTIONS = 10;
+
+	/** 사용 횟수 내림차순, 같으면 이름순 */
+	private static final Comparator<Entry> RANKING = Comparator.comparingLong(Entry::usageCount).reversed()
+			.thenComparing(Entry::name, String.CASE_INSENSITIVE_ORDER);
+
+	private final Node root;
+	private final int size;
+
+	private TagPrefixTrie(Node root, int size) {
+		this.root = root;
+		this.size = size;
+	}
+
+	/** 자동완성 후보 */
+	public record Entry(Long id, String name, long usageCount) {
+	}
+
+	private static final class Node {
+
+		private final Map<Character, Node> children = new HashMap<>(4);
+		private final List<Entry> top = new ArrayList<>(2);
+	}
+
+	public static TagPrefixTrie build(Collection<Entry> entries) {
+		// 순위 순서로 넣으면 노드별 후보 목록이 정렬된 상태로 채워지고, 가득 찬 노드는 더 볼 필요가 없다
+		List<Entry> ranked = new ArrayList<>(entries);
+		ranked.sort(RANKING);
+
+		Node root = new Node();
+		for (Entry entry : ranked) {
+			String key = entry.name().toLowerCase(Locale.ROOT);
+			Node node = root;
+			offer(node, entry);
+			for (int i = 0; i < key.length(); i++) {
+				node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+				offer(node, entry);
+			}
+		}
+		return new TagPrefixTrie(root, ranked.size());
+	}
+
+	/** 접두사로 시작하는 태그를 사용 횟수 순으로 최대 limit 개 (빈 접두사는 전체 상위) */
+	public List<Entry> suggest(String prefix, int limit) {
+		String key = prefix == null ? "" : prefix.strip().toLowerCase(Locale.ROOT);
+		Node node = root;
+		for (int i = 0; i < key.length() && node != null; i++) {
+			node = node.children.get(key.charAt(i));
+		}
+		if (node == null) {
+			return List.of();
+		}
+		return List.copyOf(node.top.subList(0, Math.min(Math.max(limit, 0), node.top.size())));
+	}
+
+	public int size() {
+		return size;
+	}
+
+	private static void offer(Node node, Entry entry) {
+		if (node.top.size() < MAX_SUGGESTIONS) {
+			node.top.add(entry);
+		}
+	}
+}
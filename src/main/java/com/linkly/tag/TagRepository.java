@@ -2,9 +2,18 @@ package com.linkly.tag;
 
 import com.linkly.domain.AppUser;
 import com.linkly.domain.Tag;
+import com.linkly.tag.dto.OrphanTagRow;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -30,4 +39,56 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
 
 	/** 사용자 ID와 삭제되지 않은 태그 조회 */
 	List<Tag> findAllByAppUserIdAndDeletedAtIsNull(Long userId);
+
+	/** 사용자 ID와 태그명 목록으로 조회 */
+	List<Tag> findAllByAppUserIdAndNameIn(Long userId, Collection<String> names);
+
+	/**
+	 * 사용자 ID와 태그명 목록으로 조회하며 행 잠금 (SELECT ... FOR UPDATE). 매핑을 추가할 태그를 이 메서드로 찾으면, 고아 태그 정리의
+	 * DELETE 가 먼저 커밋된 태그는 결과에서 빠지고(다시 생성) 그렇지 않은 태그는 트랜잭션이 끝날 때까지 삭제되지 않는다.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT t FROM Tag t WHERE t.appUser.id = :userId AND t.name IN :names")
+	List<Tag> findAllForUpdateByAppUserIdAndNameIn(@Param("userId") Long userId,
+			@Param("names") Collection<String> names);
+
+	/** ID 목록으로 조회하며 행 잠금 (이미 알고 있는 태그에 매핑을 추가하기 전, 그사이 삭제된 태그를 걸러냄) */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT t FROM Tag t WHERE t.id IN :tagIds")
+	List<Tag> findAllForUpdateByIdIn(@Param("tagIds") Collection<Long> tagIds);
+
+	/** 사용자 ID로 삭제되지 않은 태그를 사용 횟수 내림차순으로 조회 */
+	List<Tag> findAllByAppUserIdAndDeletedAtIsNullOrderByUsageCountDescNameAsc(Long userId);
+
+	/** 사용 횟수를 delta 만큼 변경 */
+	@Modifying
+	@Query("UPDATE Tag t SET t.usageCount = t.usageCount + :delta WHERE t.id IN :tagIds")
+	int addUsageCount(@Param("tagIds") Collection<Long> tagIds, @Param("delta") long delta);
+
+	/** 북마크들의 매핑을 삭제하기 전에 해당 매핑 수만큼 사용 횟수 감소 */
+	@Modifying
+	@Query("UPDATE Tag t SET t.usageCount = t.usageCount - (SELECT COUNT(btm.id) FROM BookmarkTagMap btm "
+			+ "WHERE btm.tag.id = t.id AND btm.bookmark.id IN :bookmarkIds) "
+			+ "WHERE t.id IN (SELECT m.tag.id FROM BookmarkTagMap m WHERE m.bookmark.id IN :bookmarkIds)")
+	int subtractUsageCountOfBookmarks(@Param("bookmarkIds") Collection<Long> bookmarkIds);
+
+	/** 북마크들에서 특정 태그 매핑을 삭제하기 전에 해당 매핑 수만큼 사용 횟수 감소 */
+	@Modifying
+	@Query("UPDATE Tag t SET t.usageCount = t.usageCount - (SELECT COUNT(btm.id) FROM BookmarkTagMap btm "
+			+ "WHERE btm.tag.id = t.id AND btm.bookmark.id IN :bookmarkIds) " + "WHERE t.id IN :tagIds")
+	int subtractUsageCountOfBookmarksAndTags(@Param("bookmarkIds") Collection<Long> bookmarkIds,
+			@Param("tagIds") Collection<Long> tagIds);
+
+	/** afterId 다음부터 ID 순으로 매핑이 없는 태그 조회 (createdBefore 이전에 만든 태그만, 키셋 페이지) */
+	@Query("SELECT new com.linkly.tag.dto.OrphanTagRow(t.id, t.appUser.id) FROM Tag t "
+			+ "WHERE t.id > :afterId AND t.createdAt < :createdBefore "
+			+ "AND NOT EXISTS (SELECT 1 FROM BookmarkTagMap btm WHERE btm.tag.id = t.id) " + "ORDER BY t.id")
+	List<OrphanTagRow> findOrphanRows(@Param("afterId") Long afterId,
+			@Param("createdBefore") LocalDateTime createdBefore, Pageable pageable);
+
+	/** 조회 이후 매핑이 생긴 태그는 남기고, 여전히 매핑이 없는 태그만 삭제 */
+	@Modifying
+	@Query("DELETE FROM Tag t WHERE t.id IN :tagIds "
+			+ "AND NOT EXISTS (SELECT 1 FROM BookmarkTagMap btm WHERE btm.tag.id = t.id)")
+	int deleteOrphansByIdIn(@Param("tagIds") Collection<Long> tagIds);
 }
@@ -0,0 +1,30 @@
+package com.linkly.tag;
+
+import com.linkly.tag.dto.TagResponse;
+import java.util.List;
+
+/** 태그 조회 서비스 인터페이스 */
+public interface TagService {
+
+	/**
+	 * 사용자의 모든 태그 조회 (사용 횟수 내림차순)
+	 *
+	 * @param userId
+	 *            사용자 ID
+	 * @return 태그 목록
+	 */
+	List<TagResponse> getTagsByUserId(Long userId);
+
+	/**
+	 * 태그 자동완성
+	 *
+	 * @param userId
+	 *            사용자 ID
+	 * @param prefix
+	 *            입력 중인 태그 접두사 (대소문자 무시)
+	 * @param limit
+	 *            최대 개수
+	 * @return 접두사로 시작하는 태그 (사용 횟수 내림차순)
+	 */
+	List<TagResponse> autocomplete(Long userId, String prefix, int limit);
+}
@@ -0,0 +1,35 @@
+package com.linkly.tag;
+
+import com.linkly.tag.dto.TagResponse;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TagServiceImpl implements TagService {
+
+	private final TagRepository tagRepository;
+	private final TagAutocompleteIndex tagAutocompleteIndex;
+
+	@Override
+	public List<TagResponse> getTagsByUserId(Long userId) {
+		log.debug("사용자의 태그 목록 조회: userId={}", userId);
+
+		return tagRepository.findAllByAppUserIdAndDeletedAtIsNullOrderByUsageCountDescNameAsc(userId).stream()
+				.map(TagResponse::from).collect(Collectors.toList());
+	}
+
+	@Override
+	public List<TagResponse> autocomplete(Long userId, String prefix, int limit) {
+		int size = Math.min(Math.max(limit, 1), TagPrefixTrie.MAX_SUGGESTIONS);
+
+		return tagAutocompleteIndex.suggest(userId, prefix, size).stream().map(TagResponse::from)
+				.collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,64 @@
+package com.linkly.tag;
+
+import com.linkly.tag.TagPostings.Posting;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 태그 사용 횟수(tag.usage_count) 증감.
+ *
+ * 북마크-태그 매핑을 추가·삭제하는 쪽에서 같은 트랜잭션 안에 호출한다. 목록 조회 때 bookmark_tag_map 을 COUNT 하지 않도록 쓰기 시점에 벌크
+ * UPDATE 로 반영하고, 커밋 후 태그 필터 색인·자동완성 캐시가 변경분을 반영하도록 매핑 변경을 담은 TagsChangedEvent 를 발행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TagUsageCounter {
+
+	private final TagRepository tagRepository;
+	private final ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * 매핑이 추가된 뒤 호출 (증가량이 같은 태그끼리 UPDATE 한 번)
+	 *
+	 * @param added
+	 *            추가된 (북마크, 태그) 매핑
+	 * @param tagNames
+	 *            추가된 매핑의 태그 ID → 이름
+	 */
+	public void increment(Long userId, Collection<Posting> added, Map<Long, String> tagNames) {
+		if (added.isEmpty()) {
+			return;
+		}
+		Map<Long, Integer> addedByTagId = new HashMap<>();
+		added.forEach(posting -> addedByTagId.merge(posting.tagId(), 1, Integer::sum));
+		Map<Integer, List<Long>> tagIdsByDelta = new TreeMap<>();
+		addedByTagId.forEach((tagId, count) -> tagIdsByDelta.computeIfAbsent(count, k -> new ArrayList<>()).add(tagId));
+		tagIdsByDelta.forEach((delta, tagIds) -> tagRepository.addUsageCount(tagIds, delta));
+		eventPublisher.publishEvent(TagsChangedEvent.mappingsAdded(userId, added, tagNames));
+	}
+
+	/** 북마크들의 모든 매핑을 삭제하기 직전에 호출 */
+	public void decrementForBookmarks(Long userId, Collection<Long> bookmarkIds) {
+		if (bookmarkIds.isEmpty()) {
+			return;
+		}
+		tagRepository.subtractUsageCountOfBookmarks(bookmarkIds);
+		eventPublisher.publishEvent(TagsChangedEvent.bookmarksDetached(userId, bookmarkIds));
+	}
+
+	/** 북마크들에서 특정 태그 매핑을 삭제하기 직전에 호출 */
+	public void decrementForBookmarks(Long userId, Collection<Long> bookmarkIds, Collection<Long> tagIds) {
+		if (bookmarkIds.isEmpty() || tagIds.isEmpty()) {
+			return;
+		}
+		tagRepository.subtractUsageCountOfBookmarksAndTags(bookmarkIds, tagIds);
+		eventPublisher.publishEvent(TagsChangedEvent.mappingsRemoved(userId, bookmarkIds, tagIds));
+	}
+}
@@ -0,0 +1,55 @@
+package com.linkly.tag;
+
+import com.linkly.tag.TagPostings.Posting;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자의 태그 매핑 또는 태그가 바뀌었음을 알리는 이벤트.
+ *
+ * 커밋 후 태그 필터 색인은 변경분만 비트맵에 반영하고, 자동완성 트라이는 태그 이름이 새로 생기거나 삭제된 경우에만 버린다.
+ *
+ * @param addedMappings
+ *            추가된 매핑
+ * @param tagNames
+ *            추가된 매핑의 태그 ID → 이름 (캐시를 만든 뒤 생긴 태그를 반영하기 위해 필요)
+ * @param removedMappings
+ *            삭제된 매핑 (없던 조합이 섞여 있어도 됨)
+ * @param detachedBookmarkIds
+ *            모든 매핑이 삭제된 북마크
+ * @param deletedTagIds
+ *            삭제된 태그 (매핑이 없는 태그만 삭제되므로 매핑 변경은 없음)
+ */
+public record TagsChangedEvent(Long userId, List<Posting> addedMappings, Map<Long, String> tagNames,
+		List<Posting> removedMappings, List<Long> detachedBookmarkIds, List<Long> deletedTagIds) {
+
+	public static TagsChangedEvent mappingsAdded(Long userId, Collection<Posting> added, Map<Long, String> tagNames) {
+		return new TagsChangedEvent(userId, List.copyOf(added), Map.copyOf(tagNames), List.of(), List.of(), List.of());
+	}
+
+	/** 북마크들에서 태그들의 매핑 삭제 */
+	public static TagsChangedEvent mappingsRemoved(Long userId, Collection<Long> bookmarkIds, Collection<Long> tagIds) {
+		List<Posting> removed = new ArrayList<>(bookmarkIds.size() * tagIds.size());
+		for (Long bookmarkId : bookmarkIds) {
+			for (Long tagId : tagIds) {
+				removed.add(new Posting(bookmarkId, tagId));
+			}
+		}
+		return new TagsChangedEvent(userId, List.of(), Map.of(), List.copyOf(removed), List.of(), List.of());
+	}
+
+	/** 북마크들의 모든 매핑 삭제 */
+	public static TagsChangedEvent bookmarksDetached(Long userId, Collection<Long> bookmarkIds) {
+		return new TagsChangedEvent(userId, List.of(), Map.of(), List.of(), List.copyOf(bookmarkIds), List.of());
+	}
+
+	public static TagsChangedEvent tagsDeleted(Long userId, Collection<Long> tagIds) {
+		return new TagsChangedEvent(userId, List.of(), Map.of(), List.of(), List.of(), List.copyOf(tagIds));
+	}
+
+	public boolean hasMappingChanges() {
+		return !addedMappings.isEmpty() || !removedMappings.isEmpty() || !detachedBookmarkIds.isEmpty();
+	}
+}
@@ -0,0 +1,13 @@
+package com.linkly.tag.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** 매핑이 하나도 없는 태그 ID 와 소유자 ID (태그 GC 용) */
+@Getter
+@AllArgsConstructor
+public class OrphanTagRow {
+
+	private Long tagId;
+	private Long userId;
+}
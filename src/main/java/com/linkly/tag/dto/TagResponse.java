@@ -0,0 +1,39 @@
+package com.linkly.tag.dto;
+
+import com.linkly.domain.Tag;
+import com.linkly.tag.TagPrefixTrie;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@Schema(description = "태그 정보 응답")
+public class TagResponse {
+
+	@Schema(description = "태그 ID", example = "1")
+	private Long id;
+
+	@Schema(description = "태그 이름", example = "spring")
+	private String name;
+
+	@Schema(description = "이 태그가 붙은 북마크 수", example = "12")
+	private long usageCount;
+
+	@Schema(description = "생성일시 (자동완성 응답에는 없음)")
+	private LocalDateTime createdAt;
+
+	/** Entity를 DTO로 변환 */
+	public static TagResponse from(Tag tag) {
+		return TagResponse.builder().id(tag.getId()).name(tag.getName()).usageCount(tag.getUsageCount())
+				.createdAt(tag.getCreatedAt()).build();
+	}
+
+	/** 자동완성 후보를 DTO로 변환 */
+	public static TagResponse from(TagPrefixTrie.Entry entry) {
+		return TagResponse.builder().id(entry.id()).name(entry.name()).usageCount(entry.usageCount()).build();
+	}
+}
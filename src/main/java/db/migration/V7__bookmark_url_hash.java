@@ -0,0 +1,139 @@
+package db.migration;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * 북마크 정규화 URL 해시 (UrlNormalizer 는 SQL 로 옮길 수 없어 Java 마이그레이션).
+ *
+ * url_hash 를 추가해 사용자별로 채운 뒤 (app_user_id, url) 유니크를 고정 길이 (app_user_id, url_hash) 유니크로 교체한다. 기존 유니크는
+ * 원문(대소문자 무시) 기준이었으므로 정규화하면 같아지는 북마크가 이미 있을 수 있다. 그 경우 먼저 저장된 북마크만 정규화 해시를 갖고 나머지는 id 로
+ * 만든 해시를 받아 유니크를 지킨다 (같은 주소를 새로 저장하는 것은 먼저 저장된 북마크로 계속 막힘). updated_at 은 바꾸지 않는다.
+ *
+ * Java 마이그레이션은 체크섬이 없으므로 적용 당시의 UrlNormalizer 로직을 이 클래스에 고정해 둔다. 이후 UrlNormalizer 가 바뀌어도 이 파일은
+ * 수정하지 않고, 기존 url_hash 는 새 재계산 마이그레이션으로 맞춘다.
+ */
+public class V7__bookmark_url_hash extends BaseJavaMigration {
+
+	private static final int UPDATE_BATCH_SIZE = 1000;
+
+	@Override
+	public void migrate(Context context) throws Exception {
+		Connection connection = context.getConnection();
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("ALTER TABLE bookmark ADD COLUMN url_hash BIGINT NULL");
+		}
+
+		List<Long> userIds = new ArrayList<>();
+		try (Statement statement = connection.createStatement();
+				ResultSet rows = statement.executeQuery("SELECT DISTINCT app_user_id FROM bookmark")) {
+			while (rows.next()) {
+				userIds.add(rows.getLong(1));
+			}
+		}
+
+		try (PreparedStatement select = connection
+				.prepareStatement("SELECT id, url FROM bookmark WHERE app_user_id = ? ORDER BY id");
+				PreparedStatement update = connection.prepareStatement("UPDATE bookmark SET url_hash = ? WHERE id = ?")) {
+			int pending = 0;
+			for (Long userId : userIds) {
+				Set<Long> userHashes = new HashSet<>();
+				select.setLong(1, userId);
+				try (ResultSet rows = select.executeQuery()) {
+					while (rows.next()) {
+						long id = rows.getLong(1);
+						long urlHash = digest(normalize(rows.getString(2)));
+						if (!userHashes.add(urlHash)) {
+							urlHash = digest("legacy-duplicate:" + id);
+						}
+						update.setLong(1, urlHash);
+						update.setLong(2, id);
+						update.addBatch();
+						if (++pending >= UPDATE_BATCH_SIZE) {
+							executeBatch(update);
+							pending = 0;
+						}
+					}
+				}
+			}
+			if (pending > 0) {
+				executeBatch(update);
+			}
+		}
+
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("ALTER TABLE bookmark MODIFY url_hash BIGINT NOT NULL");
+			statement.execute("CREATE UNIQUE INDEX ux_bookmark_user_url_hash ON bookmark (app_user_id, url_hash)");
+			statement.execute("ALTER TABLE bookmark DROP INDEX ux_bookmark_user_url");
+		}
+	}
+
+	/** V7 적용 시점의 UrlNormalizer.normalize */
+	private static String normalize(String url) {
+		String trimmed = url.strip();
+		URI uri;
+		try {
+			uri = new URI(trimmed);
+		} catch (URISyntaxException e) {
+			return trimmed;
+		}
+		if (uri.isOpaque() || uri.getScheme() == null || uri.getHost() == null) {
+			return trimmed;
+		}
+
+		String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+		String host = uri.getHost().toLowerCase(Locale.ROOT);
+		if (host.endsWith(".")) {
+			host = host.substring(0, host.length() - 1);
+		}
+		int port = uri.getPort();
+		if ((port == 80 && scheme.equals("http")) || (port == 443 && scheme.equals("https"))) {
+			port = -1;
+		}
+		String path = uri.getRawPath();
+
+		StringBuilder normalized = new StringBuilder(trimmed.length()).append(scheme).append("://");
+		if (uri.getRawUserInfo() != null) {
+			normalized.append(uri.getRawUserInfo()).append('@');
+		}
+		normalized.append(host);
+		if (port != -1) {
+			normalized.append(':').append(port);
+		}
+		normalized.append(path == null || path.isEmpty() ? "/" : path);
+		if (uri.getRawQuery() != null) {
+			normalized.append('?').append(uri.getRawQuery());
+		}
+		if (uri.getRawFragment() != null) {
+			normalized.append('#').append(uri.getRawFragment());
+		}
+		return normalized.toString();
+	}
+
+	/** V7 적용 시점의 UrlNormalizer.digest (SHA-256 앞 8바이트) */
+	private static long digest(String value) throws NoSuchAlgorithmException {
+		byte[] sha = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+		return ByteBuffer.wrap(sha, 0, Long.BYTES).getLong();
+	}
+
+	private static void executeBatch(PreparedStatement update) throws SQLException {
+		update.executeBatch();
+		update.clearBatch();
+	}
+}
@@ -0,0 +1,79 @@
+-- 초기 스키마 (MySQL). Flyway 도입 이전 DB 는 이 버전을 baseline 으로 간주하고 건너뛴다.
+
+CREATE TABLE app_user (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    deleted_at DATETIME(6),
+    email      VARCHAR(255) NOT NULL,
+    name       VARCHAR(100) NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    user_role  ENUM ('USER', 'ADMIN') NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT ux_app_user_email UNIQUE (email)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
+
+CREATE TABLE category (
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    deleted_at  DATETIME(6),
+    app_user_id BIGINT      NOT NULL,
+    name        VARCHAR(50) NOT NULL,
+    description VARCHAR(255),
+    PRIMARY KEY (id),
+    CONSTRAINT ux_user_category_name UNIQUE (app_user_id, name),
+    CONSTRAINT fk_category_user FOREIGN KEY (app_user_id) REFERENCES app_user (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
+
+CREATE TABLE bookmark (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    deleted_at  DATETIME(6),
+    app_user_id BIGINT       NOT NULL,
+    category_id BIGINT,
+    title       VARCHAR(255) NOT NULL,
+    url         VARCHAR(500) NOT NULL,
+    description TEXT,
+    PRIMARY KEY (id),
+    CONSTRAINT ux_bookmark_user_url UNIQUE (app_user_id, url),
+    CONSTRAINT fk_bookmark_user FOREIGN KEY (app_user_id) REFERENCES app_user (id),
+    CONSTRAINT fk_bookmark_category FOREIGN KEY (category_id) REFERENCES category (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
+
+CREATE TABLE tag (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    deleted_at  DATETIME(6),
+    app_user_id BIGINT       NOT NULL,
+    name        VARCHAR(100) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT ux_user_tag_name UNIQUE (app_user_id, name),
+    CONSTRAINT fk_tag_user FOREIGN KEY (app_user_id) REFERENCES app_user (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
+
+CREATE TABLE bookmark_tag_map (
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    created_at  DATETIME(6) NOT NULL,
+    bookmark_id BIGINT      NOT NULL,
+    tag_id      BIGINT      NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT ux_bookmark_tag UNIQUE (bookmark_id, tag_id),
+    CONSTRAINT fk_map_bookmark FOREIGN KEY (bookmark_id) REFERENCES bookmark (id),
+    CONSTRAINT fk_map_tag FOREIGN KEY (tag_id) REFERENCES tag (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
+
+CREATE TABLE link_check_result (
+    id               BIGINT      NOT NULL AUTO_INCREMENT,
+    created_at       DATETIME(6),
+    updated_at       DATETIME(6),
+    bookmark_id      BIGINT      NOT NULL,
+    status           ENUM ('HEALTHY', 'DEAD', 'TIMEOUT', 'UNKNOWN') NOT NULL,
+    http_status      INT,
+    response_time_ms BIGINT,
+    checked_at       DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_link_check_bookmark FOREIGN KEY (bookmark_id) REFERENCES bookmark (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COLLATE = utf8mb4_unicode_ci;
@@ -0,0 +1,21 @@
+-- IDENTITY -> SEQUENCE(pooled, allocationSize 50) 전환 (MySQL)
+--
+-- MySQL 은 시퀀스가 없어 Hibernate 가 <table>_seq 테이블(next_val 한 행)로 시퀀스를 흉내 낸다.
+-- pooled 옵티마이저는 읽은 값 V 에 대해 (V - 49) ~ V 범위의 id 를 사용하므로
+-- 기존 최대 id + 51 로 초기화해야 이미 발급된 id 와 겹치지 않는다.
+-- Flyway 가 기동 시 Hibernate 보다 먼저 적용하므로 기존 id 발급과 겹치지 않는다.
+
+CREATE TABLE bookmark_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO bookmark_seq SELECT COALESCE(MAX(id), 0) + 51 FROM bookmark;
+
+CREATE TABLE tag_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO tag_seq SELECT COALESCE(MAX(id), 0) + 51 FROM tag;
+
+CREATE TABLE bookmark_tag_map_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO bookmark_tag_map_seq SELECT COALESCE(MAX(id), 0) + 51 FROM bookmark_tag_map;
+
+CREATE TABLE link_check_result_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO link_check_result_seq SELECT COALESCE(MAX(id), 0) + 51 FROM link_check_result;
+
+-- id 컬럼의 AUTO_INCREMENT 는 남겨 둔다. Hibernate 가 id 를 직접 지정하므로 사용되지 않으며,
+-- 롤백 시 이전 버전(IDENTITY)이 그대로 동작한다.
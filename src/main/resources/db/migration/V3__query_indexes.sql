@@ -0,0 +1,21 @@
+-- 리포지토리 조회 형태별 인덱스 (엔티티 @Index 와 동일하게 유지)
+-- InnoDB 는 FK 용으로 자동 생성한 단일 컬럼 인덱스를 선두 컬럼이 같은 인덱스가 생기면 대체한다.
+
+-- findAllByAppUserIdAndDeletedAtIsNull, searchBookmarks, findCategorizedRows
+CREATE INDEX idx_bookmark_user_deleted ON bookmark (app_user_id, deleted_at);
+
+-- findAllByDeletedAtIsNull (헬스체크 전체 스캔)
+CREATE INDEX idx_bookmark_deleted ON bookmark (deleted_at);
+
+-- findAllByAppUserIdAndDeletedAtIsNull
+CREATE INDEX idx_tag_user_deleted ON tag (app_user_id, deleted_at);
+
+-- findAllByAppUser_IdAndDeletedAtIsNull
+CREATE INDEX idx_category_user_deleted ON category (app_user_id, deleted_at);
+
+-- findBookmarksByAllTags, findAllByTagId, deleteAllByTag (bookmark_id 쪽은 ux_bookmark_tag 가 담당)
+CREATE INDEX idx_map_tag_bookmark ON bookmark_tag_map (tag_id, bookmark_id);
+
+-- findTopByBookmarkIdOrderByCheckedAtDesc, findLatestByUserId 의 MAX(checked_at) 서브쿼리,
+-- findAllByBookmarkIdInOrderByCheckedAtDesc
+CREATE INDEX idx_link_check_bookmark_checked ON link_check_result (bookmark_id, checked_at DESC);
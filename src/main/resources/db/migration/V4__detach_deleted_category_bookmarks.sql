@@ -0,0 +1,5 @@
+-- 카테고리 삭제 시 소속 북마크를 함께 미분류로 바꾸기 전에 삭제된 카테고리에 남아 있던 북마크 정리
+UPDATE bookmark b
+JOIN category c ON b.category_id = c.id
+SET b.category_id = NULL
+WHERE c.deleted_at IS NOT NULL;
@@ -0,0 +1,3 @@
+-- findSummariesByUserId: 카테고리별 활성 북마크 COUNT / MAX(updated_at) 를 인덱스만 읽어 집계
+-- (fk_bookmark_category 용으로 자동 생성된 category_id 단일 인덱스를 대체)
+CREATE INDEX idx_bookmark_category_deleted ON bookmark (category_id, deleted_at, updated_at);
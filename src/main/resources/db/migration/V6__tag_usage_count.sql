@@ -0,0 +1,5 @@
+-- 태그별 사용 횟수 (목록·자동완성에서 bookmark_tag_map COUNT 대신 사용, 매핑 추가·삭제 시 증감)
+ALTER TABLE tag ADD COLUMN usage_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE tag t
+SET t.usage_count = (SELECT COUNT(*) FROM bookmark_tag_map m WHERE m.tag_id = t.id);
@@ -0,0 +1,252 @@
+package com.linkly.bookmark.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkly.bookmark.BookmarkRepository;
+import com.linkly.bookmark.BookmarkTagMapRepository;
+import com.linkly.bookmark.dto.BookmarkTagNameRow;
+import com.linkly.category.CategoryRepository;
+import com.linkly.domain.AppUser;
+import com.linkly.domain.Bookmark;
+import com.linkly.domain.Category;
+import com.linkly.domain.Tag;
+import com.linkly.global.config.BookmarkImportConfig;
+import com.linkly.tag.TagRepository;
+import com.linkly.user.AppUserRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * 북마크 가져오기 통합 테스트: 업로드 → 백그라운드 작업 → 진행 상태 조회까지 실제 H2 에 저장한다. 가져오기는 작업 스레드에서 배치마다 별도
+ * 트랜잭션으로 커밋되므로 테스트 메서드에 @Transactional 을 붙이지 않고 tearDown 에서 직접 지운다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("북마크 가져오기 통합 테스트")
+class BookmarkImportIntegrationTest {
+
+	/**
+	 * 개발 폴더 2건 (하나는 이미 저장된 URL), 삭제된 카테고리와 같은 이름의 보관 폴더 1건, 읽을거리 폴더 4건 (파일 안 중복 1건, 가져올 수 없는
+	 * URL 1건)
+	 */
+	private static final String BOOKMARKS_HTML = """
+			<!DOCTYPE NETSCAPE-Bookmark-file-1>
+			<TITLE>Bookmarks</TITLE>
+			<DL><p>
+			    <DT><H3>개발</H3>
+			    <DL><p>
+			        <DT><A HREF="https://spring.io/" TAGS="java,Spring">Spring</A>
+			        <DT><A HREF="https://example.com/existing">이미 저장된 북마크</A>
+			    </DL><p>
+			    <DT><H3>보관</H3>
+			    <DL><p>
+			        <DT><A HREF="https://archive.example.com/" TAGS="JAVA">보관한 글</A>
+			    </DL><p>
+			    <DT><H3>읽을거리</H3>
+			    <DL><p>
+			        <DT><A HREF="https://blog.example.com/post" TAGS="spring">블로그</A>
+			        <DT><A HREF="HTTPS://Blog.Example.com:443/post">같은 글 (표기만 다름)</A>
+			        <DT><A HREF="javascript:alert(1)">bookmarklet</A>
+			        <DT><A HREF="https://news.example.com/">뉴스</A>
+			    </DL><p>
+			</DL><p>
+			""";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private AppUserRepository userRepository;
+
+	@Autowired
+	private BookmarkRepository bookmarkRepository;
+
+	@Autowired
+	private BookmarkTagMapRepository bookmarkTagMapRepository;
+
+	@Autowired
+	private CategoryRepository categoryRepository;
+
+	@Autowired
+	private TagRepository tagRepository;
+
+	@Autowired
+	private BookmarkImportConfig bookmarkImportConfig;
+
+	private AppUser testUser;
+	private Category developmentCategory;
+	private Category archivedCategory;
+	private Tag javaTag;
+	private int originalBatchSize;
+
+	@BeforeEach
+	void setUp() {
+		// 파일 하나가 여러 배치로 나뉘도록 (배치 경계를 넘는 카테고리·태그 재사용 확인)
+		originalBatchSize = bookmarkImportConfig.getBatchSize();
+		bookmarkImportConfig.setBatchSize(2);
+
+		testUser = userRepository
+				.save(AppUser.builder().email("import@example.com").password("password123").name("가져오기 사용자").build());
+		developmentCategory = categoryRepository
+				.save(Category.builder().appUser(testUser).name("개발").build());
+		archivedCategory = Category.builder().appUser(testUser).name("보관").build();
+		archivedCategory.softDelete();
+		archivedCategory = categoryRepository.save(archivedCategory);
+		javaTag = tagRepository.save(Tag.builder().appUser(testUser).name("Java").build());
+		bookmarkRepository.save(Bookmark.builder().appUser(testUser).category(developmentCategory)
+				.url("https://example.com/existing").title("이미 저장된 북마크").build());
+
+		org.springframework.security.authentication.UsernamePasswordAuthenticationToken authentication = new org.springframework.security.authentication.UsernamePasswordAuthenticationToken(
+				testUser, null, java.util.Collections.emptyList());
+		org.springframework.security.core.context.SecurityContextHolder.getContext().setAuthentication(authentication);
+	}
+
+	@AfterEach
+	void tearDown() {
+		bookmarkImportConfig.setBatchSize(originalBatchSize);
+		bookmarkTagMapRepository.deleteAll();
+		bookmarkRepository.deleteAll();
+		tagRepository.deleteAll();
+		categoryRepository.deleteAll();
+		userRepository.deleteAll();
+		org.springframework.security.core.context.SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	@DisplayName("같은 파일을 두 번 가져오면 두 번째는 모두 중복으로 건너뜀")
+	void importSameFileTwice() throws Exception {
+		// when - 첫 번째 가져오기
+		JsonNode first = importAndWait();
+
+		// then - 7건 중 javascript: 1건 제외, 이미 저장된 URL 1건 + 파일 안 중복 1건, 나머지 4건 저장
+		assertThat(first.get("status").asText()).isEqualTo("COMPLETED");
+		assertThat(first.get("processed").asLong()).isEqualTo(7);
+		assertThat(first.get("imported").asLong()).isEqualTo(4);
+		assertThat(first.get("duplicates").asLong()).isEqualTo(2);
+		assertThat(first.get("skipped").asLong()).isEqualTo(1);
+		assertThat(first.get("failed").asLong()).isZero();
+
+		// when - 같은 파일을 다시 가져오기
+		JsonNode second = importAndWait();
+
+		// then - 새로 저장한 북마크 없이 전부 중복
+		assertThat(second.get("status").asText()).isEqualTo("COMPLETED");
+		assertThat(second.get("processed").asLong()).isEqualTo(7);
+		assertThat(second.get("imported").asLong()).isZero();
+		assertThat(second.get("duplicates").asLong()).isEqualTo(6);
+		assertThat(second.get("skipped").asLong()).isEqualTo(1);
+		assertThat(second.get("failed").asLong()).isZero();
+
+		// then - 북마크: 기존 1건 + 가져온 4건, 폴더는 카테고리로 (삭제된 카테고리 이름의 폴더는 미분류)
+		List<Bookmark> bookmarks = bookmarkRepository.findAllByAppUserId(testUser.getId());
+		assertThat(bookmarks).hasSize(5);
+		Map<String, Bookmark> bookmarksByUrl = bookmarks.stream()
+				.collect(Collectors.toMap(Bookmark::getUrl, bookmark -> bookmark));
+		assertThat(bookmarksByUrl).containsOnlyKeys("https://example.com/existing", "https://spring.io/",
+				"https://archive.example.com/", "https://blog.example.com/post", "https://news.example.com/");
+		assertThat(bookmarksByUrl.get("https://spring.io/").getCategory().getId())
+				.isEqualTo(developmentCategory.getId());
+		assertThat(bookmarksByUrl.get("https://archive.example.com/").getCategory()).isNull();
+
+		// then - 카테고리: 기존 개발 재사용, 삭제된 보관은 그대로, 읽을거리만 한 번 생성
+		List<Category> categories = categoryRepository.findAllByAppUser(testUser);
+		assertThat(categories).extracting(Category::getName).containsExactlyInAnyOrder("개발", "보관", "읽을거리");
+		assertThat(categoryRepository.findById(archivedCategory.getId()).orElseThrow().isDeleted()).isTrue();
+		Long readingCategoryId = categories.stream().filter(category -> category.getName().equals("읽을거리"))
+				.findFirst().orElseThrow().getId();
+		assertThat(bookmarksByUrl.get("https://blog.example.com/post").getCategory().getId())
+				.isEqualTo(readingCategoryId);
+		assertThat(bookmarksByUrl.get("https://news.example.com/").getCategory().getId()).isEqualTo(readingCategoryId);
+
+		// then - 태그: 대소문자만 다른 java/JAVA 는 기존 Java 재사용, Spring/spring 은 하나만 생성
+		List<Tag> tags = tagRepository.findAllByAppUserId(testUser.getId());
+		assertThat(tags).extracting(Tag::getName).containsExactlyInAnyOrder("Java", "Spring");
+		assertThat(tagRepository.findById(javaTag.getId()).orElseThrow().getUsageCount()).isEqualTo(2);
+		Map<Long, List<String>> tagNamesByBookmarkId = bookmarkTagMapRepository
+				.findTagNameRows(bookmarks.stream().map(Bookmark::getId).toList()).stream()
+				.collect(Collectors.groupingBy(BookmarkTagNameRow::getBookmarkId,
+						Collectors.mapping(BookmarkTagNameRow::getTagName, Collectors.toList())));
+		assertThat(tagNamesByBookmarkId.get(bookmarksByUrl.get("https://spring.io/").getId()))
+				.containsExactlyInAnyOrder("Java", "Spring");
+		assertThat(tagNamesByBookmarkId.get(bookmarksByUrl.get("https://archive.example.com/").getId()))
+				.containsExactly("Java");
+		assertThat(tagNamesByBookmarkId.get(bookmarksByUrl.get("https://blog.example.com/post").getId()))
+				.containsExactly("Spring");
+		assertThat(tagNamesByBookmarkId).doesNotContainKey(bookmarksByUrl.get("https://news.example.com/").getId());
+	}
+
+	@Test
+	@DisplayName("다른 사용자의 가져오기 작업은 조회할 수 없음")
+	void getStatusOfAnotherUsersJob() throws Exception {
+		// given
+		String jobId = startImport();
+		awaitCompleted(jobId);
+		AppUser anotherUser = userRepository
+				.save(AppUser.builder().email("another@example.com").password("password123").name("다른 사용자").build());
+
+		// when & then
+		mockMvc.perform(get("/bookmarks/import/{jobId}", jobId)
+				.with(org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors
+						.authentication(
+								new org.springframework.security.authentication.UsernamePasswordAuthenticationToken(
+										anotherUser, null, java.util.Collections.emptyList()))))
+				.andExpect(status().isNotFound()).andExpect(jsonPath("$.success").value(false));
+	}
+
+	@Test
+	@DisplayName("빈 파일은 가져오기를 시작하지 않음")
+	void importEmptyFile() throws Exception {
+		MockMultipartFile file = new MockMultipartFile("file", "bookmarks.html", "text/html", new byte[0]);
+
+		mockMvc.perform(multipart("/bookmarks/import").file(file)).andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.success").value(false))
+				.andExpect(jsonPath("$.error.message").value("가져올 파일이 비어 있습니다"));
+	}
+
+	private JsonNode importAndWait() throws Exception {
+		return awaitCompleted(startImport());
+	}
+
+	private String startImport() throws Exception {
+		MockMultipartFile file = new MockMultipartFile("file", "bookmarks.html", "text/html",
+				BOOKMARKS_HTML.getBytes(StandardCharsets.UTF_8));
+
+		String response = mockMvc.perform(multipart("/bookmarks/import").file(file)).andExpect(status().isAccepted())
+				.andExpect(jsonPath("$.data.format").value("HTML")).andReturn().getResponse().getContentAsString();
+		return objectMapper.readTree(response).get("data").get("jobId").asText();
+	}
+
+	/** 작업이 끝날 때까지 진행 상태 API 를 폴링 (최대 10초) */
+	private JsonNode awaitCompleted(String jobId) throws Exception {
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (true) {
+			String response = mockMvc.perform(get("/bookmarks/import/{jobId}", jobId)).andExpect(status().isOk())
+					.andReturn().getResponse().getContentAsString();
+			JsonNode data = objectMapper.readTree(response).get("data");
+			String status = data.get("status").asText();
+			if (status.equals("COMPLETED") || status.equals("FAILED")) {
+				return data;
+			}
+			assertThat(System.currentTimeMillis()).as("가져오기 작업 %s 가 끝나지 않음", jobId).isLessThan(deadline);
+			Thread.sleep(50);
+		}
+	}
+}
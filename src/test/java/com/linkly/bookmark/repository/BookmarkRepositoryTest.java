@@ -1,15 +1,20 @@
 package com.linkly.bookmark.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.linkly.bookmark.BookmarkRepository;
 import com.linkly.bookmark.BookmarkTagMapRepository;
+import com.linkly.bookmark.dto.BookmarkTagIdRow;
 import com.linkly.category.CategoryRepository;
 import com.linkly.domain.*;
 import com.linkly.global.config.JpaAuditingConfig;
+import com.linkly.global.util.UrlNormalizer;
 import com.linkly.tag.TagRepository;
 import com.linkly.user.AppUserRepository;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,6 +22,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
 
 /**
  * Repository 계층 테스트 Django의 Model 테스트와 유사 @DataJpaTest: JPA 관련 컴포넌트만 로드 (빠른
@@ -286,13 +292,206 @@ class BookmarkRepositoryTest {
 		bookmarkTagMapRepository.save(BookmarkTagMap.builder().bookmark(bookmark).tag(tag).build());
 
 		// when
-		bookmarkTagMapRepository.deleteAllByBookmark(bookmark);
+		int deleted = bookmarkTagMapRepository.deleteAllByBookmark(bookmark);
 		List<BookmarkTagMap> mappings = bookmarkTagMapRepository.findAllByBookmark(bookmark);
 
 		// then
+		assertThat(deleted).isEqualTo(1);
 		assertThat(mappings).isEmpty();
 	}
 
+	@Test
+	@DisplayName("일괄 작업 - 소유한 활성 북마크 ID 만 조회")
+	void findActiveIdsOwnedBy() {
+		// given
+		Bookmark owned = bookmarkRepository.save(createBookmark("https://example.com/1", "북마크1"));
+		Bookmark deleted = createBookmark("https://example.com/2", "북마크2");
+		deleted.softDelete();
+		deleted = bookmarkRepository.save(deleted);
+		AppUser otherUser = userRepository
+				.save(AppUser.builder().email("other@example.com").password("password123").name("다른 사용자").build());
+		Bookmark others = bookmarkRepository.save(Bookmark.builder().appUser(otherUser).url("https://example.com/3")
+				.title("북마크3").build());
+
+		// when
+		List<Long> ids = bookmarkRepository.findActiveIdsOwnedBy(testUser.getId(),
+				List.of(owned.getId(), deleted.getId(), others.getId()));
+
+		// then
+		assertThat(ids).containsExactly(owned.getId());
+	}
+
+	@Test
+	@DisplayName("일괄 작업 - 벌크 Soft Delete 와 태그 매핑 삭제")
+	void softDeleteAllByIdIn() {
+		// given
+		Bookmark bookmark1 = bookmarkRepository.save(createBookmark("https://example.com/1", "북마크1"));
+		Bookmark bookmark2 = bookmarkRepository.save(createBookmark("https://example.com/2", "북마크2"));
+		Tag tag = tagRepository.save(Tag.builder().appUser(testUser).name("Java").build());
+		bookmarkTagMapRepository.save(BookmarkTagMap.builder().bookmark(bookmark1).tag(tag).build());
+		bookmarkTagMapRepository.save(BookmarkTagMap.builder().bookmark(bookmark2).tag(tag).build());
+		List<Long> ids = List.of(bookmark1.getId(), bookmark2.getId());
+
+		// when
+		int deletedMappings = bookmarkTagMapRepository.deleteAllByBookmarkIdIn(ids);
+		int deletedBookmarks = bookmarkRepository.softDeleteAllByIdIn(ids, LocalDateTime.now());
+
+		// then
+		assertThat(deletedMappings).isEqualTo(2);
+		assertThat(deletedBookmarks).isEqualTo(2);
+		assertThat(bookmarkRepository.findActiveIdsOwnedBy(testUser.getId(), ids)).isEmpty();
+		assertThat(bookmarkTagMapRepository.findTagNameRows(ids)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("일괄 작업 - 벌크 카테고리 변경 (null 이면 미분류)")
+	void updateCategoryByIdIn() {
+		// given
+		Bookmark bookmark = bookmarkRepository.save(createBookmark("https://example.com/1", "북마크1"));
+		Category other = categoryRepository.save(Category.builder().appUser(testUser).name("기타").build());
+
+		// when
+		int moved = bookmarkRepository.updateCategoryByIdIn(List.of(bookmark.getId()), other, LocalDateTime.now());
+
+		// then
+		assertThat(moved).isEqualTo(1);
+		assertThat(bookmarkRepository.findAllByCategory(testCategory)).isEmpty();
+		assertThat(bookmarkRepository.findAllByCategory(other)).hasSize(1);
+
+		// when
+		bookmarkRepository.updateCategoryByIdIn(List.of(bookmark.getId()), null, LocalDateTime.now());
+
+		// then
+		assertThat(bookmarkRepository.findAllByCategory(other)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("일괄 작업 - 특정 태그 매핑만 삭제하고 기존 매핑 조회")
+	void deleteAllByBookmarkIdInAndTagIdIn() {
+		// given
+		Bookmark bookmark = bookmarkRepository.save(createBookmark("https://example.com/1", "북마크1"));
+		Tag java = tagRepository.save(Tag.builder().appUser(testUser).name("Java").build());
+		Tag spring = tagRepository.save(Tag.builder().appUser(testUser).name("Spring").build());
+		bookmarkTagMapRepository.save(BookmarkTagMap.builder().bookmark(bookmark).tag(java).build());
+		bookmarkTagMapRepository.save(BookmarkTagMap.builder().bookmark(bookmark).tag(spring).build());
+
+		// when
+		int deleted = bookmarkTagMapRepository.deleteAllByBookmarkIdInAndTagIdIn(List.of(bookmark.getId()),
+				List.of(java.getId()));
+
+		// then
+		assertThat(deleted).isEqualTo(1);
+		assertThat(bookmarkTagMapRepository.findIdRows(List.of(bookmark.getId()), List.of(java.getId(), spring.getId())))
+				.extracting(BookmarkTagIdRow::getTagId).containsExactly(spring.getId());
+	}
+
+	@Test
+	@DisplayName("태그 필터 색인 - 삭제되지 않은 북마크의 매핑만 조회")
+	void findIdRowsByUserId() {
+		// given
+		Bookmark active = bookmarkRepository.save(createBookmark("https://example.com/1", "북마크1"));
+		Bookmark deleted = bookmarkRepository.save(createBookmark("https://example.com/2", "북마크2"));
+		deleted.softDelete();
+		Tag java = tagRepository.save(Tag.builder().appUser(testUser).name("Java").build());
+		bookmarkTagMapRepository.save(BookmarkTagMap.builder().bookmark(active).tag(java).build());
+		bookmarkTagMapRepository.save(BookmarkTagMap.builder().bookmark(deleted).tag(java).build());
+
+		// when
+		List<BookmarkTagIdRow> rows = bookmarkTagMapRepository.findIdRowsByUserId(testUser.getId());
+
+		// then
+		assertThat(rows).extracting(BookmarkTagIdRow::getBookmarkId).containsExactly(active.getId());
+		assertThat(bookmarkTagMapRepository.findBookmarksByAllTags(testUser.getId(), List.of(java.getId()), 1))
+				.extracting(Bookmark::getId).containsExactly(active.getId());
+	}
+
+	@Test
+	@DisplayName("북마크에 붙은 태그를 매핑 순서대로 조회")
+	void findTagsByBookmarkId() {
+		// given
+		Bookmark bookmark = bookmarkRepository.save(createBookmark("https://example.com/1", "북마크1"));
+		Tag spring = tagRepository.save(Tag.builder().appUser(testUser).name("Spring").build());
+		Tag java = tagRepository.save(Tag.builder().appUser(testUser).name("Java").build());
+		bookmarkTagMapRepository.save(BookmarkTagMap.builder().bookmark(bookmark).tag(spring).build());
+		bookmarkTagMapRepository.save(BookmarkTagMap.builder().bookmark(bookmark).tag(java).build());
+
+		// when
+		List<Tag> tags = bookmarkTagMapRepository.findTagsByBookmarkId(bookmark.getId());
+
+		// then
+		assertThat(tags).extracting(Tag::getName).containsExactly("Spring", "Java");
+	}
+
+	@Test
+	@DisplayName("태그 삭제 시 해당 태그의 매핑만 DELETE 한 번으로 삭제")
+	void deleteAllByTag() {
+		// given
+		Bookmark bookmark1 = bookmarkRepository.save(createBookmark("https://example.com/1", "북마크1"));
+		Bookmark bookmark2 = bookmarkRepository.save(createBookmark("https://example.com/2", "북마크2"));
+		Tag java = tagRepository.save(Tag.builder().appUser(testUser).name("Java").build());
+		Tag spring = tagRepository.save(Tag.builder().appUser(testUser).name("Spring").build());
+		bookmarkTagMapRepository.save(BookmarkTagMap.builder().bookmark(bookmark1).tag(java).build());
+		bookmarkTagMapRepository.save(BookmarkTagMap.builder().bookmark(bookmark2).tag(java).build());
+		bookmarkTagMapRepository.save(BookmarkTagMap.builder().bookmark(bookmark1).tag(spring).build());
+
+		// when
+		int deleted = bookmarkTagMapRepository.deleteAllByTag(java);
+
+		// then
+		assertThat(deleted).isEqualTo(2);
+		assertThat(bookmarkTagMapRepository.findTagsByBookmarkId(bookmark1.getId())).extracting(Tag::getName)
+				.containsExactly("Spring");
+	}
+
+	@Test
+	@DisplayName("같은 사용자의 같은 정규화 URL INSERT 는 ux_bookmark_user_url_hash 위반")
+	void insertDuplicateUrl_ViolatesUniqueConstraint() {
+		// given
+		bookmarkRepository.saveAndFlush(createBookmark("https://example.com/dup", "북마크1"));
+
+		// when & then: 서비스는 이 제약 이름으로 중복 URL 을 판별 (호스트 대소문자·기본 포트만 다른 URL 도 중복)
+		assertThatThrownBy(
+				() -> bookmarkRepository.saveAndFlush(createBookmark(" https://EXAMPLE.com:443/dup", "북마크2")))
+				.isInstanceOfSatisfying(DataIntegrityViolationException.class,
+						e -> assertThat(e.getMostSpecificCause().getMessage().toLowerCase(Locale.ROOT))
+								.contains("ux_bookmark_user_url_hash"));
+	}
+
+	@Test
+	@DisplayName("정규화 URL 해시 중복 체크 - 자기 자신은 제외")
+	void existsByAppUserIdAndUrlHashAndIdNot() {
+		// given
+		Bookmark bookmark = bookmarkRepository.save(createBookmark("https://example.com/page", "북마크"));
+		long urlHash = UrlNormalizer.hash("HTTPS://Example.com/page");
+
+		// when & then
+		assertThat(bookmark.getUrlHash()).isEqualTo(urlHash);
+		assertThat(bookmarkRepository.existsByAppUserIdAndUrlHashAndIdNot(testUser.getId(), urlHash, -1L)).isTrue();
+		assertThat(bookmarkRepository.existsByAppUserIdAndUrlHashAndIdNot(testUser.getId(), urlHash, bookmark.getId()))
+				.isFalse();
+	}
+
+	@Test
+	@DisplayName("이미 저장된 정규화 URL 해시 조회 (삭제된 북마크 포함)")
+	void findExistingUrlHashes() {
+		// given
+		Bookmark deleted = createBookmark("https://example.com/deleted", "삭제된 북마크");
+		deleted.softDelete();
+		bookmarkRepository.save(deleted);
+		bookmarkRepository.save(createBookmark("https://example.com/active", "북마크"));
+
+		long deletedHash = UrlNormalizer.hash("https://example.com/deleted");
+		long activeHash = UrlNormalizer.hash("https://example.com/active");
+		long newHash = UrlNormalizer.hash("https://example.com/new");
+
+		// when
+		List<Long> existing = bookmarkRepository.findExistingUrlHashes(testUser.getId(),
+				List.of(deletedHash, activeHash, newHash));
+
+		// then
+		assertThat(existing).containsExactlyInAnyOrder(deletedHash, activeHash);
+	}
+
 	private Bookmark createBookmark(String url, String title) {
 		return Bookmark.builder().appUser(testUser).category(testCategory).url(url).title(title).description("테스트 설명")
 				.build();
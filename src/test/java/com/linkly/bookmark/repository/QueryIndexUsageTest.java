@@ -0,0 +1,65 @@
+package com.linkly.bookmark.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+/**
+ * 주요 리포지토리 조회가 인덱스를 타는지 H2 EXPLAIN 으로 확인. 스키마는 엔티티 @Index 로 생성되며 prod 는 같은 인덱스를
+ * Flyway(V3__query_indexes.sql)로 만든다.
+ */
+@DataJpaTest
+@DisplayName("쿼리 인덱스 사용 테스트")
+class QueryIndexUsageTest {
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	@DisplayName("사용자별 활성 북마크 조회는 (app_user_id, deleted_at) 인덱스 사용")
+	void bookmarkByUserUsesIndex() {
+		assertThat(explain("SELECT * FROM bookmark WHERE app_user_id = 1 AND deleted_at IS NULL"))
+				.containsIgnoringCase("idx_bookmark_user_deleted");
+	}
+
+	@Test
+	@DisplayName("전체 활성 북마크 조회는 deleted_at 인덱스 사용")
+	void activeBookmarksUsesIndex() {
+		assertThat(explain("SELECT * FROM bookmark WHERE deleted_at IS NULL"))
+				.containsIgnoringCase("idx_bookmark_deleted");
+	}
+
+	@Test
+	@DisplayName("북마크별 최신 헬스체크 결과 조회는 (bookmark_id, checked_at DESC) 인덱스 사용")
+	void latestLinkCheckUsesIndex() {
+		assertThat(explain("SELECT * FROM link_check_result WHERE bookmark_id = 1 ORDER BY checked_at DESC LIMIT 1"))
+				.containsIgnoringCase("idx_link_check_bookmark_checked");
+	}
+
+	@Test
+	@DisplayName("태그로 북마크 조회는 (tag_id, bookmark_id) 인덱스 사용")
+	void bookmarksByTagUsesIndex() {
+		assertThat(explain("SELECT bookmark_id FROM bookmark_tag_map WHERE tag_id IN (1, 2)"))
+				.containsIgnoringCase("idx_map_tag_bookmark");
+	}
+
+	@Test
+	@DisplayName("사용자별 활성 태그·카테고리 조회는 (app_user_id, deleted_at) 인덱스 사용")
+	void tagAndCategoryByUserUsesIndex() {
+		assertThat(explain("SELECT * FROM tag WHERE app_user_id = 1 AND deleted_at IS NULL"))
+				.containsIgnoringCase("idx_tag_user_deleted");
+		assertThat(explain("SELECT * FROM category WHERE app_user_id = 1 AND deleted_at IS NULL"))
+				.containsIgnoringCase("idx_category_user_deleted");
+	}
+
+	private String explain(String sql) {
+		List<?> plan = entityManager.createNativeQuery("EXPLAIN " + sql).getResultList();
+		return plan.stream().map(String::valueOf).collect(Collectors.joining("\n"));
+	}
+}
@@ -0,0 +1,234 @@
+package com.linkly.bookmark.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.linkly.bookmark.BookmarkBulkServiceImpl;
+import com.linkly.bookmark.BookmarkRepository;
+import com.linkly.bookmark.BookmarkTagMapRepository;
+import com.linkly.bookmark.LocalCategoryClassifier;
+import com.linkly.bookmark.dto.BookmarkTagIdRow;
+import com.linkly.bookmark.dto.BulkOperationResponse;
+import com.linkly.category.CategoryRepository;
+import com.linkly.domain.AppUser;
+import com.linkly.domain.BookmarkTagMap;
+import com.linkly.domain.Category;
+import com.linkly.domain.Tag;
+import com.linkly.global.config.BookmarkBulkConfig;
+import com.linkly.global.exception.InvalidRequestException;
+import com.linkly.global.exception.ResourceNotFoundException;
+import com.linkly.tag.TagPostings.Posting;
+import com.linkly.tag.TagRepository;
+import com.linkly.tag.TagUsageCounter;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.LongStream;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookmarkBulkServiceImpl 테스트")
+class BookmarkBulkServiceImplTest {
+
+	private static final Long USER_ID = 1L;
+
+	@Mock
+	private BookmarkRepository bookmarkRepository;
+
+	@Mock
+	private BookmarkTagMapRepository bookmarkTagMapRepository;
+
+	@Mock
+	private CategoryRepository categoryRepository;
+
+	@Mock
+	private TagRepository tagRepository;
+
+	@Mock
+	private TagUsageCounter tagUsageCounter;
+
+	@Mock
+	private LocalCategoryClassifier localCategoryClassifier;
+
+	@Mock
+	private EntityManager entityManager;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	private BookmarkBulkServiceImpl bookmarkBulkService;
+
+	private AppUser testUser;
+
+	@BeforeEach
+	void setUp() {
+		BookmarkBulkConfig config = new BookmarkBulkConfig();
+		config.setChunkSize(2);
+		bookmarkBulkService = new BookmarkBulkServiceImpl(bookmarkRepository, bookmarkTagMapRepository,
+				categoryRepository, tagRepository, tagUsageCounter, localCategoryClassifier, entityManager,
+				transactionTemplate, config);
+
+		testUser = AppUser.builder().id(USER_ID).email("test@example.com").password("password123").name("테스트 사용자")
+				.build();
+	}
+
+	@Test
+	@DisplayName("일괄 삭제 - 청크마다 매핑 DELETE 와 벌크 UPDATE 한 번씩")
+	void deleteBookmarks_RunsOneStatementPerChunk() {
+		// given
+		List<Long> ids = List.of(1L, 2L, 3L, 2L);
+		given(bookmarkRepository.findActiveIdsOwnedBy(USER_ID, List.of(1L, 2L, 3L))).willReturn(List.of(1L, 2L, 3L));
+		given(bookmarkRepository.softDeleteAllByIdIn(eq(List.of(1L, 2L)), any(LocalDateTime.class))).willReturn(2);
+		given(bookmarkRepository.softDeleteAllByIdIn(eq(List.of(3L)), any(LocalDateTime.class))).willReturn(1);
+		runTransactionsInline();
+
+		// when
+		BulkOperationResponse response = bookmarkBulkService.deleteBookmarks(USER_ID, ids);
+
+		// then
+		assertThat(response.getRequested()).isEqualTo(3);
+		assertThat(response.getAffected()).isEqualTo(3);
+		then(transactionTemplate).should(times(2)).execute(any());
+		then(bookmarkTagMapRepository).should().deleteAllByBookmarkIdIn(List.of(1L, 2L));
+		then(bookmarkTagMapRepository).should().deleteAllByBookmarkIdIn(List.of(3L));
+		then(tagUsageCounter).should(times(2)).decrementForBookmarks(eq(USER_ID), any());
+		then(localCategoryClassifier).should().invalidate(USER_ID);
+	}
+
+	@Test
+	@DisplayName("일괄 삭제 실패 - 다른 사용자의 북마크가 섞이면 아무것도 바꾸지 않음")
+	void deleteBookmarks_NotOwned() {
+		// given
+		given(bookmarkRepository.findActiveIdsOwnedBy(USER_ID, List.of(1L, 99L))).willReturn(List.of(1L));
+
+		// when & then
+		assertThatThrownBy(() -> bookmarkBulkService.deleteBookmarks(USER_ID, List.of(1L, 99L)))
+				.isInstanceOf(InvalidRequestException.class).hasMessageContaining("권한이 없는 북마크");
+		then(transactionTemplate).should(never()).execute(any());
+	}
+
+	@Test
+	@DisplayName("일괄 이동 - 벌크 UPDATE 로 카테고리 변경")
+	void moveBookmarks() {
+		// given
+		Category category = Category.builder().id(10L).appUser(testUser).name("개발").build();
+		given(categoryRepository.findOwnerIdById(10L)).willReturn(Optional.of(USER_ID));
+		given(categoryRepository.getReferenceById(10L)).willReturn(category);
+		given(bookmarkRepository.findActiveIdsOwnedBy(USER_ID, List.of(1L, 2L))).willReturn(List.of(2L, 1L));
+		given(bookmarkRepository.updateCategoryByIdIn(eq(List.of(1L, 2L)), eq(category), any(LocalDateTime.class)))
+				.willReturn(2);
+		runTransactionsInline();
+
+		// when
+		BulkOperationResponse response = bookmarkBulkService.moveBookmarks(USER_ID, List.of(1L, 2L), 10L);
+
+		// then
+		assertThat(response.getAffected()).isEqualTo(2);
+		then(localCategoryClassifier).should().invalidate(USER_ID);
+	}
+
+	@Test
+	@DisplayName("일괄 이동 실패 - 다른 사용자의 카테고리")
+	void moveBookmarks_CategoryNotOwned() {
+		// given
+		given(categoryRepository.findOwnerIdById(10L)).willReturn(Optional.of(2L));
+
+		// when & then
+		assertThatThrownBy(() -> bookmarkBulkService.moveBookmarks(USER_ID, List.of(1L), 10L))
+				.isInstanceOf(InvalidRequestException.class);
+		then(categoryRepository).should(never()).getReferenceById(any());
+		then(bookmarkRepository).should(never()).updateCategoryByIdIn(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("일괄 이동 실패 - 카테고리가 없음")
+	void moveBookmarks_CategoryNotFound() {
+		// given
+		given(categoryRepository.findOwnerIdById(10L)).willReturn(Optional.empty());
+
+		// when & then
+		assertThatThrownBy(() -> bookmarkBulkService.moveBookmarks(USER_ID, List.of(1L), 10L))
+				.isInstanceOf(ResourceNotFoundException.class);
+	}
+
+	@Test
+	@DisplayName("일괄 태그 변경 - 없는 매핑만 추가하고 제거는 DELETE 한 번")
+	void updateTags() {
+		// given
+		List<Long> ids = LongStream.rangeClosed(1, 2).boxed().toList();
+		Tag java = Tag.builder().id(100L).appUser(testUser).name("Java").build();
+		Tag old = Tag.builder().id(200L).appUser(testUser).name("old").build();
+		given(bookmarkRepository.findActiveIdsOwnedBy(USER_ID, ids)).willReturn(ids);
+		given(tagRepository.findAllByAppUserIdAndNameIn(USER_ID, List.of("old"))).willReturn(List.of(old));
+		given(tagRepository.findAllForUpdateByAppUserIdAndNameIn(USER_ID, List.of("java"))).willReturn(List.of(java));
+		given(bookmarkTagMapRepository.deleteAllByBookmarkIdInAndTagIdIn(ids, List.of(200L))).willReturn(1);
+		given(bookmarkTagMapRepository.findIdRows(ids, List.of(100L)))
+				.willReturn(List.of(new BookmarkTagIdRow(1L, 100L)));
+		given(entityManager.unwrap(Session.class)).willReturn(mock(Session.class));
+		runTransactionsInline();
+
+		// when
+		BulkOperationResponse response = bookmarkBulkService.updateTags(USER_ID, ids, List.of(" java ", "JAVA"),
+				List.of("old"));
+
+		// then: 삭제 1건 + 북마크 2 에만 Java 매핑 추가
+		assertThat(response.getAffected()).isEqualTo(2);
+		then(entityManager).should(times(1)).persist(any(BookmarkTagMap.class));
+		then(tagUsageCounter).should().decrementForBookmarks(USER_ID, ids, List.of(200L));
+		then(tagUsageCounter).should().increment(USER_ID, List.of(new Posting(2L, 100L)), Map.of(100L, "Java"));
+		then(tagRepository).should(never()).save(any(Tag.class));
+	}
+
+	@Test
+	@DisplayName("일괄 태그 변경 - 악센트만 다른 기존 태그는 새로 만들지 않고 재사용")
+	void updateTags_ReusesCollationEqualTag() {
+		// given: DB collation 이 "cafe" 와 같다고 보는 기존 "Café"
+		List<Long> ids = List.of(1L);
+		Tag cafe = Tag.builder().id(300L).appUser(testUser).name("Café").build();
+		given(bookmarkRepository.findActiveIdsOwnedBy(USER_ID, ids)).willReturn(ids);
+		given(tagRepository.findAllForUpdateByAppUserIdAndNameIn(USER_ID, List.of("cafe"))).willReturn(List.of(cafe));
+		given(bookmarkTagMapRepository.findIdRows(ids, List.of(300L))).willReturn(List.of());
+		given(entityManager.unwrap(Session.class)).willReturn(mock(Session.class));
+		runTransactionsInline();
+
+		// when
+		BulkOperationResponse response = bookmarkBulkService.updateTags(USER_ID, ids, List.of("cafe", "CAFÉ"), null);
+
+		// then
+		assertThat(response.getAffected()).isEqualTo(1);
+		then(tagUsageCounter).should().increment(USER_ID, List.of(new Posting(1L, 300L)), Map.of(300L, "Café"));
+		then(tagRepository).should(never()).save(any(Tag.class));
+	}
+
+	@Test
+	@DisplayName("일괄 태그 변경 실패 - 같은 태그를 추가하고 제거")
+	void updateTags_Conflict() {
+		// when & then
+		assertThatThrownBy(() -> bookmarkBulkService.updateTags(USER_ID, List.of(1L), List.of("Java"), List.of("java")))
+				.isInstanceOf(InvalidRequestException.class);
+		then(bookmarkRepository).should(never()).findActiveIdsOwnedBy(any(), any());
+	}
+
+	@SuppressWarnings("unchecked")
+	private void runTransactionsInline() {
+		given(transactionTemplate.execute(any())).willAnswer(
+				invocation -> ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+	}
+}
@@ -0,0 +1,116 @@
+package com.linkly.bookmark.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkly.bookmark.BookmarkExportServiceImpl;
+import com.linkly.bookmark.BookmarkFileFormat;
+import com.linkly.bookmark.BookmarkRepository;
+import com.linkly.bookmark.NetscapeBookmarkParser;
+import com.linkly.bookmark.dto.BookmarkExportRow;
+import com.linkly.bookmark.dto.ImportBookmarkEntry;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookmarkExportServiceImpl 테스트")
+class BookmarkExportServiceImplTest {
+
+	private static final Long USER_ID = 1L;
+	private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 2, 3, 4, 5);
+
+	@Mock
+	private BookmarkRepository bookmarkRepository;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private BookmarkExportServiceImpl exportService;
+
+	@BeforeEach
+	void setUp() {
+		exportService = new BookmarkExportServiceImpl(bookmarkRepository, objectMapper);
+
+		// 미분류 1건 + "개발" 카테고리 2건 (태그 2개인 북마크는 2행)
+		given(bookmarkRepository.streamExportRows(USER_ID)).willReturn(Stream.of(
+				new BookmarkExportRow(3L, "https://news.example.com", "=SUM(A1)", null, null, CREATED_AT, null),
+				new BookmarkExportRow(1L, "https://spring.io", "Spring, \"Boot\"", "스프링 문서", "개발", CREATED_AT, "Java"),
+				new BookmarkExportRow(1L, "https://spring.io", "Spring, \"Boot\"", "스프링 문서", "개발", CREATED_AT, "Spring"),
+				new BookmarkExportRow(2L, "https://jpa.example.com?a=1&b=2", "JPA <기초>", null, "개발", CREATED_AT, null)));
+	}
+
+	@Test
+	@DisplayName("HTML 로 내보낸 파일을 가져오기 파서로 다시 읽으면 카테고리·태그·설명이 유지됨")
+	void exportHtml_RoundTrip() throws Exception {
+		// when
+		String html = export(BookmarkFileFormat.HTML);
+		List<ImportBookmarkEntry> entries = new ArrayList<>();
+		NetscapeBookmarkParser.parse(new StringReader(html), entries::add);
+
+		// then
+		assertThat(entries).extracting(ImportBookmarkEntry::getUrl).containsExactly("https://news.example.com",
+				"https://spring.io", "https://jpa.example.com?a=1&b=2");
+		assertThat(entries).extracting(ImportBookmarkEntry::getFolder).containsExactly(null, "개발", "개발");
+		assertThat(entries.get(1).getTitle()).isEqualTo("Spring, \"Boot\"");
+		assertThat(entries.get(1).getTags()).containsExactly("Java", "Spring");
+		assertThat(entries.get(1).getDescription()).isEqualTo("스프링 문서");
+		assertThat(entries.get(2).getTitle()).isEqualTo("JPA <기초>");
+	}
+
+	@Test
+	@DisplayName("JSON 은 북마크당 객체 하나로 태그를 배열로 모음")
+	void exportJson() throws Exception {
+		// when
+		JsonNode json = objectMapper.readTree(export(BookmarkFileFormat.JSON));
+
+		// then
+		assertThat(json).hasSize(3);
+		assertThat(json.get(1).path("category").asText()).isEqualTo("개발");
+		assertThat(json.get(1).path("tags")).hasSize(2);
+		assertThat(json.get(2).path("tags")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("CSV 는 BOM 과 헤더로 시작하고 쉼표·따옴표를 이스케이프하며 수식으로 시작하는 값을 무력화")
+	void exportCsv() throws Exception {
+		// when
+		String[] lines = export(BookmarkFileFormat.CSV).split("\r\n");
+
+		// then
+		assertThat(lines[0]).isEqualTo("\uFEFFurl,title,description,category,tags,created_at");
+		assertThat(lines[1]).isEqualTo("https://news.example.com,'=SUM(A1),,,,2025-01-02T03:04:05");
+		assertThat(lines[2])
+				.isEqualTo("https://spring.io,\"Spring, \"\"Boot\"\"\",스프링 문서,개발,Java;Spring,2025-01-02T03:04:05");
+	}
+
+	@Test
+	@DisplayName("CSV 는 URL 과 탭·CR 로 시작하는 값도 수식으로 해석되지 않게 처리")
+	void exportCsv_NeutralizesUrlAndControlPrefixes() throws Exception {
+		// given
+		given(bookmarkRepository.streamExportRows(USER_ID)).willReturn(Stream.of(new BookmarkExportRow(4L,
+				"=HYPERLINK(\"https://evil.example\")", "\t=1+1", "\r@SUM(A1)", null, CREATED_AT, null)));
+
+		// when
+		String csv = export(BookmarkFileFormat.CSV);
+
+		// then
+		assertThat(csv).contains("\"'=HYPERLINK(\"\"https://evil.example\"\")\",'\t=1+1,\"'\r@SUM(A1)\",");
+	}
+
+	private String export(BookmarkFileFormat format) throws Exception {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		exportService.export(USER_ID, format, out);
+		return out.toString(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,121 @@
+package com.linkly.bookmark.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkly.bookmark.JsonBookmarkParser;
+import com.linkly.bookmark.NetscapeBookmarkParser;
+import com.linkly.bookmark.dto.ImportBookmarkEntry;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("북마크 가져오기 파서 테스트")
+class BookmarkFileParserTest {
+
+	private static final String CHROME_EXPORT = """
+			<!DOCTYPE NETSCAPE-Bookmark-file-1>
+			<!-- This is an automatically generated file.
+			     It will be read and overwritten.
+			     DO NOT EDIT! -->
+			<META HTTP-EQUIV="Content-Type" CONTENT="text/html; charset=UTF-8">
+			<TITLE>Bookmarks</TITLE>
+			<H1>Bookmarks</H1>
+			<DL><p>
+			    <DT><H3 ADD_DATE="1700000000" PERSONAL_TOOLBAR_FOLDER="true">북마크바</H3>
+			    <DL><p>
+			        <DT><A HREF="https://spring.io/" ADD_DATE="1700000001">Spring</A>
+			        <DT><H3 ADD_DATE="1700000002">개발</H3>
+			        <DL><p>
+			            <DT><A HREF="https://docs.oracle.com/?a=1&amp;b=2" TAGS="java,jdk">Java &amp; JDK 문서</A>
+			            <DD>자바 공식 문서
+			            <DT><H3>DB</H3>
+			            <DL><p>
+			                <DT><A HREF="https://dev.mysql.com/doc/">MySQL</A>
+			            </DL><p>
+			            <DT><A HREF="https://jpa.example.com">JPA</A>
+			        </DL><p>
+			    </DL><p>
+			    <DT><A HREF="javascript:alert(1)">bookmarklet</A>
+			</DL><p>
+			""";
+
+	@Test
+	@DisplayName("Netscape HTML: 가장 안쪽 폴더를 카테고리로, 북마크바 같은 기본 폴더는 폴더 없음으로 읽음")
+	void parseNetscape_Folders() throws IOException {
+		// when
+		List<ImportBookmarkEntry> entries = parseHtml(CHROME_EXPORT);
+
+		// then
+		assertThat(entries).extracting(ImportBookmarkEntry::getUrl).containsExactly("https://spring.io/",
+				"https://docs.oracle.com/?a=1&b=2", "https://dev.mysql.com/doc/", "https://jpa.example.com",
+				"javascript:alert(1)");
+		assertThat(entries).extracting(ImportBookmarkEntry::getFolder).containsExactly(null, "개발", "DB", "개발", null);
+	}
+
+	@Test
+	@DisplayName("Netscape HTML: 제목의 엔티티 디코딩, TAGS 속성과 DD 설명")
+	void parseNetscape_TitleTagsDescription() throws IOException {
+		// when
+		ImportBookmarkEntry entry = parseHtml(CHROME_EXPORT).get(1);
+
+		// then
+		assertThat(entry.getTitle()).isEqualTo("Java & JDK 문서");
+		assertThat(entry.getTags()).containsExactly("java", "jdk");
+		assertThat(entry.getDescription()).isEqualTo("자바 공식 문서");
+	}
+
+	@Test
+	@DisplayName("Netscape HTML: 설명이 없는 북마크는 description 이 null")
+	void parseNetscape_NoDescription() throws IOException {
+		// when
+		ImportBookmarkEntry entry = parseHtml(CHROME_EXPORT).get(0);
+
+		// then
+		assertThat(entry.getTitle()).isEqualTo("Spring");
+		assertThat(entry.getDescription()).isNull();
+		assertThat(entry.getTags()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("JSON: 배열 원소를 하나씩 읽고 url 이 없는 원소는 건너뜀")
+	void parseJson() throws IOException {
+		// given
+		String json = """
+				[
+				  {"url": "https://spring.io", "title": "Spring", "category": "개발", "tags": ["Java", "Spring"]},
+				  {"title": "url 없음"},
+				  {"url": "https://example.com", "description": "설명"}
+				]
+				""";
+		List<ImportBookmarkEntry> entries = new ArrayList<>();
+
+		// when
+		JsonBookmarkParser.parse(new ObjectMapper(), new StringReader(json), entries::add);
+
+		// then
+		assertThat(entries).hasSize(2);
+		assertThat(entries.get(0).getFolder()).isEqualTo("개발");
+		assertThat(entries.get(0).getTags()).containsExactly("Java", "Spring");
+		assertThat(entries.get(1).getTitle()).isNull();
+		assertThat(entries.get(1).getDescription()).isEqualTo("설명");
+	}
+
+	@Test
+	@DisplayName("JSON: 최상위가 배열이 아니면 예외")
+	void parseJson_NotArray() {
+		assertThatThrownBy(
+				() -> JsonBookmarkParser.parse(new ObjectMapper(), new StringReader("{\"url\": \"x\"}"), entry -> {
+				})).isInstanceOf(IOException.class);
+	}
+
+	private static List<ImportBookmarkEntry> parseHtml(String html) throws IOException {
+		List<ImportBookmarkEntry> entries = new ArrayList<>();
+		NetscapeBookmarkParser.parse(new StringReader(html), entries::add);
+		return entries;
+	}
+}
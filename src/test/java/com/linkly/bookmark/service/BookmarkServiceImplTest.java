@@ -3,26 +3,37 @@ package com.linkly.bookmark.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 import com.linkly.bookmark.BookmarkRepository;
 import com.linkly.bookmark.BookmarkServiceImpl;
 import com.linkly.bookmark.BookmarkTagMapRepository;
 import com.linkly.bookmark.dto.BookmarkResponse;
+import com.linkly.bookmark.dto.BookmarkTagNameRow;
 import com.linkly.bookmark.dto.CreateBookmarkRequest;
+import com.linkly.bookmark.dto.TagFilterResponse;
 import com.linkly.bookmark.dto.UpdateBookmarkRequest;
 import com.linkly.category.CategoryRepository;
 import com.linkly.domain.*;
 import com.linkly.global.exception.InvalidRequestException;
 import com.linkly.global.exception.ResourceNotFoundException;
+import com.linkly.global.util.UrlNormalizer;
+import com.linkly.tag.TagPostingIndex;
+import com.linkly.tag.TagPostings.Posting;
 import com.linkly.tag.TagRepository;
+import com.linkly.tag.TagUsageCounter;
 import com.linkly.user.AppUserRepository;
+import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -30,6 +41,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 /**
  * Service 계층 테스트 Django의 Service 테스트와 유사 @ExtendWith(MockitoExtension.class):
@@ -57,6 +69,12 @@ class BookmarkServiceImplTest {
 	@Mock
 	private BookmarkTagMapRepository bookmarkTagMapRepository;
 
+	@Mock
+	private TagUsageCounter tagUsageCounter;
+
+	@Mock
+	private TagPostingIndex tagPostingIndex;
+
 	private AppUser testUser;
 	private Category testCategory;
 	private Bookmark testBookmark;
@@ -82,17 +100,15 @@ class BookmarkServiceImplTest {
 		CreateBookmarkRequest request = CreateBookmarkRequest.builder().categoryId(1L).url("https://example.com")
 				.title("테스트 북마크").description("테스트 설명").tags(Arrays.asList("Java", "Spring")).build();
 
-		given(userRepository.findByIdAndDeletedAtIsNull(userId)).willReturn(Optional.of(testUser));
 		given(categoryRepository.findByIdAndDeletedAtIsNull(1L)).willReturn(Optional.of(testCategory));
-		given(bookmarkRepository.findByAppUserAndUrl(testUser, request.getUrl())).willReturn(Optional.empty());
-		given(bookmarkRepository.save(any(Bookmark.class))).willReturn(testBookmark);
-		given(tagRepository.findByAppUserAndName(eq(testUser), eq("Java"))).willReturn(Optional.of(testTag));
-		given(tagRepository.findByAppUserAndName(eq(testUser), eq("Spring"))).willReturn(Optional.empty());
-		given(tagRepository.save(any(Tag.class))).willAnswer(invocation -> {
-			Tag tag = invocation.getArgument(0);
-			return Tag.builder().id(2L).name(tag.getName()).appUser(tag.getAppUser()).build();
+		given(userRepository.getReferenceById(userId)).willReturn(testUser);
+		given(bookmarkRepository.saveAndFlush(any(Bookmark.class))).willReturn(testBookmark);
+		given(tagRepository.findAllForUpdateByAppUserIdAndNameIn(userId, List.of("Java", "Spring"))).willReturn(List.of(testTag));
+		given(tagRepository.saveAll(anyList())).willAnswer(invocation -> {
+			List<Tag> tags = invocation.getArgument(0);
+			return tags.stream().map(tag -> Tag.builder().id(2L).name(tag.getName()).appUser(tag.getAppUser()).build())
+					.toList();
 		});
-		given(bookmarkTagMapRepository.existsByBookmarkAndTag(any(), any())).willReturn(false);
 
 		// when
 		BookmarkResponse response = bookmarkService.createBookmark(userId, request);
@@ -100,9 +116,90 @@ class BookmarkServiceImplTest {
 		// then
 		assertThat(response).isNotNull();
 		assertThat(response.getUrl()).isEqualTo("https://example.com");
-		assertThat(response.getTags()).hasSize(2);
-		then(bookmarkRepository).should(times(1)).save(any(Bookmark.class));
-		then(bookmarkTagMapRepository).should(times(2)).save(any(BookmarkTagMap.class));
+		assertThat(response.getTags()).containsExactly("Java", "Spring");
+		then(bookmarkRepository).should(times(1)).saveAndFlush(any(Bookmark.class));
+		then(bookmarkRepository).shouldHaveNoMoreInteractions();
+		then(userRepository).should(never()).findByIdAndDeletedAtIsNull(any());
+		then(bookmarkTagMapRepository).should()
+				.saveAll(argThat((List<BookmarkTagMap> mappings) -> mappings.size() == 2));
+		then(tagUsageCounter).should().increment(userId, List.of(new Posting(1L, 1L), new Posting(1L, 2L)),
+				Map.of(1L, "Java", 2L, "Spring"));
+	}
+
+	@Test
+	@DisplayName("북마크 생성 성공 - 태그 이름 공백 제거 및 중복 제거")
+	void createBookmark_NormalizesTags() {
+		// given
+		Long userId = 1L;
+		CreateBookmarkRequest request = CreateBookmarkRequest.builder().url("https://example.com").title("테스트 북마크")
+				.tags(Arrays.asList(" Java ", "Java", "java", "  ")).build();
+
+		given(userRepository.getReferenceById(userId)).willReturn(testUser);
+		given(bookmarkRepository.saveAndFlush(any(Bookmark.class))).willReturn(testBookmark);
+		given(tagRepository.findAllForUpdateByAppUserIdAndNameIn(userId, List.of("Java"))).willReturn(List.of(testTag));
+
+		// when
+		BookmarkResponse response = bookmarkService.createBookmark(userId, request);
+
+		// then
+		assertThat(response.getTags()).containsExactly("Java");
+		then(tagRepository).should(never()).saveAll(any());
+		then(bookmarkTagMapRepository).should()
+				.saveAll(argThat((List<BookmarkTagMap> mappings) -> mappings.size() == 1));
+	}
+
+	@Test
+	@DisplayName("북마크 생성 성공 - 악센트·전각만 다른 기존 태그를 재사용")
+	void createBookmark_ReusesCollationEqualTags() {
+		// given: DB collation (utf8mb4_unicode_ci) 이 같다고 보는 기존 태그를 IN 조회가 돌려줌
+		Long userId = 1L;
+		Tag cafe = Tag.builder().id(3L).appUser(testUser).name("Café").build();
+		CreateBookmarkRequest request = CreateBookmarkRequest.builder().url("https://example.com").title("테스트 북마크")
+				.tags(Arrays.asList("cafe", "CAFÉ", "Ｊａｖａ")).build();
+
+		given(userRepository.getReferenceById(userId)).willReturn(testUser);
+		given(bookmarkRepository.saveAndFlush(any(Bookmark.class))).willReturn(testBookmark);
+		given(tagRepository.findAllForUpdateByAppUserIdAndNameIn(userId, List.of("cafe", "Ｊａｖａ")))
+				.willReturn(List.of(cafe, testTag));
+
+		// when
+		BookmarkResponse response = bookmarkService.createBookmark(userId, request);
+
+		// then
+		assertThat(response.getTags()).containsExactly("Café", "Java");
+		then(tagRepository).should(never()).saveAll(any());
+		then(tagUsageCounter).should().increment(userId, List.of(new Posting(1L, 3L), new Posting(1L, 1L)),
+				Map.of(3L, "Café", 1L, "Java"));
+	}
+
+	@Test
+	@DisplayName("북마크 생성 성공 - 이름 키로 짝을 못 찾은 기존 태그는 이름별 조회로 재사용")
+	void createBookmark_FallsBackToPerNameLookup() {
+		// given: collation 확장 규칙으로만 같은 이름 (키가 다름)
+		Long userId = 1L;
+		Tag ligature = Tag.builder().id(4L).appUser(testUser).name("Æsop").build();
+		CreateBookmarkRequest request = CreateBookmarkRequest.builder().url("https://example.com").title("테스트 북마크")
+				.tags(Arrays.asList("AEsop", "Spring")).build();
+
+		given(userRepository.getReferenceById(userId)).willReturn(testUser);
+		given(bookmarkRepository.saveAndFlush(any(Bookmark.class))).willReturn(testBookmark);
+		given(tagRepository.findAllForUpdateByAppUserIdAndNameIn(userId, List.of("AEsop", "Spring")))
+				.willReturn(List.of(ligature));
+		given(tagRepository.findAllForUpdateByAppUserIdAndNameIn(userId, List.of("AEsop"))).willReturn(List.of(ligature));
+		given(tagRepository.findAllForUpdateByAppUserIdAndNameIn(userId, List.of("Spring"))).willReturn(List.of());
+		given(tagRepository.saveAll(anyList())).willAnswer(invocation -> {
+			List<Tag> tags = invocation.getArgument(0);
+			return tags.stream().map(tag -> Tag.builder().id(2L).name(tag.getName()).appUser(tag.getAppUser()).build())
+					.toList();
+		});
+
+		// when
+		BookmarkResponse response = bookmarkService.createBookmark(userId, request);
+
+		// then
+		assertThat(response.getTags()).containsExactly("Æsop", "Spring");
+		then(tagRepository).should().saveAll(argThat((List<Tag> tags) -> tags.size() == 1
+				&& tags.get(0).getName().equals("Spring")));
 	}
 
 	@Test
@@ -113,9 +210,8 @@ class BookmarkServiceImplTest {
 		CreateBookmarkRequest request = CreateBookmarkRequest.builder().url("https://example.com").title("테스트 북마크")
 				.build();
 
-		given(userRepository.findByIdAndDeletedAtIsNull(userId)).willReturn(Optional.of(testUser));
-		given(bookmarkRepository.findByAppUserAndUrl(testUser, request.getUrl())).willReturn(Optional.empty());
-		given(bookmarkRepository.save(any(Bookmark.class))).willReturn(testBookmark);
+		given(userRepository.getReferenceById(userId)).willReturn(testUser);
+		given(bookmarkRepository.saveAndFlush(any(Bookmark.class))).willReturn(testBookmark);
 
 		// when
 		BookmarkResponse response = bookmarkService.createBookmark(userId, request);
@@ -123,7 +219,9 @@ class BookmarkServiceImplTest {
 		// then
 		assertThat(response).isNotNull();
 		assertThat(response.getTags()).isEmpty();
-		then(bookmarkRepository).should(times(1)).save(any(Bookmark.class));
+		then(bookmarkRepository).should(times(1)).saveAndFlush(any(Bookmark.class));
+		then(tagRepository).shouldHaveNoInteractions();
+		then(bookmarkTagMapRepository).shouldHaveNoInteractions();
 	}
 
 	@Test
@@ -134,7 +232,10 @@ class BookmarkServiceImplTest {
 		CreateBookmarkRequest request = CreateBookmarkRequest.builder().url("https://example.com").title("테스트 북마크")
 				.build();
 
-		given(userRepository.findByIdAndDeletedAtIsNull(userId)).willReturn(Optional.empty());
+		given(userRepository.getReferenceById(userId)).willReturn(AppUser.builder().id(userId).build());
+		given(bookmarkRepository.saveAndFlush(any(Bookmark.class))).willThrow(new DataIntegrityViolationException(
+				"could not execute statement", new SQLException("Referential integrity constraint violation: "
+						+ "\"FK_BOOKMARK_USER: PUBLIC.BOOKMARK FOREIGN KEY(APP_USER_ID) REFERENCES PUBLIC.APP_USER(ID)\"")));
 
 		// when & then
 		assertThatThrownBy(() -> bookmarkService.createBookmark(userId, request))
@@ -142,19 +243,22 @@ class BookmarkServiceImplTest {
 	}
 
 	@Test
-	@DisplayName("북마크 생성 실패 - URL 중복")
+	@DisplayName("북마크 생성 실패 - URL 중복 (유니크 제약 위반)")
 	void createBookmark_DuplicateUrl() {
 		// given
 		Long userId = 1L;
 		CreateBookmarkRequest request = CreateBookmarkRequest.builder().url("https://example.com").title("테스트 북마크")
 				.build();
 
-		given(userRepository.findByIdAndDeletedAtIsNull(userId)).willReturn(Optional.of(testUser));
-		given(bookmarkRepository.findByAppUserAndUrl(testUser, request.getUrl())).willReturn(Optional.of(testBookmark));
+		given(userRepository.getReferenceById(userId)).willReturn(testUser);
+		given(bookmarkRepository.saveAndFlush(any(Bookmark.class))).willThrow(new DataIntegrityViolationException(
+				"could not execute statement", new SQLException(
+						"Duplicate entry '1-https://example.com' for key 'bookmark.ux_bookmark_user_url_hash'")));
 
 		// when & then
 		assertThatThrownBy(() -> bookmarkService.createBookmark(userId, request))
 				.isInstanceOf(InvalidRequestException.class).hasMessageContaining("이미 저장된 URL입니다");
+		then(tagRepository).shouldHaveNoInteractions();
 	}
 
 	@Test
@@ -170,12 +274,12 @@ class BookmarkServiceImplTest {
 
 		Category otherCategory = Category.builder().id(1L).appUser(otherUser).name("다른 카테고리").build();
 
-		given(userRepository.findByIdAndDeletedAtIsNull(userId)).willReturn(Optional.of(testUser));
 		given(categoryRepository.findByIdAndDeletedAtIsNull(1L)).willReturn(Optional.of(otherCategory));
 
 		// when & then
 		assertThatThrownBy(() -> bookmarkService.createBookmark(userId, request))
 				.isInstanceOf(InvalidRequestException.class).hasMessageContaining("해당 카테고리를 사용할 권한이 없습니다");
+		then(bookmarkRepository).shouldHaveNoInteractions();
 	}
 
 	@Test
@@ -184,7 +288,7 @@ class BookmarkServiceImplTest {
 		// given
 		Long bookmarkId = 1L;
 		given(bookmarkRepository.findByIdAndDeletedAtIsNull(bookmarkId)).willReturn(Optional.of(testBookmark));
-		given(bookmarkTagMapRepository.findAllByBookmark(testBookmark)).willReturn(Arrays.asList());
+		given(bookmarkTagMapRepository.findTagNameRows(List.of(bookmarkId))).willReturn(Arrays.asList());
 
 		// when
 		BookmarkResponse response = bookmarkService.getBookmarkById(bookmarkId);
@@ -221,7 +325,8 @@ class BookmarkServiceImplTest {
 		given(userRepository.existsById(userId)).willReturn(true);
 		given(bookmarkRepository.findAllByAppUserIdAndDeletedAtIsNull(userId))
 				.willReturn(Arrays.asList(bookmark1, bookmark2));
-		given(bookmarkTagMapRepository.findAllByBookmark(any())).willReturn(Arrays.asList());
+		given(bookmarkTagMapRepository.findTagNameRows(List.of(1L, 2L)))
+				.willReturn(Arrays.asList(new BookmarkTagNameRow(1L, "Java"), new BookmarkTagNameRow(1L, "Spring")));
 
 		// when
 		List<BookmarkResponse> responses = bookmarkService.getBookmarksByUserId(userId);
@@ -229,6 +334,9 @@ class BookmarkServiceImplTest {
 		// then
 		assertThat(responses).hasSize(2);
 		assertThat(responses).extracting("title").containsExactlyInAnyOrder("북마크1", "북마크2");
+		assertThat(responses.get(0).getTags()).containsExactly("Java", "Spring");
+		assertThat(responses.get(1).getTags()).isEmpty();
+		then(bookmarkTagMapRepository).should(times(1)).findTagNameRows(any());
 	}
 
 	@Test
@@ -253,12 +361,13 @@ class BookmarkServiceImplTest {
 				.tags(Arrays.asList("Python", "Django")).build();
 
 		given(bookmarkRepository.findByIdAndDeletedAtIsNull(bookmarkId)).willReturn(Optional.of(testBookmark));
-		given(tagRepository.findByAppUserAndName(eq(testUser), any())).willReturn(Optional.empty());
-		given(tagRepository.save(any(Tag.class))).willAnswer(invocation -> {
-			Tag tag = invocation.getArgument(0);
-			return Tag.builder().id(System.currentTimeMillis()).name(tag.getName()).appUser(tag.getAppUser()).build();
+		given(bookmarkTagMapRepository.findTagsByBookmarkId(bookmarkId)).willReturn(List.of(testTag));
+		given(tagRepository.findAllForUpdateByAppUserIdAndNameIn(userId, List.of("Python", "Django"))).willReturn(List.of());
+		given(tagRepository.saveAll(anyList())).willAnswer(invocation -> {
+			List<Tag> tags = invocation.getArgument(0);
+			return IntStream.range(0, tags.size()).mapToObj(i -> Tag.builder().id(10L + i).name(tags.get(i).getName())
+					.appUser(tags.get(i).getAppUser()).build()).toList();
 		});
-		given(bookmarkTagMapRepository.existsByBookmarkAndTag(any(), any())).willReturn(false);
 
 		// when
 		BookmarkResponse response = bookmarkService.updateBookmark(bookmarkId, userId, request);
@@ -266,8 +375,37 @@ class BookmarkServiceImplTest {
 		// then
 		assertThat(response).isNotNull();
 		assertThat(response.getTitle()).isEqualTo("수정된 제목");
-		then(bookmarkTagMapRepository).should(times(1)).deleteAllByBookmark(testBookmark);
-		then(bookmarkTagMapRepository).should(times(2)).save(any(BookmarkTagMap.class));
+		assertThat(response.getTags()).containsExactly("Python", "Django");
+		then(tagUsageCounter).should().decrementForBookmarks(userId, List.of(bookmarkId), List.of(testTag.getId()));
+		then(bookmarkTagMapRepository).should().deleteAllByBookmarkIdInAndTagIdIn(List.of(bookmarkId),
+				List.of(testTag.getId()));
+		then(bookmarkTagMapRepository).should()
+				.saveAll(argThat((List<BookmarkTagMap> mappings) -> mappings.size() == 2));
+		then(tagUsageCounter).should().increment(userId,
+				List.of(new Posting(bookmarkId, 10L), new Posting(bookmarkId, 11L)), Map.of(10L, "Python", 11L, "Django"));
+	}
+
+	@Test
+	@DisplayName("북마크 수정 성공 - 태그가 그대로면 태그 쓰기 없음 (대소문자 무시)")
+	void updateBookmark_SameTags_NoTagWrites() {
+		// given
+		Long bookmarkId = 1L;
+		Long userId = 1L;
+		UpdateBookmarkRequest request = UpdateBookmarkRequest.builder().title("수정된 제목")
+				.tags(Arrays.asList("java ")).build();
+
+		given(bookmarkRepository.findByIdAndDeletedAtIsNull(bookmarkId)).willReturn(Optional.of(testBookmark));
+		given(bookmarkTagMapRepository.findTagsByBookmarkId(bookmarkId)).willReturn(List.of(testTag));
+
+		// when
+		BookmarkResponse response = bookmarkService.updateBookmark(bookmarkId, userId, request);
+
+		// then
+		assertThat(response.getTags()).containsExactly("Java");
+		then(tagRepository).shouldHaveNoInteractions();
+		then(tagUsageCounter).shouldHaveNoInteractions();
+		then(bookmarkTagMapRepository).should().findTagsByBookmarkId(bookmarkId);
+		then(bookmarkTagMapRepository).shouldHaveNoMoreInteractions();
 	}
 
 	@Test
@@ -293,12 +431,9 @@ class BookmarkServiceImplTest {
 		Long userId = 1L;
 		UpdateBookmarkRequest request = UpdateBookmarkRequest.builder().url("https://duplicate.com").build();
 
-		Bookmark duplicateBookmark = Bookmark.builder().id(2L).appUser(testUser).url("https://duplicate.com")
-				.title("중복 북마크").build();
-
 		given(bookmarkRepository.findByIdAndDeletedAtIsNull(bookmarkId)).willReturn(Optional.of(testBookmark));
-		given(bookmarkRepository.findByAppUserAndUrl(testUser, "https://duplicate.com"))
-				.willReturn(Optional.of(duplicateBookmark));
+		given(bookmarkRepository.existsByAppUserIdAndUrlHashAndIdNot(userId, UrlNormalizer.hash("https://duplicate.com"),
+				bookmarkId)).willReturn(true);
 
 		// when & then
 		assertThatThrownBy(() -> bookmarkService.updateBookmark(bookmarkId, userId, request))
@@ -318,7 +453,9 @@ class BookmarkServiceImplTest {
 		bookmarkService.deleteBookmark(bookmarkId, userId);
 
 		// then
-		then(bookmarkTagMapRepository).should(times(1)).deleteAllByBookmark(testBookmark);
+		then(tagUsageCounter).should(times(1)).decrementForBookmarks(userId, List.of(bookmarkId));
+		then(bookmarkTagMapRepository).should(times(1)).deleteAllByBookmarkIdIn(List.of(bookmarkId));
+		then(bookmarkTagMapRepository).shouldHaveNoMoreInteractions();
 		assertThat(testBookmark.getDeletedAt()).isNotNull();
 	}
 
@@ -349,4 +486,49 @@ class BookmarkServiceImplTest {
 		assertThatThrownBy(() -> bookmarkService.deleteBookmark(bookmarkId, userId))
 				.isInstanceOf(InvalidRequestException.class).hasMessageContaining("해당 북마크를 삭제할 권한이 없습니다");
 	}
+
+	@Test
+	@DisplayName("태그 필터 - 색인 순서(최신순)대로 북마크 반환")
+	void filterBookmarksByTags_KeepsIndexOrder() {
+		// given
+		Long userId = 1L;
+		Bookmark newer = Bookmark.builder().id(2L).appUser(testUser).url("https://example.com/2").title("최신 북마크")
+				.build();
+
+		given(tagPostingIndex.filter(userId, List.of("Java"), List.of(), List.of("old"), 0, 50))
+				.willReturn(new TagPostingIndex.Result(List.of(2L, 1L), 2));
+		given(bookmarkRepository.findAllByIdInAndDeletedAtIsNull(List.of(2L, 1L)))
+				.willReturn(Arrays.asList(testBookmark, newer));
+		given(bookmarkTagMapRepository.findTagNameRows(List.of(2L, 1L)))
+				.willReturn(Arrays.asList(new BookmarkTagNameRow(1L, "Java"), new BookmarkTagNameRow(2L, "Java")));
+
+		// when
+		TagFilterResponse response = bookmarkService.filterBookmarksByTags(userId, List.of(" Java "), null,
+				List.of("old"), 0, 50);
+
+		// then
+		assertThat(response.getTotal()).isEqualTo(2);
+		assertThat(response.getBookmarks()).extracting(BookmarkResponse::getId).containsExactly(2L, 1L);
+	}
+
+	@Test
+	@DisplayName("태그 필터 실패 - all·any 태그 없음")
+	void filterBookmarksByTags_RequiresPositiveTags() {
+		// when & then
+		assertThatThrownBy(() -> bookmarkService.filterBookmarksByTags(1L, List.of(" "), null, List.of("Java"), 0, 50))
+				.isInstanceOf(InvalidRequestException.class);
+		then(tagPostingIndex).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("태그 필터 실패 - offset 상한 초과 (int 오버플로 포함)")
+	void filterBookmarksByTags_RejectsDeepPage() {
+		// when & then
+		assertThatThrownBy(
+				() -> bookmarkService.filterBookmarksByTags(1L, List.of("Java"), null, null, Integer.MAX_VALUE, 200))
+				.isInstanceOf(InvalidRequestException.class);
+		assertThatThrownBy(() -> bookmarkService.filterBookmarksByTags(1L, List.of("Java"), null, null, 201, 50))
+				.isInstanceOf(InvalidRequestException.class);
+		then(tagPostingIndex).shouldHaveNoInteractions();
+	}
 }
@@ -0,0 +1,69 @@
+package com.linkly.bookmark.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.linkly.bookmark.CategoryCentroidModel;
+import com.linkly.bookmark.CategoryCentroidModel.Prediction;
+import com.linkly.bookmark.CategoryCentroidModel.Sample;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CategoryCentroidModel 테스트")
+class CategoryCentroidModelTest {
+
+	private CategoryCentroidModel model;
+
+	@BeforeEach
+	void setUp() {
+		model = CategoryCentroidModel.train(List.of(new Sample("개발", "Spring Boot 레퍼런스 문서"),
+				new Sample("개발", "Java 21 virtual threads guide"), new Sample("개발", "Spring Data JPA 쿼리 메서드"),
+				new Sample("여행", "제주도 맛집 여행 코스"), new Sample("여행", "Tokyo travel guide and itinerary"),
+				new Sample("여행", "부산 여행 숙소 추천")));
+	}
+
+	@Test
+	@DisplayName("학습된 카테고리와 유사한 텍스트는 해당 카테고리로 추정")
+	void predict_SimilarText() {
+		// when
+		Prediction development = model.predict("Spring Boot JPA 튜토리얼", List.of("개발", "여행"));
+		Prediction travel = model.predict("강릉 여행 코스", List.of("개발", "여행"));
+
+		// then
+		assertThat(development.category()).isEqualTo("개발");
+		assertThat(development.margin()).isPositive();
+		assertThat(travel.category()).isEqualTo("여행");
+		assertThat(travel.sampleCount()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("후보 목록에 없는 카테고리는 추정하지 않음")
+	void predict_OnlyCandidates() {
+		// when
+		Prediction prediction = model.predict("Spring Boot JPA 튜토리얼", List.of("여행", "음악"));
+
+		// then
+		assertThat(prediction.category()).isEqualTo("여행");
+		assertThat(prediction.score()).isLessThan(0.35);
+	}
+
+	@Test
+	@DisplayName("학습 데이터가 있는 후보가 없으면 null")
+	void predict_NoTrainedCandidate() {
+		// when & then
+		assertThat(model.predict("Spring Boot", List.of("음악"))).isNull();
+		assertThat(model.predict("   ", List.of("개발"))).isNull();
+	}
+
+	@Test
+	@DisplayName("빈 학습 데이터로도 모델 생성 가능")
+	void train_Empty() {
+		// when
+		CategoryCentroidModel empty = CategoryCentroidModel.train(List.of());
+
+		// then
+		assertThat(empty.categoryCount()).isZero();
+		assertThat(empty.predict("Spring Boot", List.of("개발"))).isNull();
+	}
+}
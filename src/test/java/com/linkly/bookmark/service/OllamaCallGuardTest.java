@@ -0,0 +1,95 @@
+package com.linkly.bookmark.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.linkly.bookmark.OllamaCallGuard;
+import com.linkly.bookmark.OllamaCallGuard.CallNotPermittedException;
+import com.linkly.bookmark.OllamaCallGuard.State;
+import com.linkly.global.config.OllamaConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("OllamaCallGuard 테스트")
+class OllamaCallGuardTest {
+
+	private OllamaConfig config;
+	private SimpleMeterRegistry meterRegistry;
+	private OllamaCallGuard guard;
+
+	@BeforeEach
+	void setUp() {
+		config = new OllamaConfig();
+		config.getBulkhead().setMaxConcurrentCalls(1);
+		config.getBulkhead().setMaxWaitingCalls(0);
+		config.getCircuitBreaker().setFailureThreshold(2);
+		config.getCircuitBreaker().setOpenDurationSeconds(0);
+		meterRegistry = new SimpleMeterRegistry();
+		guard = new OllamaCallGuard(config, meterRegistry);
+	}
+
+	@Test
+	@DisplayName("연속 실패 시 OPEN, OPEN 동안은 호출하지 않고 거절")
+	void circuit_OpenAfterConsecutiveFailures() {
+		// given
+		config.getCircuitBreaker().setOpenDurationSeconds(60);
+		fail();
+		fail();
+
+		// when & then
+		assertThat(guard.getState()).isEqualTo(State.OPEN);
+		assertThatThrownBy(() -> guard.execute(() -> "never")).isInstanceOf(CallNotPermittedException.class);
+		assertThat(meterRegistry.get("ollama.calls.rejected").tag("reason", "circuit_open").counter().count())
+				.isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("OPEN 시간 경과 후 시험 호출 실패 시 다시 OPEN, 성공 시 CLOSED")
+	void circuit_HalfOpenProbe() throws Exception {
+		// given
+		fail();
+		fail();
+		assertThat(guard.getState()).isEqualTo(State.HALF_OPEN);
+
+		// when & then
+		fail();
+		assertThat(guard.execute(() -> "probe")).isEqualTo("probe");
+		assertThat(guard.getState()).isEqualTo(State.CLOSED);
+	}
+
+	@Test
+	@DisplayName("동시 호출 한도와 대기열이 가득 차면 즉시 거절")
+	void bulkhead_RejectWhenFull() throws Exception {
+		// given
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		executor.submit(() -> guard.execute(() -> {
+			started.countDown();
+			return release.await(5, TimeUnit.SECONDS);
+		}));
+		started.await(5, TimeUnit.SECONDS);
+
+		// when & then
+		assertThat(guard.getInFlightCalls()).isEqualTo(1);
+		assertThatThrownBy(() -> guard.execute(() -> "rejected")).isInstanceOf(CallNotPermittedException.class)
+				.hasMessageContaining("bulkhead");
+
+		release.countDown();
+		executor.shutdown();
+		assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(guard.getInFlightCalls()).isZero();
+	}
+
+	private void fail() {
+		assertThatThrownBy(() -> guard.execute(() -> {
+			throw new IllegalStateException("ollama down");
+		})).isInstanceOf(IllegalStateException.class);
+	}
+}
@@ -0,0 +1,92 @@
+package com.linkly.bookmark.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkly.bookmark.OllamaModelMetrics;
+import com.linkly.bookmark.OllamaModelWarmer;
+import com.linkly.global.config.OllamaConfig;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+@DisplayName("OllamaModelWarmer 테스트")
+class OllamaModelWarmerTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final List<JsonNode> requests = new CopyOnWriteArrayList<>();
+
+	private HttpServer server;
+	private OllamaConfig config;
+	private SimpleMeterRegistry meterRegistry;
+	private OllamaModelWarmer warmer;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		// 모델 적재를 흉내 내는 로컬 Ollama 스텁
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/api/generate", exchange -> {
+			requests.add(objectMapper.readTree(exchange.getRequestBody()));
+			byte[] body = ("{\"model\":\"test-model\",\"response\":\"\",\"done\":true,"
+					+ "\"done_reason\":\"load\",\"load_duration\":1500000000}").getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, body.length);
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(body);
+			}
+		});
+		server.start();
+
+		config = new OllamaConfig();
+		config.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+		config.setModel("test-model");
+		config.setKeepAlive("1h");
+
+		meterRegistry = new SimpleMeterRegistry();
+		warmer = new OllamaModelWarmer(new RestTemplate(), config, objectMapper, new OllamaModelMetrics(meterRegistry));
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop(0);
+	}
+
+	@Test
+	@DisplayName("빈 prompt 와 keep_alive 로 모델을 적재하고 적재 시간을 기록")
+	void warmUp_Success() {
+		// when
+		boolean warmed = warmer.warmUp();
+
+		// then
+		assertThat(warmed).isTrue();
+		assertThat(requests).hasSize(1);
+		JsonNode request = requests.get(0);
+		assertThat(request.path("model").asText()).isEqualTo("test-model");
+		assertThat(request.path("prompt").asText()).isEmpty();
+		assertThat(request.path("keep_alive").asText()).isEqualTo("1h");
+		assertThat(meterRegistry.get("ollama.model.load").timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(1500);
+		assertThat(meterRegistry.get("ollama.warmup").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Ollama 에 연결할 수 없으면 예외 없이 false")
+	void warmUp_Unreachable() {
+		// given
+		server.stop(0);
+
+		// when & then
+		assertThat(warmer.warmUp()).isFalse();
+		assertThat(meterRegistry.get("ollama.warmup").timer().count()).isZero();
+	}
+}
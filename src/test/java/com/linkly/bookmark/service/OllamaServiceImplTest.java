@@ -0,0 +1,321 @@
+package com.linkly.bookmark.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.jsonPath;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.linkly.bookmark.OllamaCallGuard;
+import com.linkly.bookmark.OllamaModelMetrics;
+import com.linkly.bookmark.OllamaServiceImpl;
+import com.linkly.bookmark.dto.CategorySuggestionItem;
+import com.linkly.bookmark.dto.CategorySuggestionResponse;
+import com.linkly.global.config.OllamaConfig;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+@DisplayName("OllamaServiceImpl 테스트")
+class OllamaServiceImplTest {
+
+	private static final String GENERATE_URL = "http://ollama.test/api/generate";
+	private static final List<String> CATEGORIES = List.of("개발", "여행");
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final List<JsonNode> streamRequests = new CopyOnWriteArrayList<>();
+	private final CountDownLatch streamFinished = new CountDownLatch(1);
+	private final CountDownLatch streamAborted = new CountDownLatch(1);
+	private final CountDownLatch streamResumed = new CountDownLatch(1);
+
+	private MockRestServiceServer server;
+	private HttpServer streamServer;
+	private volatile List<String> streamChunks = List.of();
+	private volatile long chunkDelayMs;
+	private volatile boolean stallAfterFirstChunk;
+	private OllamaConfig config;
+	private OllamaCallGuard guard;
+	private SimpleMeterRegistry meterRegistry;
+	private OllamaServiceImpl ollamaService;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		RestTemplate restTemplate = new RestTemplate();
+		server = MockRestServiceServer.bindTo(restTemplate).build();
+
+		// 스트리밍은 HttpClient 로 보내므로 토큰을 chunkDelayMs 간격으로 흘리는 로컬 Ollama 스텁으로 검증
+		streamServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		streamServer.createContext("/api/generate", exchange -> {
+			streamRequests.add(objectMapper.readTree(exchange.getRequestBody()));
+			exchange.getResponseHeaders().add("Content-Type", MediaType.APPLICATION_NDJSON_VALUE);
+			exchange.sendResponseHeaders(200, 0);
+			try (OutputStream out = exchange.getResponseBody()) {
+				for (String chunk : streamChunks) {
+					out.write((chunk + "\n").getBytes(StandardCharsets.UTF_8));
+					out.flush();
+					if (stallAfterFirstChunk) {
+						// 생성 도중 멈춘 Ollama: 테스트가 풀어 줄 때까지 아무것도 보내지 않음
+						stallAfterFirstChunk = false;
+						streamResumed.await(10, TimeUnit.SECONDS);
+					}
+					Thread.sleep(chunkDelayMs);
+				}
+				streamFinished.countDown();
+			} catch (IOException e) {
+				// 클라이언트가 연결을 끊어 남은 토큰을 보내지 못함
+				streamAborted.countDown();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		streamServer.start();
+
+		config = new OllamaConfig();
+		config.setBaseUrl("http://ollama.test");
+		config.setModel("test-model");
+		config.setStream(false);
+		config.getBatch().setSize(2);
+
+		meterRegistry = new SimpleMeterRegistry();
+		guard = new OllamaCallGuard(config, meterRegistry);
+		ollamaService = new OllamaServiceImpl(restTemplate, HttpClient.newHttpClient(), config, objectMapper,
+				Runnable::run, guard, new OllamaModelMetrics(meterRegistry));
+	}
+
+	@AfterEach
+	void tearDown() {
+		streamResumed.countDown();
+		streamServer.stop(0);
+	}
+
+	@Test
+	@DisplayName("단건 추천 - 응답을 기존 카테고리로 검증")
+	void suggestCategory_Success() throws Exception {
+		// given
+		server.expect(requestTo(GENERATE_URL)).andExpect(method(HttpMethod.POST))
+				.andExpect(jsonPath("$.stream").value(false)).andExpect(jsonPath("$.keep_alive").value("30m"))
+				.andRespond(withSuccess(generateResponse("개발"), MediaType.APPLICATION_JSON));
+
+		// when
+		CategorySuggestionResponse response = ollamaService.suggestCategory("Spring Boot", null, CATEGORIES);
+
+		// then
+		assertThat(response.getSuggestedCategory()).isEqualTo("개발");
+		assertThat(response.getSource()).isEqualTo("LLM");
+		server.verify();
+	}
+
+	@Test
+	@DisplayName("응답의 load_duration / total_duration 을 적재 시간과 추론 시간으로 나눠 기록")
+	void suggestCategory_RecordsModelDurations() throws Exception {
+		// given
+		String body = objectMapper.writeValueAsString(Map.of("response", "개발", "done", true, "load_duration",
+				2_000_000_000L, "total_duration", 2_500_000_000L));
+		server.expect(requestTo(GENERATE_URL)).andRespond(withSuccess(body, MediaType.APPLICATION_JSON));
+
+		// when
+		ollamaService.suggestCategory("Spring Boot", null, CATEGORIES);
+
+		// then
+		assertThat(meterRegistry.get("ollama.model.load").timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(2000);
+		assertThat(meterRegistry.get("ollama.inference").timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(500);
+	}
+
+	@Test
+	@DisplayName("스트리밍 추천 - 카테고리가 확정되면 나머지 토큰을 읽지 않음")
+	void suggestCategory_StreamingEarlyTermination() throws Exception {
+		// given
+		useStreamServer(List.of(streamChunk(" 여", false), streamChunk("행", false),
+				streamChunk(" 카테고리가 가장 적합합니다. 개발", false), streamChunk("", true)), 0);
+
+		// when
+		CategorySuggestionResponse response = ollamaService.suggestCategory("제주도 맛집", null, CATEGORIES);
+
+		// then
+		assertThat(response.getSuggestedCategory()).isEqualTo("여행");
+		assertThat(streamRequests).hasSize(1);
+		assertThat(streamRequests.get(0).path("stream").asBoolean()).isTrue();
+		assertThat(streamRequests.get(0).path("options").path("num_predict").asInt()).isEqualTo(16);
+		assertThat(meterRegistry.get("ollama.stream.early-exit").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("스트리밍 추천 - 조기 종료하면 남은 스트림을 기다리지 않고 연결을 끊음")
+	void suggestCategory_StreamingEarlyTerminationAbortsGeneration() throws Exception {
+		// given: 카테고리 확정 뒤 200ms 간격으로 20개 토큰 (끝까지 보내려면 4초 이상)
+		List<String> chunks = new ArrayList<>();
+		chunks.add(streamChunk("여행", false));
+		for (int i = 0; i < 20; i++) {
+			chunks.add(streamChunk(" 설명", false));
+		}
+		useStreamServer(chunks, 200);
+
+		// when
+		long start = System.nanoTime();
+		CategorySuggestionResponse response = ollamaService.suggestCategory("제주도 맛집", null, CATEGORIES);
+		long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		// then
+		assertThat(response.getSuggestedCategory()).isEqualTo("여행");
+		assertThat(elapsedMs).isLessThan(2000);
+		assertThat(streamFinished.getCount()).isEqualTo(1);
+		assertThat(streamAborted.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(streamFinished.getCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("스트리밍 추천 - 생성 도중 멈추면 timeout 에 연결을 끊고 서킷 브레이커 실패로 집계")
+	void suggestCategory_StreamingStallTimesOut() throws Exception {
+		// given: 첫 토큰 뒤로 응답이 멈춤
+		useStreamServer(List.of(streamChunk("개", false), streamChunk("발", false)), 0);
+		config.setTimeout(1);
+		config.getCircuitBreaker().setFailureThreshold(1);
+		stallAfterFirstChunk = true;
+
+		// when
+		long start = System.nanoTime();
+		CategorySuggestionResponse response = ollamaService.suggestCategory("Spring Boot", null, CATEGORIES);
+		long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		streamResumed.countDown();
+
+		// then
+		assertThat(response.getSuggestedCategory()).isNull();
+		assertThat(elapsedMs).isBetween(900L, 3000L);
+		assertThat(meterRegistry.get("ollama.calls").tag("outcome", "failure").timer().count()).isEqualTo(1);
+		assertThat(guard.getState()).isEqualTo(OllamaCallGuard.State.OPEN);
+		assertThat(guard.getInFlightCalls()).isZero();
+		assertThat(streamAborted.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	@DisplayName("스트리밍 추천 - 접두사가 같은 카테고리는 줄바꿈까지 기다림")
+	void suggestCategory_StreamingAmbiguousPrefix() throws Exception {
+		// given
+		List<String> categories = List.of("개발", "개발도구");
+		useStreamServer(List.of(streamChunk("개발", false), streamChunk("도구", false), streamChunk("\n설명", false)),
+				0);
+
+		// when
+		CategorySuggestionResponse response = ollamaService.suggestCategory("IntelliJ", null, categories);
+
+		// then
+		assertThat(response.getSuggestedCategory()).isEqualTo("개발도구");
+	}
+
+	@Test
+	@DisplayName("스트리밍 추천 - 끝까지 읽은 응답은 duration 을 기록")
+	void suggestCategory_StreamingRecordsModelDurations() throws Exception {
+		// given
+		useStreamServer(List.of(streamChunk("개발도구", false), objectMapper.writeValueAsString(Map.of("response", "",
+				"done", true, "load_duration", 1_000_000_000L, "total_duration", 1_200_000_000L))), 0);
+
+		// when
+		CategorySuggestionResponse response = ollamaService.suggestCategory("IntelliJ", null, CATEGORIES);
+
+		// then
+		assertThat(response.getSuggestedCategory()).isEqualTo("개발");
+		assertThat(meterRegistry.get("ollama.model.load").timer().totalTime(TimeUnit.MILLISECONDS)).isEqualTo(1000);
+		assertThat(meterRegistry.get("ollama.stream.early-exit").timer().count()).isZero();
+	}
+
+	@Test
+	@DisplayName("일괄 추천 - 청크별 JSON 응답을 요청 순서대로 병합")
+	void suggestCategories_Chunked() throws Exception {
+		// given
+		List<CategorySuggestionItem> items = List.of(item("Spring Boot"), item("제주도 여행"), item("JPA 튜닝"));
+
+		server.expect(requestTo(GENERATE_URL)).andExpect(jsonPath("$.format").value("json"))
+				.andRespond(withSuccess(generateResponse(objectMapper.writeValueAsString(Map.of("results",
+						List.of(Map.of("id", 1, "category", "여행"), Map.of("id", 0, "category", "개발"))))),
+						MediaType.APPLICATION_JSON));
+		server.expect(requestTo(GENERATE_URL))
+				.andRespond(withSuccess(
+						generateResponse(objectMapper
+								.writeValueAsString(Map.of("results", List.of(Map.of("id", 0, "category", "음악"))))),
+						MediaType.APPLICATION_JSON));
+
+		// when
+		List<CategorySuggestionResponse> responses = ollamaService.suggestCategories(items, CATEGORIES);
+
+		// then
+		assertThat(responses).extracting(CategorySuggestionResponse::getSuggestedCategory).containsExactly("개발",
+				"여행", null);
+		server.verify();
+	}
+
+	@Test
+	@DisplayName("일괄 추천 - 실패한 청크는 null로 채움")
+	void suggestCategories_ChunkFailure() {
+		// given
+		List<CategorySuggestionItem> items = List.of(item("Spring Boot"));
+		server.expect(requestTo(GENERATE_URL)).andRespond(withServerError());
+
+		// when
+		List<CategorySuggestionResponse> responses = ollamaService.suggestCategories(items, CATEGORIES);
+
+		// then
+		assertThat(responses).hasSize(1);
+		assertThat(responses.get(0).getSuggestedCategory()).isNull();
+	}
+
+	@Test
+	@DisplayName("서킷 브레이커 - 연속 실패 후 OPEN 상태에서는 Ollama를 호출하지 않음")
+	void suggestCategory_CircuitOpen() {
+		// given
+		config.getCircuitBreaker().setFailureThreshold(2);
+		server.expect(ExpectedCount.times(2), requestTo(GENERATE_URL)).andRespond(withServerError());
+
+		// when
+		ollamaService.suggestCategory("A", null, CATEGORIES);
+		ollamaService.suggestCategory("B", null, CATEGORIES);
+		CategorySuggestionResponse rejected = ollamaService.suggestCategory("C", null, CATEGORIES);
+
+		// then
+		assertThat(rejected.getSuggestedCategory()).isNull();
+		assertThat(guard.getState()).isEqualTo(OllamaCallGuard.State.OPEN);
+		server.verify();
+	}
+
+	private void useStreamServer(List<String> chunks, long delayMs) {
+		config.setStream(true);
+		config.setTimeout(5);
+		config.setBaseUrl("http://127.0.0.1:" + streamServer.getAddress().getPort());
+		streamChunks = chunks;
+		chunkDelayMs = delayMs;
+	}
+
+	private CategorySuggestionItem item(String title) {
+		return CategorySuggestionItem.builder().title(title).build();
+	}
+
+	private String streamChunk(String token, boolean done) throws Exception {
+		return objectMapper.writeValueAsString(Map.of("response", token, "done", done));
+	}
+
+	private String generateResponse(String response) throws Exception {
+		return objectMapper.writeValueAsString(Map.of("model", "test-model", "response", response, "done", true));
+	}
+}
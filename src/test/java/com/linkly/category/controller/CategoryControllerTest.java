@@ -197,7 +197,18 @@ class CategoryControllerTest {
 		// when & then
 		mockMvc.perform(delete("/categories/{id}", categoryId)).andDo(print()).andExpect(status().isNoContent());
 
-		then(categoryService).should(times(1)).deleteCategory(categoryId, userId);
+		then(categoryService).should(times(1)).deleteCategory(categoryId, userId, null);
+	}
+
+	@Test
+	@WithMockCustomUser(userId = 1L)
+	@DisplayName("DELETE /categories/{id}?reassignTo= - 북마크를 다른 카테고리로 옮기고 삭제")
+	void deleteCategory_Reassign() throws Exception {
+		// when & then
+		mockMvc.perform(delete("/categories/{id}", 1L).param("reassignTo", "2")).andDo(print())
+				.andExpect(status().isNoContent());
+
+		then(categoryService).should(times(1)).deleteCategory(1L, 1L, 2L);
 	}
 
 	@Test
@@ -210,7 +221,7 @@ class CategoryControllerTest {
 
 		// void 메서드는 doThrow 사용
 		org.mockito.Mockito.doThrow(new InvalidRequestException("해당 카테고리를 삭제할 권한이 없습니다", "categoryId=" + categoryId))
-				.when(categoryService).deleteCategory(categoryId, userId);
+				.when(categoryService).deleteCategory(categoryId, userId, null);
 
 		// when & then
 		mockMvc.perform(delete("/categories/{id}", categoryId)).andDo(print()).andExpect(status().isBadRequest());
@@ -3,7 +3,9 @@ package com.linkly.category.repository;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.linkly.category.CategoryRepository;
+import com.linkly.category.dto.CategorySummaryRow;
 import com.linkly.domain.AppUser;
+import com.linkly.domain.Bookmark;
 import com.linkly.domain.Category;
 import com.linkly.global.config.JpaAuditingConfig;
 import com.linkly.user.AppUserRepository;
@@ -58,6 +60,21 @@ class CategoryRepositoryTest {
 		assertThat(savedCategory.getCreatedAt()).isNotNull();
 	}
 
+	@Test
+	@DisplayName("활성 카테고리의 소유자 ID 만 조회")
+	void findOwnerIdById() {
+		// given
+		Category active = categoryRepository.save(Category.builder().appUser(testUser).name("개발").build());
+		Category deleted = categoryRepository.save(Category.builder().appUser(testUser).name("삭제됨").build());
+		deleted.softDelete();
+		entityManager.flush();
+		entityManager.clear();
+
+		// when & then
+		assertThat(categoryRepository.findOwnerIdById(active.getId())).contains(testUser.getId());
+		assertThat(categoryRepository.findOwnerIdById(deleted.getId())).isEmpty();
+	}
+
 	@Test
 	@DisplayName("사용자와 이름으로 카테고리 조회")
 	void findByAppUserAndName() {
@@ -196,4 +213,36 @@ class CategoryRepositoryTest {
 		assertThat(physicallyExists).isPresent();
 		assertThat(physicallyExists.get().isDeleted()).isTrue();
 	}
+
+	@Test
+	@DisplayName("카테고리별 활성 북마크 수와 마지막 수정일시 집계")
+	void findSummariesByUserId() {
+		// given
+		Category dev = categoryRepository.save(Category.builder().appUser(testUser).name("개발").build());
+		Category empty = categoryRepository.save(Category.builder().appUser(testUser).name("빈 카테고리").build());
+		Category deleted = Category.builder().appUser(testUser).name("삭제됨").build();
+		deleted.softDelete();
+		categoryRepository.save(deleted);
+
+		entityManager.persist(Bookmark.builder().appUser(testUser).category(dev).url("https://example.com/1")
+				.title("북마크1").build());
+		entityManager.persist(Bookmark.builder().appUser(testUser).category(dev).url("https://example.com/2")
+				.title("북마크2").build());
+		Bookmark deletedBookmark = Bookmark.builder().appUser(testUser).category(dev).url("https://example.com/3")
+				.title("북마크3").build();
+		deletedBookmark.softDelete();
+		entityManager.persist(deletedBookmark);
+		entityManager.flush();
+		entityManager.clear();
+
+		// when
+		List<CategorySummaryRow> summaries = categoryRepository.findSummariesByUserId(testUser.getId());
+
+		// then
+		assertThat(summaries).extracting(CategorySummaryRow::getName).containsExactly("개발", "빈 카테고리");
+		assertThat(summaries).extracting(CategorySummaryRow::getBookmarkCount).containsExactly(2L, 0L);
+		assertThat(summaries.get(0).getLastBookmarkUpdatedAt()).isNotNull();
+		assertThat(summaries.get(1).getLastBookmarkUpdatedAt()).isNull();
+		assertThat(summaries.get(1).getId()).isEqualTo(empty.getId());
+	}
 }
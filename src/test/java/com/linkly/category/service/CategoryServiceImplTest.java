@@ -7,9 +7,12 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.*;
 
+import com.linkly.bookmark.BookmarkRepository;
+import com.linkly.bookmark.LocalCategoryClassifier;
 import com.linkly.category.CategoryRepository;
 import com.linkly.category.CategoryServiceImpl;
 import com.linkly.category.dto.CategoryResponse;
+import com.linkly.category.dto.CategorySummaryRow;
 import com.linkly.category.dto.CreateCategoryRequest;
 import com.linkly.category.dto.UpdateCategoryRequest;
 import com.linkly.domain.AppUser;
@@ -17,6 +20,7 @@ import com.linkly.domain.Category;
 import com.linkly.global.exception.InvalidRequestException;
 import com.linkly.global.exception.ResourceNotFoundException;
 import com.linkly.user.AppUserRepository;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -37,6 +41,12 @@ class CategoryServiceImplTest {
 	@Mock
 	private AppUserRepository userRepository;
 
+	@Mock
+	private BookmarkRepository bookmarkRepository;
+
+	@Mock
+	private LocalCategoryClassifier localCategoryClassifier;
+
 	@InjectMocks
 	private CategoryServiceImpl categoryService;
 
@@ -146,13 +156,14 @@ class CategoryServiceImplTest {
 		AppUser user = AppUser.builder().id(userId).email("test@example.com").password("password123").name("테스트")
 				.build();
 
-		Category category1 = Category.builder().id(1L).appUser(user).name("개발").build();
+		LocalDateTime lastUpdatedAt = LocalDateTime.now();
+		CategorySummaryRow category1 = new CategorySummaryRow(1L, user.getId(), "개발", null, null, null, 3L,
+				lastUpdatedAt);
 
-		Category category2 = Category.builder().id(2L).appUser(user).name("디자인").build();
+		CategorySummaryRow category2 = new CategorySummaryRow(2L, user.getId(), "디자인", null, null, null, 0L, null);
 
 		given(userRepository.existsById(userId)).willReturn(true);
-		given(categoryRepository.findAllByAppUser_IdAndDeletedAtIsNull(userId))
-				.willReturn(Arrays.asList(category1, category2));
+		given(categoryRepository.findSummariesByUserId(userId)).willReturn(Arrays.asList(category1, category2));
 
 		// when
 		List<CategoryResponse> responses = categoryService.getCategoriesByUserId(userId);
@@ -160,9 +171,11 @@ class CategoryServiceImplTest {
 		// then
 		assertThat(responses).hasSize(2);
 		assertThat(responses).extracting("name").containsExactlyInAnyOrder("개발", "디자인");
+		assertThat(responses).extracting("bookmarkCount").containsExactly(3L, 0L);
+		assertThat(responses.get(0).getLastBookmarkUpdatedAt()).isEqualTo(lastUpdatedAt);
 
 		then(userRepository).should(times(1)).existsById(userId);
-		then(categoryRepository).should(times(1)).findAllByAppUser_IdAndDeletedAtIsNull(userId);
+		then(categoryRepository).should(times(1)).findSummariesByUserId(userId);
 	}
 
 	@Test
@@ -260,7 +273,7 @@ class CategoryServiceImplTest {
 		given(categoryRepository.findByIdAndDeletedAtIsNull(categoryId)).willReturn(Optional.of(category));
 
 		// when
-		categoryService.deleteCategory(categoryId, userId);
+		categoryService.deleteCategory(categoryId, userId, null);
 
 		// then
 		assertThat(category.getDeletedAt()).isNotNull();
@@ -285,7 +298,82 @@ class CategoryServiceImplTest {
 		given(categoryRepository.findByIdAndDeletedAtIsNull(categoryId)).willReturn(Optional.of(category));
 
 		// when & then
-		assertThatThrownBy(() -> categoryService.deleteCategory(categoryId, anotherUserId))
+		assertThatThrownBy(() -> categoryService.deleteCategory(categoryId, anotherUserId, null))
+				.isInstanceOf(InvalidRequestException.class).hasMessageContaining("권한이 없습니다");
+	}
+
+	@Test
+	@DisplayName("카테고리 삭제 - 소속 북마크를 UPDATE 한 번으로 미분류 처리하고 분류기 캐시 제거")
+	void deleteCategory_DetachesBookmarks() {
+		// given
+		AppUser user = AppUser.builder().id(1L).email("test@example.com").password("password123").name("테스트").build();
+		Category category = Category.builder().id(1L).appUser(user).name("개발").build();
+
+		given(categoryRepository.findByIdAndDeletedAtIsNull(1L)).willReturn(Optional.of(category));
+		given(bookmarkRepository.reassignCategory(eq(1L), isNull(), any(LocalDateTime.class))).willReturn(5000);
+
+		// when
+		categoryService.deleteCategory(1L, 1L, null);
+
+		// then
+		assertThat(category.isDeleted()).isTrue();
+		then(bookmarkRepository).should(times(1)).reassignCategory(eq(1L), isNull(), any(LocalDateTime.class));
+		then(bookmarkRepository).shouldHaveNoMoreInteractions();
+		then(localCategoryClassifier).should(times(1)).invalidate(1L);
+	}
+
+	@Test
+	@DisplayName("카테고리 삭제 - 소속 북마크를 다른 카테고리로 이동")
+	void deleteCategory_ReassignsBookmarks() {
+		// given
+		AppUser user = AppUser.builder().id(1L).email("test@example.com").password("password123").name("테스트").build();
+		Category category = Category.builder().id(1L).appUser(user).name("개발").build();
+		Category target = Category.builder().id(2L).appUser(user).name("기타").build();
+
+		given(categoryRepository.findByIdAndDeletedAtIsNull(1L)).willReturn(Optional.of(category));
+		given(categoryRepository.findByIdAndDeletedAtIsNull(2L)).willReturn(Optional.of(target));
+
+		// when
+		categoryService.deleteCategory(1L, 1L, 2L);
+
+		// then
+		assertThat(category.isDeleted()).isTrue();
+		assertThat(target.isDeleted()).isFalse();
+		then(bookmarkRepository).should(times(1)).reassignCategory(eq(1L), eq(target), any(LocalDateTime.class));
+	}
+
+	@Test
+	@DisplayName("카테고리 삭제 실패 - 다른 사용자의 카테고리로 이동")
+	void deleteCategory_ReassignToOthersCategory() {
+		// given
+		AppUser user = AppUser.builder().id(1L).email("test@example.com").password("password123").name("테스트").build();
+		AppUser anotherUser = AppUser.builder().id(2L).email("other@example.com").password("password123").name("다른")
+				.build();
+		Category category = Category.builder().id(1L).appUser(user).name("개발").build();
+		Category target = Category.builder().id(2L).appUser(anotherUser).name("기타").build();
+
+		given(categoryRepository.findByIdAndDeletedAtIsNull(1L)).willReturn(Optional.of(category));
+		given(categoryRepository.findByIdAndDeletedAtIsNull(2L)).willReturn(Optional.of(target));
+
+		// when & then
+		assertThatThrownBy(() -> categoryService.deleteCategory(1L, 1L, 2L))
 				.isInstanceOf(InvalidRequestException.class).hasMessageContaining("권한이 없습니다");
+		assertThat(category.isDeleted()).isFalse();
+		then(bookmarkRepository).shouldHaveNoInteractions();
+	}
+
+	@Test
+	@DisplayName("카테고리 삭제 실패 - 삭제할 카테고리로 이동")
+	void deleteCategory_ReassignToSelf() {
+		// given
+		AppUser user = AppUser.builder().id(1L).email("test@example.com").password("password123").name("테스트").build();
+		Category category = Category.builder().id(1L).appUser(user).name("개발").build();
+
+		given(categoryRepository.findByIdAndDeletedAtIsNull(1L)).willReturn(Optional.of(category));
+
+		// when & then
+		assertThatThrownBy(() -> categoryService.deleteCategory(1L, 1L, 1L))
+				.isInstanceOf(InvalidRequestException.class);
+		then(bookmarkRepository).shouldHaveNoInteractions();
 	}
 }
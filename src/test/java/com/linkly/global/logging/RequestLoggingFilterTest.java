@@ -0,0 +1,74 @@
+package com.linkly.global.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.linkly.global.config.RequestLoggingProperties;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@DisplayName("RequestLoggingFilter 테스트")
+class RequestLoggingFilterTest {
+
+	private RequestLoggingProperties properties;
+	private RequestLoggingFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		properties = new RequestLoggingProperties();
+		properties.setSampleRate(0.0);
+		properties.setSlowThresholdMs(1000);
+		filter = new RequestLoggingFilter(properties);
+	}
+
+	@Test
+	@DisplayName("정상 응답은 샘플링 비율 0 이면 기록하지 않음")
+	void levelFor_SuccessNotSampled() {
+		assertThat(filter.levelFor(200, 5, "GET /bookmarks")).isNull();
+	}
+
+	@Test
+	@DisplayName("엔드포인트별 샘플링 비율이 기본값보다 우선")
+	void levelFor_EndpointOverride() {
+		// given
+		properties.setEndpoints(Map.of("GET /bookmarks", 1.0));
+
+		// when & then
+		assertThat(filter.levelFor(200, 5, "GET /bookmarks")).isEqualTo(Level.INFO);
+		assertThat(filter.levelFor(200, 5, "GET /categories")).isNull();
+	}
+
+	@Test
+	@DisplayName("4xx/5xx 와 느린 요청은 샘플링과 무관하게 기록")
+	void levelFor_ErrorsAndSlowAlwaysLogged() {
+		assertThat(filter.levelFor(404, 5, "GET /bookmarks/{bookmarkId}")).isEqualTo(Level.WARN);
+		assertThat(filter.levelFor(500, 5, "GET /bookmarks")).isEqualTo(Level.ERROR);
+		assertThat(filter.levelFor(200, 1500, "GET /bookmarks")).isEqualTo(Level.WARN);
+	}
+
+	@Test
+	@DisplayName("필터 체인의 예외는 그대로 전파")
+	void doFilter_RethrowsFailure() {
+		// given
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/bookmarks");
+		MockFilterChain chain = new MockFilterChain(new HttpServlet() {
+			@Override
+			protected void service(HttpServletRequest req, HttpServletResponse res) {
+				throw new IllegalStateException("boom");
+			}
+		});
+
+		// when & then
+		assertThatThrownBy(() -> filter.doFilter(request, new MockHttpServletResponse(), chain))
+				.isInstanceOf(IllegalStateException.class).hasMessage("boom");
+	}
+}
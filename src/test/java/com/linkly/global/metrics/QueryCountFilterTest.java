@@ -0,0 +1,116 @@
+package com.linkly.global.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.linkly.global.config.QueryBudgetProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+@DisplayName("QueryCountFilter / 쿼리 예산 테스트")
+class QueryCountFilterTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final QueryCountInspector inspector = new QueryCountInspector();
+
+	private QueryBudgetProperties properties;
+	private QueryCountFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		properties = new QueryBudgetProperties();
+		properties.setMaxQueries(5);
+		properties.setMaxRepeats(2);
+		filter = new QueryCountFilter(meterRegistry, properties);
+	}
+
+	@Test
+	@DisplayName("요청 중 실행된 SQL 수를 매핑 패턴 태그로 기록")
+	void recordsQueriesPerRequest() throws Exception {
+		// given
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/bookmarks/1");
+
+		// when
+		filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+			req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/bookmarks/{bookmarkId}");
+			inspector.inspect("select * from bookmark where id=?");
+			inspector.inspect("select * from bookmark_tag_map where bookmark_id=?");
+		});
+
+		// then
+		DistributionSummary summary = meterRegistry.get("http.server.requests.queries")
+				.tag("uri", "/bookmarks/{bookmarkId}").tag("method", "GET").summary();
+		assertThat(summary.count()).isEqualTo(1);
+		assertThat(summary.totalAmount()).isEqualTo(2);
+		assertThat(QueryCountContext.current()).isNull();
+	}
+
+	@Test
+	@DisplayName("요청 밖에서 실행된 SQL 은 집계하지 않음")
+	void ignoresQueriesOutsideRequest() {
+		// when & then
+		assertThat(inspector.inspect("select 1")).isEqualTo("select 1");
+		assertThat(QueryCountContext.current()).isNull();
+	}
+
+	@Test
+	@DisplayName("리터럴과 IN 목록 길이가 달라도 같은 형태로 보고 반복을 N+1 로 감지")
+	void detectsRepeatedShape() {
+		// given
+		QueryCountContext context = QueryCountContext.start();
+		try {
+			inspector.inspect("select * from tag where id = 1");
+			inspector.inspect("select * from tag where id = 2");
+			inspector.inspect("select  *  from tag where id = 3");
+			inspector.inspect("select * from bookmark where id in (?, ?)");
+
+			// when
+			String violation = context.checkBudget(properties.getMaxQueries(), properties.getMaxRepeats());
+
+			// then
+			assertThat(context.getMaxRepeats()).isEqualTo(3);
+			assertThat(violation).contains("repeated 3 times").contains("select * from tag where id = ?");
+		} finally {
+			QueryCountContext.end();
+		}
+	}
+
+	@Test
+	@DisplayName("X-Query-Count 헤더를 붙이고 FAIL 모드에서는 예산 초과 시 한 번만 실패")
+	void responseAdvice_HeaderAndFailMode() throws Exception {
+		// given
+		properties.setMode(QueryBudgetProperties.Mode.FAIL);
+		QueryBudgetResponseAdvice advice = new QueryBudgetResponseAdvice(
+				new StaticListableBeanFactory(Map.of("queryBudgetProperties", properties))
+						.getBeanProvider(QueryBudgetProperties.class));
+		MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+		ServletServerHttpResponse response = new ServletServerHttpResponse(servletResponse);
+		ServletServerHttpRequest request = new ServletServerHttpRequest(new MockHttpServletRequest());
+
+		QueryCountContext.start();
+		try {
+			for (int i = 0; i < 6; i++) {
+				inspector.inspect("select * from bookmark_tag_map where bookmark_id = " + i);
+			}
+
+			// when & then
+			assertThatThrownBy(() -> advice.beforeBodyWrite("body", null, null, null, request, response))
+					.isInstanceOf(QueryBudgetExceededException.class);
+			assertThat(advice.beforeBodyWrite("error", null, null, null, request, response)).isEqualTo("error");
+			response.flush();
+			assertThat(servletResponse.getHeader(QueryBudgetResponseAdvice.QUERY_COUNT_HEADER)).isEqualTo("6");
+		} finally {
+			QueryCountContext.end();
+		}
+	}
+}
@@ -0,0 +1,28 @@
+package com.linkly.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("NameCollation 테스트")
+class NameCollationTest {
+
+	@Test
+	@DisplayName("대소문자, 악센트, 전각 문자, 끝 공백이 다른 이름은 같은 키")
+	void foldsWhatUnicodeCiTreatsAsEqual() {
+		assertThat(NameCollation.key("Café")).isEqualTo(NameCollation.key("cafe"));
+		assertThat(NameCollation.key("CAFÉ")).isEqualTo(NameCollation.key("café"));
+		assertThat(NameCollation.key("Ｊａｖａ")).isEqualTo(NameCollation.key("java"));
+		assertThat(NameCollation.key("Straße")).isEqualTo(NameCollation.key("strasse"));
+		assertThat(NameCollation.key("spring  ")).isEqualTo(NameCollation.key("Spring"));
+	}
+
+	@Test
+	@DisplayName("글자가 다르거나 앞 공백이 있는 이름은 다른 키")
+	void keepsDistinctNamesApart() {
+		assertThat(NameCollation.key("java")).isNotEqualTo(NameCollation.key("javascript"));
+		assertThat(NameCollation.key(" java")).isNotEqualTo(NameCollation.key("java"));
+		assertThat(NameCollation.key("자바")).isNotEqualTo(NameCollation.key("자봐"));
+	}
+}
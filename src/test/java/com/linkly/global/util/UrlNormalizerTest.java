@@ -0,0 +1,41 @@
+package com.linkly.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("UrlNormalizer 테스트")
+class UrlNormalizerTest {
+
+	@Test
+	@DisplayName("스킴·호스트 소문자, 기본 포트 제거, 빈 경로는 /")
+	void normalizesSchemeHostPortAndPath() {
+		assertThat(UrlNormalizer.normalize("  HTTPS://Example.COM:443 ")).isEqualTo("https://example.com/");
+		assertThat(UrlNormalizer.normalize("http://example.com.:80/docs?q=1")).isEqualTo("http://example.com/docs?q=1");
+		assertThat(UrlNormalizer.normalize("http://example.com:8080")).isEqualTo("http://example.com:8080/");
+	}
+
+	@Test
+	@DisplayName("경로·쿼리·프래그먼트는 그대로 유지")
+	void keepsPathQueryAndFragment() {
+		assertThat(UrlNormalizer.normalize("https://example.com/Docs/Page?Sort=Asc#Install"))
+				.isEqualTo("https://example.com/Docs/Page?Sort=Asc#Install");
+		assertThat(UrlNormalizer.hash("https://example.com/docs#install"))
+				.isNotEqualTo(UrlNormalizer.hash("https://example.com/docs#usage"));
+	}
+
+	@Test
+	@DisplayName("파싱할 수 없는 URL 은 앞뒤 공백만 제거")
+	void fallsBackToTrimmedInput() {
+		assertThat(UrlNormalizer.normalize(" https://exa mple.com/a ")).isEqualTo("https://exa mple.com/a");
+		assertThat(UrlNormalizer.normalize("mailto:someone@example.com")).isEqualTo("mailto:someone@example.com");
+	}
+
+	@Test
+	@DisplayName("표기만 다른 URL 은 같은 해시")
+	void sameHashForEquivalentUrls() {
+		assertThat(UrlNormalizer.hash("https://Example.com")).isEqualTo(UrlNormalizer.hash("https://example.com:443/"));
+		assertThat(UrlNormalizer.hash("https://example.com/a")).isNotEqualTo(UrlNormalizer.hash("https://example.com/b"));
+	}
+}
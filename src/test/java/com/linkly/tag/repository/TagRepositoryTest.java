@@ -0,0 +1,155 @@
+package com.linkly.tag.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.linkly.domain.AppUser;
+import com.linkly.domain.Bookmark;
+import com.linkly.domain.BookmarkTagMap;
+import com.linkly.domain.Tag;
+import com.linkly.global.config.JpaAuditingConfig;
+import com.linkly.tag.TagRepository;
+import com.linkly.tag.dto.OrphanTagRow;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+@DataJpaTest
+@Import(JpaAuditingConfig.class)
+@DisplayName("TagRepository 테스트")
+class TagRepositoryTest {
+
+	@Autowired
+	private TagRepository tagRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	private AppUser testUser;
+	private Tag java;
+	private Tag spring;
+	private Bookmark bookmark1;
+	private Bookmark bookmark2;
+
+	@BeforeEach
+	void setUp() {
+		testUser = entityManager.persist(
+				AppUser.builder().email("test@example.com").password("password123").name("테스트 사용자").build());
+		java = entityManager.persist(Tag.builder().appUser(testUser).name("Java").usageCount(2).build());
+		spring = entityManager.persist(Tag.builder().appUser(testUser).name("Spring").usageCount(1).build());
+		bookmark1 = entityManager.persist(
+				Bookmark.builder().appUser(testUser).url("https://example.com/1").title("북마크1").build());
+		bookmark2 = entityManager.persist(
+				Bookmark.builder().appUser(testUser).url("https://example.com/2").title("북마크2").build());
+		entityManager.persist(BookmarkTagMap.builder().bookmark(bookmark1).tag(java).build());
+		entityManager.persist(BookmarkTagMap.builder().bookmark(bookmark2).tag(java).build());
+		entityManager.persist(BookmarkTagMap.builder().bookmark(bookmark1).tag(spring).build());
+		entityManager.flush();
+	}
+
+	@Test
+	@DisplayName("사용 횟수 증가")
+	void addUsageCount() {
+		// when
+		tagRepository.addUsageCount(List.of(java.getId(), spring.getId()), 3);
+		entityManager.clear();
+
+		// then
+		assertThat(usageCountOf(java)).isEqualTo(5);
+		assertThat(usageCountOf(spring)).isEqualTo(4);
+	}
+
+	@Test
+	@DisplayName("북마크 매핑 수만큼 사용 횟수 감소")
+	void subtractUsageCountOfBookmarks() {
+		// when
+		int updated = tagRepository.subtractUsageCountOfBookmarks(List.of(bookmark1.getId()));
+		entityManager.clear();
+
+		// then
+		assertThat(updated).isEqualTo(2);
+		assertThat(usageCountOf(java)).isEqualTo(1);
+		assertThat(usageCountOf(spring)).isZero();
+	}
+
+	@Test
+	@DisplayName("특정 태그만 북마크 매핑 수만큼 사용 횟수 감소")
+	void subtractUsageCountOfBookmarksAndTags() {
+		// when
+		tagRepository.subtractUsageCountOfBookmarksAndTags(List.of(bookmark1.getId(), bookmark2.getId()),
+				List.of(java.getId()));
+		entityManager.clear();
+
+		// then
+		assertThat(usageCountOf(java)).isZero();
+		assertThat(usageCountOf(spring)).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("사용 횟수 내림차순 조회")
+	void findAllOrderByUsageCount() {
+		// when
+		List<Tag> tags = tagRepository
+				.findAllByAppUserIdAndDeletedAtIsNullOrderByUsageCountDescNameAsc(testUser.getId());
+
+		// then
+		assertThat(tags).extracting(Tag::getName).containsExactly("Java", "Spring");
+	}
+
+	@Test
+	@DisplayName("매핑이 없는 태그를 ID 순으로 조회하고 여전히 매핑이 없는 태그만 삭제")
+	void findAndDeleteOrphans() {
+		// given
+		Tag orphan1 = entityManager.persist(Tag.builder().appUser(testUser).name("Kotlin").build());
+		Tag orphan2 = entityManager.persist(Tag.builder().appUser(testUser).name("Go").build());
+		entityManager.flush();
+		LocalDateTime createdBefore = LocalDateTime.now().plusMinutes(1);
+
+		// when
+		List<OrphanTagRow> firstPage = tagRepository.findOrphanRows(0L, createdBefore, PageRequest.of(0, 1));
+		List<OrphanTagRow> secondPage = tagRepository.findOrphanRows(firstPage.get(0).getTagId(), createdBefore,
+				PageRequest.of(0, 1));
+
+		// then
+		assertThat(firstPage).extracting(OrphanTagRow::getTagId).containsExactly(orphan1.getId());
+		assertThat(firstPage.get(0).getUserId()).isEqualTo(testUser.getId());
+		assertThat(secondPage).extracting(OrphanTagRow::getTagId).containsExactly(orphan2.getId());
+		assertThat(tagRepository.findOrphanRows(0L, LocalDateTime.now().minusDays(1), PageRequest.of(0, 10)))
+				.isEmpty();
+
+		// when: 매핑이 있는 태그가 섞여 있어도 고아 태그만 삭제
+		int deleted = tagRepository.deleteOrphansByIdIn(List.of(orphan1.getId(), orphan2.getId(), java.getId()));
+		entityManager.clear();
+
+		// then
+		assertThat(deleted).isEqualTo(2);
+		assertThat(tagRepository.findAllByAppUserId(testUser.getId())).extracting(Tag::getName)
+				.containsExactlyInAnyOrder("Java", "Spring");
+	}
+
+	@Test
+	@DisplayName("잠금 조회는 고아 태그 정리로 이미 삭제된 태그를 돌려주지 않음")
+	void findAllForUpdate_SkipsCollectedTags() {
+		// given
+		Tag orphan = entityManager.persist(Tag.builder().appUser(testUser).name("Kotlin").build());
+		entityManager.flush();
+		tagRepository.deleteOrphansByIdIn(List.of(orphan.getId()));
+		entityManager.clear();
+
+		// when & then
+		assertThat(tagRepository.findAllForUpdateByAppUserIdAndNameIn(testUser.getId(), List.of("Java", "Kotlin")))
+				.extracting(Tag::getName).containsExactly("Java");
+		assertThat(tagRepository.findAllForUpdateByIdIn(List.of(java.getId(), spring.getId(), orphan.getId())))
+				.extracting(Tag::getName).containsExactlyInAnyOrder("Java", "Spring");
+	}
+
+	private long usageCountOf(Tag tag) {
+		return tagRepository.findById(tag.getId()).orElseThrow().getUsageCount();
+	}
+}
@@ -0,0 +1,127 @@
+package com.linkly.tag.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.linkly.global.config.TagGcConfig;
+import com.linkly.tag.TagGarbageCollector;
+import com.linkly.tag.TagRepository;
+import com.linkly.tag.TagsChangedEvent;
+import com.linkly.tag.dto.OrphanTagRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TagGarbageCollector 테스트")
+class TagGarbageCollectorTest {
+
+	@Mock
+	private TagRepository tagRepository;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	private TagGcConfig config;
+	private SimpleMeterRegistry meterRegistry;
+	private TagGarbageCollector collector;
+
+	@BeforeEach
+	void setUp() {
+		config = new TagGcConfig();
+		config.setBatchSize(2);
+		config.setPauseMs(0);
+		meterRegistry = new SimpleMeterRegistry();
+		collector = new TagGarbageCollector(tagRepository, transactionTemplate, eventPublisher, config, meterRegistry);
+	}
+
+	@Test
+	@DisplayName("ID 키셋으로 배치마다 삭제하고 사용자별로 태그 변경 이벤트 발행")
+	void collect_DeletesInBatches() {
+		// given
+		runTransactionsInline();
+		given(tagRepository.findOrphanRows(eq(0L), any(), any(Pageable.class)))
+				.willReturn(List.of(new OrphanTagRow(10L, 1L), new OrphanTagRow(11L, 2L)));
+		given(tagRepository.findOrphanRows(eq(11L), any(), any(Pageable.class)))
+				.willReturn(List.of(new OrphanTagRow(15L, 1L)));
+		given(tagRepository.deleteOrphansByIdIn(List.of(10L, 11L))).willReturn(2);
+		given(tagRepository.deleteOrphansByIdIn(List.of(15L))).willReturn(1);
+
+		// when
+		TagGarbageCollector.Result result = collector.collect();
+
+		// then
+		assertThat(result.scanned()).isEqualTo(3);
+		assertThat(result.deleted()).isEqualTo(3);
+		assertThat(result.users()).isEqualTo(2);
+		assertThat(result.batches()).isEqualTo(2);
+		assertThat(result.completed()).isTrue();
+		assertThat(meterRegistry.counter("tag.gc.deleted").count()).isEqualTo(3);
+		then(eventPublisher).should().publishEvent(TagsChangedEvent.tagsDeleted(1L, List.of(10L)));
+		then(eventPublisher).should().publishEvent(TagsChangedEvent.tagsDeleted(2L, List.of(11L)));
+		then(eventPublisher).should().publishEvent(TagsChangedEvent.tagsDeleted(1L, List.of(15L)));
+	}
+
+	@Test
+	@DisplayName("최대 배치 수에 도달하면 남은 태그는 다음 실행으로 넘김")
+	void collect_StopsAtMaxBatches() {
+		// given
+		config.setMaxBatchesPerRun(1);
+		runTransactionsInline();
+		given(tagRepository.findOrphanRows(eq(0L), any(), any(Pageable.class)))
+				.willReturn(List.of(new OrphanTagRow(10L, 1L), new OrphanTagRow(11L, 1L)));
+		given(tagRepository.deleteOrphansByIdIn(List.of(10L, 11L))).willReturn(2);
+
+		// when
+		TagGarbageCollector.Result result = collector.collect();
+
+		// then
+		assertThat(result.deleted()).isEqualTo(2);
+		assertThat(result.completed()).isFalse();
+		then(tagRepository).should(never()).findOrphanRows(eq(11L), any(), any(Pageable.class));
+	}
+
+	@Test
+	@DisplayName("배치 삭제가 실패하면 건너뛰고 다음 배치를 계속 처리")
+	void collect_SkipsFailedBatch() {
+		// given
+		runTransactionsInline();
+		given(tagRepository.findOrphanRows(eq(0L), any(), any(Pageable.class)))
+				.willReturn(List.of(new OrphanTagRow(10L, 1L), new OrphanTagRow(11L, 1L)));
+		given(tagRepository.findOrphanRows(eq(11L), any(), any(Pageable.class))).willReturn(List.of());
+		given(tagRepository.deleteOrphansByIdIn(List.of(10L, 11L)))
+				.willThrow(new DataIntegrityViolationException("fk_map_tag"));
+
+		// when
+		TagGarbageCollector.Result result = collector.collect();
+
+		// then
+		assertThat(result.scanned()).isEqualTo(2);
+		assertThat(result.deleted()).isZero();
+		assertThat(result.completed()).isTrue();
+		then(eventPublisher).shouldHaveNoInteractions();
+	}
+
+	@SuppressWarnings("unchecked")
+	private void runTransactionsInline() {
+		given(transactionTemplate.execute(any())).willAnswer(
+				invocation -> ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+	}
+}
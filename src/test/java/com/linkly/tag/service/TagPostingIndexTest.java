@@ -0,0 +1,85 @@
+package com.linkly.tag.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import com.linkly.bookmark.BookmarkTagMapRepository;
+import com.linkly.bookmark.dto.BookmarkTagIdRow;
+import com.linkly.domain.Tag;
+import com.linkly.tag.TagPostingIndex;
+import com.linkly.tag.TagPostings.Posting;
+import com.linkly.tag.TagRepository;
+import com.linkly.tag.TagsChangedEvent;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TagPostingIndex 테스트")
+class TagPostingIndexTest {
+
+	private static final Long USER_ID = 1L;
+
+	@Mock
+	private TagRepository tagRepository;
+
+	@Mock
+	private BookmarkTagMapRepository bookmarkTagMapRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private TagPostingIndex tagPostingIndex;
+
+	@BeforeEach
+	void setUp() {
+		tagPostingIndex = new TagPostingIndex(tagRepository, bookmarkTagMapRepository, transactionManager, 300, 1000);
+		given(tagRepository.findAllByAppUserIdAndDeletedAtIsNull(USER_ID))
+				.willReturn(List.of(Tag.builder().id(10L).name("Java").build()));
+	}
+
+	@Test
+	@DisplayName("캐시된 색인은 다시 읽지 않고 커밋된 매핑 변경을 반영")
+	void filter_AppliesCommittedChangesToCachedIndex() {
+		// given
+		given(bookmarkTagMapRepository.findIdRowsByUserId(USER_ID)).willReturn(List.of(new BookmarkTagIdRow(1L, 10L)));
+		tagPostingIndex.filter(USER_ID, List.of("java"), List.of(), List.of(), 0, 10);
+
+		// when
+		tagPostingIndex.onTagsChanged(
+				TagsChangedEvent.mappingsAdded(USER_ID, List.of(new Posting(2L, 10L)), Map.of(10L, "Java")));
+		TagPostingIndex.Result result = tagPostingIndex.filter(USER_ID, List.of("java"), List.of(), List.of(), 0, 10);
+
+		// then
+		assertThat(result.bookmarkIds()).containsExactly(2L, 1L);
+		then(bookmarkTagMapRepository).should(times(1)).findIdRowsByUserId(USER_ID);
+	}
+
+	@Test
+	@DisplayName("색인을 만드는 동안 커밋된 변경이 있으면 만든 색인을 캐시하지 않음")
+	void filter_DoesNotCacheBuildRacingWithCommit() {
+		// given: 매핑을 읽은 직후 북마크 2 에 Java 를 붙인 트랜잭션이 커밋됨 (읽은 결과에는 없음)
+		given(bookmarkTagMapRepository.findIdRowsByUserId(USER_ID)).willAnswer(invocation -> {
+			tagPostingIndex.onTagsChanged(
+					TagsChangedEvent.mappingsAdded(USER_ID, List.of(new Posting(2L, 10L)), Map.of(10L, "Java")));
+			return List.of(new BookmarkTagIdRow(1L, 10L));
+		}).willReturn(List.of(new BookmarkTagIdRow(1L, 10L), new BookmarkTagIdRow(2L, 10L)));
+
+		// when
+		TagPostingIndex.Result racing = tagPostingIndex.filter(USER_ID, List.of("java"), List.of(), List.of(), 0, 10);
+		TagPostingIndex.Result next = tagPostingIndex.filter(USER_ID, List.of("java"), List.of(), List.of(), 0, 10);
+
+		// then: 경쟁한 요청만 이전 상태를 보고, 다음 요청은 다시 만들어 새 매핑을 봄
+		assertThat(racing.bookmarkIds()).containsExactly(1L);
+		assertThat(next.bookmarkIds()).containsExactly(2L, 1L);
+		then(bookmarkTagMapRepository).should(times(2)).findIdRowsByUserId(USER_ID);
+	}
+}
@@ -0,0 +1,118 @@
+package com.linkly.tag.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.linkly.tag.TagPostings;
+import com.linkly.tag.TagPostings.Posting;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+@DisplayName("TagPostings 테스트")
+class TagPostingsTest {
+
+	// 1: java, spring / 2: java / 3: spring, jpa / 4: java, spring, deprecated / 5: 태그 없음
+	private final TagPostings postings = TagPostings.build(
+			Map.of(10L, "Java", 20L, "Spring", 30L, "JPA", 40L, "deprecated", 50L, "unused"),
+			List.of(new Posting(1L, 10L), new Posting(1L, 20L), new Posting(2L, 10L), new Posting(3L, 20L),
+					new Posting(3L, 30L), new Posting(4L, 10L), new Posting(4L, 20L), new Posting(4L, 40L)));
+
+	@Test
+	@DisplayName("all 은 교집합 (대소문자 무시)")
+	void match_All() {
+		assertThat(ids(postings.match(List.of("java", "SPRING"), List.of(), List.of()))).containsExactly(4L, 1L);
+	}
+
+	@Test
+	@DisplayName("any 는 합집합, all 과 함께 쓰면 교집합")
+	void match_Any() {
+		assertThat(ids(postings.match(List.of(), List.of("jpa", "java"), List.of()))).containsExactly(4L, 3L, 2L, 1L);
+		assertThat(ids(postings.match(List.of("spring"), List.of("jpa", "deprecated"), List.of())))
+				.containsExactly(4L, 3L);
+	}
+
+	@Test
+	@DisplayName("none 에 해당하는 북마크 제외")
+	void match_None() {
+		assertThat(ids(postings.match(List.of("java"), List.of(), List.of("deprecated", "spring"))))
+				.containsExactly(2L);
+	}
+
+	@Test
+	@DisplayName("없는 태그: all 이면 빈 결과, any·none 이면 무시")
+	void match_UnknownTag() {
+		assertThat(ids(postings.match(List.of("java", "kotlin"), List.of(), List.of()))).isEmpty();
+		assertThat(ids(postings.match(List.of(), List.of("kotlin", "jpa"), List.of("kotlin")))).containsExactly(3L);
+		assertThat(ids(postings.match(List.of("unused"), List.of(), List.of()))).isEmpty();
+	}
+
+	@Test
+	@DisplayName("질의가 색인을 바꾸지 않음")
+	void match_DoesNotMutatePostings() {
+		postings.match(List.of("java"), List.of(), List.of("spring"));
+		postings.match(List.of(), List.of("java"), List.of("deprecated"));
+
+		assertThat(ids(postings.match(List.of("java"), List.of(), List.of()))).containsExactly(4L, 2L, 1L);
+	}
+
+	@Test
+	@DisplayName("all·any 가 모두 비어 있으면 예외")
+	void match_RequiresPositiveTerm() {
+		assertThatThrownBy(() -> postings.match(List.of(), List.of(), List.of("java")))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("페이지는 ID 내림차순으로 offset 부터 limit 개")
+	void page_NewestFirst() {
+		// given
+		Roaring64Bitmap bookmarks = new Roaring64Bitmap();
+		LongStream.rangeClosed(1, 100_000).forEach(bookmarks::addLong);
+
+		// when & then
+		assertThat(TagPostings.page(bookmarks, 0, 3)).containsExactly(100_000L, 99_999L, 99_998L);
+		assertThat(TagPostings.page(bookmarks, 99_998, 5)).containsExactly(2L, 1L);
+		assertThat(TagPostings.page(bookmarks, 200_000, 5)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("apply 는 추가·삭제·분리를 반영한 새 색인을 만들고 기존 색인은 그대로 둠")
+	void apply_AddsAndRemovesMappings() {
+		// when
+		TagPostings updated = postings.apply(List.of(new Posting(5L, 10L), new Posting(1L, 10L)), Map.of(),
+				List.of(new Posting(2L, 10L), new Posting(2L, 30L)), List.of(4L));
+
+		// then
+		assertThat(ids(updated.match(List.of("java"), List.of(), List.of()))).containsExactly(5L, 1L);
+		assertThat(ids(updated.match(List.of(), List.of("spring", "deprecated"), List.of()))).containsExactly(3L, 1L);
+		assertThat(updated.mappingCount()).isEqualTo(5L);
+		assertThat(ids(postings.match(List.of("java"), List.of(), List.of()))).containsExactly(4L, 2L, 1L);
+		assertThat(postings.mappingCount()).isEqualTo(8L);
+	}
+
+	@Test
+	@DisplayName("apply 는 색인을 만든 뒤 생긴 태그를 이름으로 반영")
+	void apply_NewTagWithName() {
+		// when
+		TagPostings updated = postings.apply(List.of(new Posting(2L, 60L)), Map.of(60L, "Kotlin"), List.of(),
+				List.of());
+
+		// then
+		assertThat(ids(updated.match(List.of("KOTLIN"), List.of(), List.of()))).containsExactly(2L);
+		assertThat(ids(updated.match(List.of("unused"), List.of(), List.of()))).isEmpty();
+	}
+
+	@Test
+	@DisplayName("apply 는 이름을 모르는 태그가 추가되면 null (다시 만들어야 함)")
+	void apply_UnknownTagWithoutName() {
+		assertThat(postings.apply(List.of(new Posting(2L, 60L)), Map.of(), List.of(), List.of())).isNull();
+	}
+
+	private static List<Long> ids(Roaring64Bitmap bookmarks) {
+		return TagPostings.page(bookmarks, 0, Integer.MAX_VALUE);
+	}
+}
@@ -0,0 +1,52 @@
+package com.linkly.tag.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.linkly.tag.TagPrefixTrie;
+import com.linkly.tag.TagPrefixTrie.Entry;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TagPrefixTrie 테스트")
+class TagPrefixTrieTest {
+
+	private final TagPrefixTrie trie = TagPrefixTrie.build(List.of(new Entry(1L, "Spring", 5),
+			new Entry(2L, "spring-boot", 12), new Entry(3L, "SQL", 7), new Entry(4L, "스프링", 3),
+			new Entry(5L, "spock", 5)));
+
+	@Test
+	@DisplayName("접두사로 시작하는 태그를 사용 횟수 순으로 반환 (대소문자 무시)")
+	void suggest_ByUsageCount() {
+		// when
+		List<Entry> suggestions = trie.suggest("SP", 10);
+
+		// then: 사용 횟수가 같으면 이름순
+		assertThat(suggestions).extracting(Entry::name).containsExactly("spring-boot", "spock", "Spring");
+	}
+
+	@Test
+	@DisplayName("빈 접두사는 전체 상위 태그, 일치하는 태그가 없으면 빈 목록")
+	void suggest_EmptyAndUnknownPrefix() {
+		assertThat(trie.suggest("", 2)).extracting(Entry::name).containsExactly("spring-boot", "SQL");
+		assertThat(trie.suggest("스", 10)).extracting(Entry::id).containsExactly(4L);
+		assertThat(trie.suggest("kotlin", 10)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("노드별 후보는 최대 MAX_SUGGESTIONS 개")
+	void suggest_LimitedToMaxSuggestions() {
+		// given
+		TagPrefixTrie large = TagPrefixTrie.build(
+				IntStream.range(0, 50).mapToObj(i -> new Entry((long) i, "tag" + i, i)).toList());
+
+		// when
+		List<Entry> suggestions = large.suggest("tag", 100);
+
+		// then
+		assertThat(suggestions).hasSize(TagPrefixTrie.MAX_SUGGESTIONS);
+		assertThat(suggestions.get(0).name()).isEqualTo("tag49");
+		assertThat(large.suggest("tag1", 3)).extracting(Entry::name).containsExactly("tag19", "tag18", "tag17");
+	}
+}